@@ -0,0 +1,12 @@
+package com.epam.springcore.cache;
+
+/**
+ * Point-in-time counters of a {@link TinyLfuCache}.
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount, long size) {
+
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,60 @@
+package com.epam.springcore.cache;
+
+import com.epam.springcore.storage.EntityStorage;
+import com.epam.springcore.storage.StorageListener;
+
+/**
+ * Read-through cache of one {@link EntityStorage}. Every write to the
+ * storage, whether it comes from a DAO, seed loading or recovery, invalidates
+ * the cached entry. A maximum size of zero disables caching and reads go
+ * straight to the storage.
+ */
+public class EntityCache<V> implements StorageListener<V> {
+
+    private final EntityStorage<V> storage;
+    private final TinyLfuCache<String, V> cache;
+    private final ThreadLocal<String> pending = new ThreadLocal<>();
+
+    public EntityCache(EntityStorage<V> storage, long maximumSize) {
+        this.storage = storage;
+        this.cache = maximumSize > 0 ? new TinyLfuCache<>(maximumSize) : null;
+        if (cache != null) {
+            storage.addListener(this);
+        }
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    public V get(String id) {
+        return cache == null ? storage.get(id) : cache.get(id, storage::get);
+    }
+
+    public CacheStats stats() {
+        return cache == null ? new CacheStats(0, 0, 0, 0) : cache.stats();
+    }
+
+    @Override
+    public void onPut(String id, V value) {
+        pending.set(id);
+    }
+
+    @Override
+    public void onRemove(String id, V removed) {
+        pending.set(id);
+    }
+
+    /**
+     * Invalidates once the new value is visible in the storage; doing it
+     * under the entry lock would let a concurrent miss cache the old value.
+     */
+    @Override
+    public void afterWrite() {
+        String id = pending.get();
+        if (id != null) {
+            pending.remove();
+            cache.invalidate(id);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.epam.springcore.cache;
+
+import com.epam.springcore.model.Trainee;
+import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.User;
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Entity caches used by the DAOs' {@code findById}, sized per entity type
+ * through {@code cache.*} properties.
+ */
+@Component
+public class EntityCaches {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityCaches.class);
+
+    private final EntityCache<User> users;
+    private final EntityCache<Trainee> trainees;
+    private final EntityCache<Trainer> trainers;
+    private final EntityCache<Training> trainings;
+
+    @Autowired
+    public EntityCaches(@Value("${cache.enabled:true}") boolean enabled,
+                        @Value("${cache.users.maximum-size:10000}") long usersSize,
+                        @Value("${cache.trainees.maximum-size:10000}") long traineesSize,
+                        @Value("${cache.trainers.maximum-size:10000}") long trainersSize,
+                        @Value("${cache.trainings.maximum-size:10000}") long trainingsSize,
+                        UserStorage userStorage,
+                        TraineeStorage traineeStorage,
+                        TrainerStorage trainerStorage,
+                        TrainingStorage trainingStorage) {
+        users = new EntityCache<>(userStorage, enabled ? usersSize : 0);
+        trainees = new EntityCache<>(traineeStorage, enabled ? traineesSize : 0);
+        trainers = new EntityCache<>(trainerStorage, enabled ? trainersSize : 0);
+        trainings = new EntityCache<>(trainingStorage, enabled ? trainingsSize : 0);
+    }
+
+    public EntityCache<User> users() {
+        return users;
+    }
+
+    public EntityCache<Trainee> trainees() {
+        return trainees;
+    }
+
+    public EntityCache<Trainer> trainers() {
+        return trainers;
+    }
+
+    public EntityCache<Training> trainings() {
+        return trainings;
+    }
+
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("users", users.stats());
+        stats.put("trainees", trainees.stats());
+        stats.put("trainers", trainers.stats());
+        stats.put("trainings", trainings.stats());
+        return stats;
+    }
+
+    @PreDestroy
+    public void logStats() {
+        stats().forEach((name, stats) -> {
+            if (stats.hitCount() + stats.missCount() > 0) {
+                log.info("Cache {}: {} hits, {} misses ({}% hit rate), {} evictions, {} entries", name,
+                        stats.hitCount(), stats.missCount(), Math.round(stats.hitRate() * 100),
+                        stats.evictionCount(), stats.size());
+            }
+        });
+    }
+}
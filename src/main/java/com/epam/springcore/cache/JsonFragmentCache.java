@@ -0,0 +1,75 @@
+package com.epam.springcore.cache;
+
+import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.dto.TrainingDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * UTF-8 JSON of trainee, trainer and training DTOs, keyed by id and tagged
+ * with the DTO's version. Versions grow with every change of the underlying
+ * entities, so a fragment is served only while the version matches and a
+ * DTO of a newer version simply replaces it. Other objects are not cached.
+ */
+public class JsonFragmentCache {
+
+    private final ObjectWriter writer;
+    private final TinyLfuCache<Key, Fragment> cache;
+
+    public JsonFragmentCache(ObjectWriter writer, long maximumSize) {
+        this.writer = writer;
+        this.cache = maximumSize > 0 ? new TinyLfuCache<>(maximumSize) : null;
+    }
+
+    public boolean isCacheable(Object value) {
+        return cache != null
+                && (value instanceof TraineeDto || value instanceof TrainerDto || value instanceof TrainingDto);
+    }
+
+    /**
+     * Returns the JSON of a value accepted by {@link #isCacheable}. The
+     * array is shared and must not be modified.
+     */
+    public byte[] get(Object dto) throws JsonProcessingException {
+        Key key = keyOf(dto);
+        long version = versionOf(dto);
+        Fragment fragment = cache.getIfPresent(key);
+        if (fragment != null && fragment.version() == version) {
+            return fragment.json();
+        }
+        byte[] json = writer.writeValueAsBytes(dto);
+        cache.put(key, new Fragment(version, json));
+        return json;
+    }
+
+    public CacheStats stats() {
+        return cache == null ? new CacheStats(0, 0, 0, 0) : cache.stats();
+    }
+
+    private static Key keyOf(Object dto) {
+        if (dto instanceof TraineeDto trainee) {
+            return new Key(TraineeDto.class, trainee.getId());
+        }
+        if (dto instanceof TrainerDto trainer) {
+            return new Key(TrainerDto.class, trainer.getId());
+        }
+        return new Key(TrainingDto.class, ((TrainingDto) dto).getId());
+    }
+
+    private static long versionOf(Object dto) {
+        if (dto instanceof TraineeDto trainee) {
+            return trainee.getVersion();
+        }
+        if (dto instanceof TrainerDto trainer) {
+            return trainer.getVersion();
+        }
+        return ((TrainingDto) dto).getVersion();
+    }
+
+    private record Key(Class<?> type, String id) {
+    }
+
+    private record Fragment(long version, byte[] json) {
+    }
+}
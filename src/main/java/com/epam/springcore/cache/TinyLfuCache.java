@@ -0,0 +1,333 @@
+package com.epam.springcore.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded concurrent cache with W-TinyLFU eviction. New entries enter a small
+ * LRU window; entries leaving the window only replace the eldest entry of the
+ * main segment if the {@link FrequencySketch} says they are requested more
+ * often. The main segment is a segmented LRU (probation and protected), so
+ * entries hit twice survive scans of one-off keys.
+ *
+ * <p>Lookups go straight to a {@link ConcurrentHashMap}. The eviction policy
+ * is guarded by one lock that reads only try to take: under contention a
+ * read is not recorded, which slightly blurs recency and frequency but never
+ * blocks a reader.
+ *
+ * <p>{@link #get(Object, Function)} does not cache a loaded value if the key
+ * was invalidated while it was being loaded, so an invalidation issued after
+ * the source changed cannot be undone by a slow load of the old value.
+ */
+public class TinyLfuCache<K, V> {
+
+    private static final int STAMP_STRIPES = 64;
+
+    private final long maximumSize;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TinyLfuCache(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 80 / 100;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    /**
+     * Returns the cached value, loading and caching it on a miss. Null
+     * results are not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            hits.increment();
+            afterRead(node);
+            return node.value;
+        }
+        misses.increment();
+        int stripe = stripe(key);
+        long stamp = stamps.get(stripe);
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+
+        Object[] added = new Object[1];
+        Node<K, V> current = data.compute(key, (k, existing) -> {
+            if (existing != null || stamps.get(stripe) != stamp) {
+                return existing;
+            }
+            Node<K, V> created = new Node<>(k, value);
+            added[0] = created;
+            return created;
+        });
+        if (added[0] != null) {
+            afterAdd(current);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        Object[] added = new Object[1];
+        Node<K, V> node = data.compute(key, (k, existing) -> {
+            if (existing != null) {
+                existing.value = value;
+                return existing;
+            }
+            Node<K, V> created = new Node<>(k, value);
+            added[0] = created;
+            return created;
+        });
+        if (added[0] != null) {
+            afterAdd(node);
+        } else {
+            afterRead(node);
+        }
+    }
+
+    public void invalidate(K key) {
+        Object[] removed = new Object[1];
+        data.compute(key, (k, existing) -> {
+            stamps.incrementAndGet(stripe(k));
+            if (existing != null) {
+                existing.alive = false;
+                removed[0] = existing;
+            }
+            return null;
+        });
+        if (removed[0] != null) {
+            policyLock.lock();
+            try {
+                unlink(cast(removed[0]));
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        for (K key : data.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    public long estimatedSize() {
+        return data.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), data.size());
+    }
+
+    private void afterRead(Node<K, V> node) {
+        if (!policyLock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(node.key);
+            if (node.alive && node.queue != null) {
+                onAccess(node);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void afterAdd(Node<K, V> node) {
+        policyLock.lock();
+        try {
+            sketch.increment(node.key);
+            // skip nodes invalidated before they could be linked
+            if (node.alive && node.queue == null) {
+                window.addLast(node, Queue.WINDOW);
+                evict();
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> window.moveToBack(node);
+            case PROBATION -> {
+                probation.remove(node);
+                protectedSegment.addLast(node, Queue.PROTECTED);
+                while (protectedSegment.size() > protectedMaximum) {
+                    probation.addLast(protectedSegment.pollFirst(), Queue.PROBATION);
+                }
+            }
+            case PROTECTED -> protectedSegment.moveToBack(node);
+        }
+    }
+
+    /**
+     * Moves window overflow into probation and, while the cache is too big,
+     * lets the newest probation entry (the admission candidate) compete with
+     * the eldest one (the victim); the less frequent of the two is dropped.
+     */
+    private void evict() {
+        while (window.size() > windowMaximum) {
+            probation.addLast(window.pollFirst(), Queue.PROBATION);
+        }
+        while (linkedSize() > maximumSize) {
+            Node<K, V> victim = probation.peekFirst();
+            Node<K, V> candidate = probation.peekLast();
+            Node<K, V> evicted;
+            if (victim == null) {
+                evicted = protectedSegment.size() > 0 ? protectedSegment.peekFirst() : window.peekFirst();
+            } else if (victim == candidate) {
+                evicted = victim;
+            } else {
+                evicted = sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+            }
+            evict(evicted);
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        unlink(node);
+        node.alive = false;
+        data.remove(node.key, node);
+        evictions.increment();
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.queue == null) {
+            return;
+        }
+        switch (node.queue) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            default -> protectedSegment.remove(node);
+        }
+    }
+
+    private long linkedSize() {
+        return (long) window.size() + probation.size() + protectedSegment.size();
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STAMP_STRIPES - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> cast(Object node) {
+        return (Node<K, V>) node;
+    }
+
+    private enum Queue {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private volatile boolean alive = true;
+        private Queue queue;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Intrusive doubly linked list, eldest first. Guarded by the policy lock.
+     */
+    private static final class AccessOrderDeque<K, V> {
+
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        Node<K, V> peekFirst() {
+            return head;
+        }
+
+        Node<K, V> peekLast() {
+            return tail;
+        }
+
+        void addLast(Node<K, V> node, Queue queue) {
+            node.queue = queue;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> first = head;
+            remove(first);
+            return first;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                Queue queue = node.queue;
+                remove(node);
+                addLast(node, queue);
+            }
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.queue = null;
+            size--;
+        }
+    }
+}
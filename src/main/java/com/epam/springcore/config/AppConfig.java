@@ -1,12 +1,19 @@
 package com.epam.springcore.config;
 
+import com.epam.springcore.web.FragmentJsonHttpMessageConverter;
+import com.epam.springcore.web.VirtualThreadFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import java.util.List;
@@ -17,11 +24,67 @@ import java.util.List;
 @PropertySource("classpath:application.properties")
 public class AppConfig implements WebMvcConfigurer {
 
+    @Value("${mvc.async.pool-size:8}")
+    private int asyncPoolSize;
+
+    @Value("${mvc.async.queue-capacity:100}")
+    private int asyncQueueCapacity;
+
+    @Value("${service.async.pool-size:16}")
+    private int serviceAsyncPoolSize;
+
+    @Value("${mvc.virtual-threads.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${json-cache.maximum-size:10000}")
+    private long jsonCacheSize;
+
     @Override
     public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
-        converters.add(new MappingJackson2HttpMessageConverter(mapper));
+        converters.add(new FragmentJsonHttpMessageConverter(mapper, jsonCacheSize));
      }
 
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(virtualThreads ? VirtualThreadFilter.virtualThreads() : mvcAsyncExecutor());
+    }
+
+    // runs streaming responses such as the NDJSON exports; once the queue is full new ones are
+    // rejected (the default abort policy) and answered with 503 by GlobalExceptionHandler
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncPoolSize);
+        executor.setMaxPoolSize(asyncPoolSize);
+        executor.setQueueCapacity(asyncQueueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        return executor;
+    }
+
+    // runs the CompletableFuture-based async services
+    @Bean
+    public AsyncTaskExecutor serviceExecutor() {
+        if (virtualThreads) {
+            return VirtualThreadFilter.virtualThreads();
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(serviceAsyncPoolSize);
+        executor.setMaxPoolSize(serviceAsyncPoolSize);
+        executor.setThreadNamePrefix("service-async-");
+        return executor;
+    }
+
+    // shared by @Valid request bodies and the per-item validation of bulk requests
+    @Bean
+    public LocalValidatorFactoryBean validator() {
+        return new LocalValidatorFactoryBean();
+    }
+
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        return validator();
+    }
+
 }
@@ -20,4 +20,36 @@ public class Constant {
     // Training endpoint
     public static final String API_TRAINING = "/training";
 
+    // Search sub-endpoint
+    public static final String API_SEARCH = "/search";
+
+    public static final int DEFAULT_SEARCH_LIMIT = 10;
+
+    // Keyset pagination sub-endpoint
+    public static final String API_PAGE = "/page";
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // NDJSON export sub-endpoint
+    public static final String API_EXPORT = "/export";
+
+    // Trainer availability sub-endpoint
+    public static final String API_AVAILABLE = "/available";
+
+    // Training start range sub-endpoint
+    public static final String API_RANGE = "/range";
+
+    // Monthly trainer minutes sub-endpoint
+    public static final String API_MINUTES = "/minutes";
+
+    // Bulk create sub-endpoint
+    public static final String API_BATCH = "/batch";
+
+    public static final int MAX_BATCH_SIZE = 100_000;
+
+    // Non-blocking (DeferredResult) sub-endpoint
+    public static final String API_ASYNC = "/async";
+
 }
@@ -1,8 +1,15 @@
 package com.epam.springcore.controller;
 
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
 import com.epam.springcore.dto.TraineeDto;
 import com.epam.springcore.request.create.CreateTraineeRequest;
+import com.epam.springcore.service.ITraineeAsyncService;
 import com.epam.springcore.service.ITraineeService;
+import com.epam.springcore.util.DeferredResults;
+import com.epam.springcore.util.ETags;
+import com.epam.springcore.util.NdjsonWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,8 +17,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,11 +38,23 @@ import static com.epam.springcore.constants.Constant.*;
 public class TraineeController {
 
     private final ITraineeService traineeService;
+    private NdjsonWriter ndjsonWriter;
+    private ITraineeAsyncService traineeAsyncService;
 
     public TraineeController(ITraineeService traineeService) {
         this.traineeService = traineeService;
     }
 
+    @Autowired
+    public void setNdjsonWriter(NdjsonWriter ndjsonWriter) {
+        this.ndjsonWriter = ndjsonWriter;
+    }
+
+    @Autowired
+    public void setTraineeAsyncService(ITraineeAsyncService traineeAsyncService) {
+        this.traineeAsyncService = traineeAsyncService;
+    }
+
     @Operation(summary = "Create Trainee", description = "Create a new Trainee")
     @ApiResponses(
             @ApiResponse(
@@ -41,6 +67,20 @@ public class TraineeController {
     public TraineeDto createTrainee(@RequestBody @Valid CreateTraineeRequest request) {
         return traineeService.createTrainee(request);
     }
+
+    @Operation(summary = "Create Trainees in Bulk", description = "Create up to " + MAX_BATCH_SIZE + " trainees in one request; invalid items are reported per item")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = BatchResultDto.class),
+                            mediaType = "application/json")))
+    @PostMapping(API_BATCH)
+    @ResponseStatus(HttpStatus.OK)
+    public BatchResultDto<TraineeDto> createTrainees(@RequestBody List<CreateTraineeRequest> requests) {
+        return traineeService.createTrainees(requests);
+    }
     @ApiResponses(
             @ApiResponse(
                     responseCode = "200",
@@ -50,9 +90,9 @@ public class TraineeController {
                             mediaType = "application/json")))
     @Operation(summary = "Get Trainee by ID", description = "Retrieve a Trainee by ID")
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TraineeDto getTrainee(@PathVariable String id) {
-        return traineeService.getTrainee(id);
+    public ResponseEntity<TraineeDto> getTrainee(@PathVariable String id, WebRequest request) {
+        TraineeDto trainee = traineeService.getTrainee(id);
+        return ETags.conditional(request, ETags.of(trainee.getVersion()), -1, () -> trainee);
     }
 
     @Operation(summary = "List All Trainees", description = "Get all trainees")
@@ -64,12 +104,62 @@ public class TraineeController {
                             schema = @Schema(implementation = TraineeDto.class),
                             mediaType = "application/json")))
     @GetMapping
+    public ResponseEntity<List<TraineeDto>> getAllTrainees(WebRequest request) {
+        RevisionDto revision = traineeService.getTraineesRevision();
+        return ETags.conditional(request, ETags.of(revision.getRevision()), revision.getLastModified(),
+                traineeService::getAllTrainees);
+    }
+
+    @Operation(summary = "Page Trainees", description = "Get trainees ordered by ID, one page at a time")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = PageDto.class),
+                            mediaType = "application/json")))
+    @GetMapping(API_PAGE)
+    public ResponseEntity<PageDto<TraineeDto>> getTraineePage(@RequestParam(required = false) String after,
+                                                              @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                                              WebRequest request) {
+        RevisionDto revision = traineeService.getTraineesRevision();
+        return ETags.conditional(request, ETags.of(revision.getRevision()), revision.getLastModified(),
+                () -> traineeService.getTraineePage(after, limit));
+    }
+
+    @Operation(summary = "Search Trainees", description = "Find trainees by partial or misspelled first name, last name or username. "
+            + "At most 10,000 candidate users are checked, so fewer than limit results may be returned "
+            + "when matches are rare among very common names")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = TraineeDto.class),
+                            mediaType = "application/json")))
+    @GetMapping(API_SEARCH)
     @ResponseStatus(HttpStatus.OK)
-    public List<TraineeDto> getAllTrainees() {
-        return traineeService.getAllTrainees();
+    public List<TraineeDto> searchTrainees(@RequestParam String q,
+                                         @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit) {
+        return traineeService.searchTrainees(q, limit);
+    }
+
+    @Operation(summary = "Export Trainees", description = "Stream all trainees as newline-delimited JSON")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = TraineeDto.class),
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE)))
+    @GetMapping(value = API_EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTrainees() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> ndjsonWriter.write(traineeService.streamTrainees(), out));
     }
 
-    @Operation(summary = "Update Trainee", description = "Update trainee details")
+    @Operation(summary = "Update Trainee", description = "Update trainee details; send the ETag in If-Match to reject the update if the trainee changed meanwhile")
     @ApiResponses(
             @ApiResponse(
                     responseCode = "200",
@@ -78,9 +168,37 @@ public class TraineeController {
                             schema = @Schema(implementation = TraineeDto.class),
                             mediaType = "application/json")))
     @PutMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TraineeDto updateTrainee(@PathVariable String id, @RequestBody @Valid CreateTraineeRequest request) {
-        return traineeService.updateTrainee(id, request);
+    public ResponseEntity<TraineeDto> updateTrainee(@PathVariable String id, @RequestBody @Valid CreateTraineeRequest request,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TraineeDto updated = traineeService.updateTrainee(id, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(updated);
+    }
+
+    @Operation(summary = "Create Trainee Asynchronously", description = "Create a new Trainee without holding a request thread while it is saved")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Created",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TraineeDto.class))))
+    @PostMapping(API_ASYNC)
+    public DeferredResult<ResponseEntity<TraineeDto>> createTraineeAsync(@RequestBody @Valid CreateTraineeRequest request) {
+        return DeferredResults.of(traineeAsyncService.createTrainee(request)
+                .thenApply(created -> ResponseEntity.status(HttpStatus.CREATED).body(created)));
+    }
+
+    @Operation(summary = "Get Trainee by ID Asynchronously", description = "Retrieve a Trainee by ID without holding a request thread while it is loaded")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = TraineeDto.class),
+                            mediaType = "application/json")))
+    @GetMapping(API_ASYNC + "/{id}")
+    public DeferredResult<ResponseEntity<TraineeDto>> getTraineeAsync(@PathVariable String id) {
+        return DeferredResults.of(traineeAsyncService.getTrainee(id)
+                .thenApply(found -> ResponseEntity.ok().eTag(ETags.of(found.getVersion())).body(found)));
     }
 
     @Operation(summary = "Delete Trainee", description = "Delete a trainee by ID")
@@ -1,8 +1,15 @@
 package com.epam.springcore.controller;
 
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
 import com.epam.springcore.dto.TrainerDto;
 import com.epam.springcore.request.create.CreateTrainerRequest;
+import com.epam.springcore.service.ITrainerAsyncService;
 import com.epam.springcore.service.ITrainerService;
+import com.epam.springcore.util.DeferredResults;
+import com.epam.springcore.util.ETags;
+import com.epam.springcore.util.NdjsonWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -11,8 +18,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,11 +37,24 @@ import static com.epam.springcore.constants.Constant.*;
 public class TrainerController {
 
     private final ITrainerService trainerService;
+    private NdjsonWriter ndjsonWriter;
+    private ITrainerAsyncService trainerAsyncService;
+
     @Autowired
     public TrainerController(ITrainerService trainerService) {
         this.trainerService = trainerService;
     }
 
+    @Autowired
+    public void setNdjsonWriter(NdjsonWriter ndjsonWriter) {
+        this.ndjsonWriter = ndjsonWriter;
+    }
+
+    @Autowired
+    public void setTrainerAsyncService(ITrainerAsyncService trainerAsyncService) {
+        this.trainerAsyncService = trainerAsyncService;
+    }
+
     @Operation(summary = "Create Trainer", description = "Create a new Trainer")
     @ApiResponses(
             @ApiResponse(
@@ -42,6 +68,20 @@ public class TrainerController {
         return trainerService.createTrainer(request);
     }
 
+    @Operation(summary = "Create Trainers in Bulk", description = "Create up to " + MAX_BATCH_SIZE + " trainers in one request; invalid items are reported per item")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = BatchResultDto.class),
+                            mediaType = "application/json")))
+    @PostMapping(API_BATCH)
+    @ResponseStatus(HttpStatus.OK)
+    public BatchResultDto<TrainerDto> createTrainers(@RequestBody List<CreateTrainerRequest> requests) {
+        return trainerService.createTrainers(requests);
+    }
+
     @Operation(summary = "Get Trainer by ID", description = "Retrieve a Trainer by ID")
     @ApiResponses(
             @ApiResponse(
@@ -50,9 +90,9 @@ public class TrainerController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TrainerDto.class))))
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TrainerDto getTrainer(@PathVariable String id) {
-        return trainerService.getTrainer(id);
+    public ResponseEntity<TrainerDto> getTrainer(@PathVariable String id, WebRequest request) {
+        TrainerDto trainer = trainerService.getTrainer(id);
+        return ETags.conditional(request, ETags.of(trainer.getVersion()), -1, () -> trainer);
     }
 
     @Operation(summary = "List All Trainers", description = "Get all trainers")
@@ -63,12 +103,79 @@ public class TrainerController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TrainerDto.class))))
     @GetMapping
+    public ResponseEntity<List<TrainerDto>> getAllTrainers(WebRequest request) {
+        RevisionDto revision = trainerService.getTrainersRevision();
+        return ETags.conditional(request, ETags.of(revision.getRevision()), revision.getLastModified(),
+                trainerService::getAllTrainers);
+    }
+
+    @Operation(summary = "Page Trainers", description = "Get trainers ordered by ID, one page at a time")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = PageDto.class),
+                            mediaType = "application/json")))
+    @GetMapping(API_PAGE)
+    public ResponseEntity<PageDto<TrainerDto>> getTrainerPage(@RequestParam(required = false) String after,
+                                                              @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                                              WebRequest request) {
+        RevisionDto revision = trainerService.getTrainersRevision();
+        return ETags.conditional(request, ETags.of(revision.getRevision()), revision.getLastModified(),
+                () -> trainerService.getTrainerPage(after, limit));
+    }
+
+    @Operation(summary = "Search Trainers", description = "Find trainers by partial or misspelled first name, last name or username. "
+            + "At most 10,000 candidate users are checked, so fewer than limit results may be returned "
+            + "when matches are rare among very common names")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = TrainerDto.class),
+                            mediaType = "application/json")))
+    @GetMapping(API_SEARCH)
     @ResponseStatus(HttpStatus.OK)
-    public List<TrainerDto> getAllTrainers() {
-        return trainerService.getAllTrainers();
+    public List<TrainerDto> searchTrainers(@RequestParam String q,
+                                         @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit) {
+        return trainerService.searchTrainers(q, limit);
     }
 
-    @Operation(summary = "Update Trainer", description = "Update trainer details")
+    @Operation(summary = "Export Trainers", description = "Stream all trainers as newline-delimited JSON")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = TrainerDto.class),
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE)))
+    @GetMapping(value = API_EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTrainers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> ndjsonWriter.write(trainerService.streamTrainers(), out));
+    }
+
+    @Operation(summary = "Find Available Trainers",
+            description = "Get the trainers of a specialization with no training in the slot [from, to)")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = TrainerDto.class),
+                            mediaType = "application/json")))
+    @GetMapping(API_AVAILABLE)
+    @ResponseStatus(HttpStatus.OK)
+    public List<TrainerDto> getAvailableTrainers(@RequestParam String specialization,
+                                                 @RequestParam String from,
+                                                 @RequestParam String to) {
+        return trainerService.findAvailableTrainers(specialization, from, to);
+    }
+
+    @Operation(summary = "Update Trainer", description = "Update trainer details; send the ETag in If-Match to reject the update if the trainer changed meanwhile")
     @ApiResponses(
             @ApiResponse(
                     responseCode = "200",
@@ -76,9 +183,37 @@ public class TrainerController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TrainerDto.class))))
     @PutMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TrainerDto updateTrainer(@PathVariable String id, @RequestBody @Valid CreateTrainerRequest request) {
-        return trainerService.updateTrainer(id, request);
+    public ResponseEntity<TrainerDto> updateTrainer(@PathVariable String id, @RequestBody @Valid CreateTrainerRequest request,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TrainerDto updated = trainerService.updateTrainer(id, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(updated);
+    }
+
+    @Operation(summary = "Create Trainer Asynchronously", description = "Create a new Trainer without holding a request thread while it is saved")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Created",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TrainerDto.class))))
+    @PostMapping(API_ASYNC)
+    public DeferredResult<ResponseEntity<TrainerDto>> createTrainerAsync(@RequestBody @Valid CreateTrainerRequest request) {
+        return DeferredResults.of(trainerAsyncService.createTrainer(request)
+                .thenApply(created -> ResponseEntity.status(HttpStatus.CREATED).body(created)));
+    }
+
+    @Operation(summary = "Get Trainer by ID Asynchronously", description = "Retrieve a Trainer by ID without holding a request thread while it is loaded")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = TrainerDto.class),
+                            mediaType = "application/json")))
+    @GetMapping(API_ASYNC + "/{id}")
+    public DeferredResult<ResponseEntity<TrainerDto>> getTrainerAsync(@PathVariable String id) {
+        return DeferredResults.of(trainerAsyncService.getTrainer(id)
+                .thenApply(found -> ResponseEntity.ok().eTag(ETags.of(found.getVersion())).body(found)));
     }
 
     @Operation(summary = "Delete Trainer", description = "Delete a trainer by ID")
@@ -1,8 +1,16 @@
 package com.epam.springcore.controller;
 
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
+import com.epam.springcore.dto.TrainerMinutesDto;
 import com.epam.springcore.dto.TrainingDto;
 import com.epam.springcore.request.create.CreateTrainingRequest;
+import com.epam.springcore.service.ITrainingAsyncService;
 import com.epam.springcore.service.ITrainingService;
+import com.epam.springcore.util.DeferredResults;
+import com.epam.springcore.util.ETags;
+import com.epam.springcore.util.NdjsonWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,8 +18,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,11 +38,23 @@ import static com.epam.springcore.constants.Constant.*;
 public class TrainingController {
 
     private final ITrainingService trainingService;
+    private NdjsonWriter ndjsonWriter;
+    private ITrainingAsyncService trainingAsyncService;
 
     public TrainingController(ITrainingService trainingService) {
         this.trainingService = trainingService;
     }
 
+    @Autowired
+    public void setNdjsonWriter(NdjsonWriter ndjsonWriter) {
+        this.ndjsonWriter = ndjsonWriter;
+    }
+
+    @Autowired
+    public void setTrainingAsyncService(ITrainingAsyncService trainingAsyncService) {
+        this.trainingAsyncService = trainingAsyncService;
+    }
+
     @Operation(summary = "Create Training", description = "Create a new Training")
     @ApiResponses(
             @ApiResponse(
@@ -41,6 +68,20 @@ public class TrainingController {
         return trainingService.createTraining(request);
     }
 
+    @Operation(summary = "Create Trainings in Bulk", description = "Create up to " + MAX_BATCH_SIZE + " trainings in one request; invalid items are reported per item")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = BatchResultDto.class),
+                            mediaType = "application/json")))
+    @PostMapping(API_BATCH)
+    @ResponseStatus(HttpStatus.OK)
+    public BatchResultDto<TrainingDto> createTrainings(@RequestBody List<CreateTrainingRequest> requests) {
+        return trainingService.createTrainings(requests);
+    }
+
     @Operation(summary = "Get Training by ID", description = "Retrieve a Training by ID")
     @ApiResponses(
             @ApiResponse(
@@ -49,9 +90,9 @@ public class TrainingController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TrainingDto.class))))
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TrainingDto getTraining(@PathVariable String id) {
-        return trainingService.getTraining(id);
+    public ResponseEntity<TrainingDto> getTraining(@PathVariable String id, WebRequest request) {
+        TrainingDto training = trainingService.getTraining(id);
+        return ETags.conditional(request, ETags.of(training.getVersion()), -1, () -> training);
     }
 
     @Operation(summary = "List All Trainings", description = "Get all trainings")
@@ -62,22 +103,127 @@ public class TrainingController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TrainingDto.class))))
     @GetMapping
+    public ResponseEntity<List<TrainingDto>> getAllTrainings(WebRequest request) {
+        RevisionDto revision = trainingService.getTrainingsRevision();
+        return ETags.conditional(request, ETags.of(revision.getRevision()), revision.getLastModified(),
+                trainingService::getAllTrainings);
+    }
+
+    @Operation(summary = "Page Trainings", description = "Get trainings ordered by ID, one page at a time")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = PageDto.class),
+                            mediaType = "application/json")))
+    @GetMapping(API_PAGE)
+    public ResponseEntity<PageDto<TrainingDto>> getTrainingPage(@RequestParam(required = false) String after,
+                                                                @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                                                WebRequest request) {
+        RevisionDto revision = trainingService.getTrainingsRevision();
+        return ETags.conditional(request, ETags.of(revision.getRevision()), revision.getLastModified(),
+                () -> trainingService.getTrainingPage(after, limit));
+    }
+
+    @Operation(summary = "Export Trainings", description = "Stream all trainings as newline-delimited JSON")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = TrainingDto.class),
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE)))
+    @GetMapping(value = API_EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTrainings() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> ndjsonWriter.write(trainingService.streamTrainings(), out));
+    }
+
+    @Operation(summary = "Search Trainings", description = "Find trainings by trainee, trainer, date and type")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TrainingDto.class))))
+    @GetMapping(API_SEARCH)
     @ResponseStatus(HttpStatus.OK)
-    public List<TrainingDto> getAllTrainings() {
-        return trainingService.getAllTrainings();
+    public List<TrainingDto> searchTrainings(@RequestParam(required = false) String traineeId,
+                                             @RequestParam(required = false) String trainerId,
+                                             @RequestParam(required = false) String date,
+                                             @RequestParam(required = false) String type) {
+        return trainingService.searchTrainings(traineeId, trainerId, date, type);
     }
 
-    @Operation(summary = "Update Training", description = "Update training details")
+    @Operation(summary = "Trainings in Range", description = "Get trainings starting in [from, to), ordered by start")
     @ApiResponses(
             @ApiResponse(
                     responseCode = "200",
                     description = "OK",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TrainingDto.class))))
-    @PutMapping("/{id}")
+    @GetMapping(API_RANGE)
+    public ResponseEntity<List<TrainingDto>> getTrainingsInRange(@RequestParam String from, @RequestParam String to,
+                                                                 WebRequest request) {
+        RevisionDto revision = trainingService.getTrainingsRevision();
+        return ETags.conditional(request, ETags.of(revision.getRevision()), revision.getLastModified(),
+                () -> trainingService.getTrainingsInRange(from, to));
+    }
+
+    @Operation(summary = "Trainer Minutes per Month", description = "Get the total training minutes of a trainer in a calendar month (yyyy-MM)")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TrainerMinutesDto.class))))
+    @GetMapping(API_MINUTES)
     @ResponseStatus(HttpStatus.OK)
-    public TrainingDto updateTraining(@PathVariable String id, @RequestBody @Valid CreateTrainingRequest request) {
-        return trainingService.updateTraining(id, request);
+    public TrainerMinutesDto getTrainerMinutes(@RequestParam String trainerId, @RequestParam String month) {
+        return trainingService.getTrainerMinutes(trainerId, month);
+    }
+
+    @Operation(summary = "Update Training", description = "Update training details; send the ETag in If-Match to reject the update if the training changed meanwhile")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TrainingDto.class))))
+    @PutMapping("/{id}")
+    public ResponseEntity<TrainingDto> updateTraining(@PathVariable String id, @RequestBody @Valid CreateTrainingRequest request,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TrainingDto updated = trainingService.updateTraining(id, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(updated);
+    }
+
+    @Operation(summary = "Create Training Asynchronously", description = "Create a new Training without holding a request thread while it is saved")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Created",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TrainingDto.class))))
+    @PostMapping(API_ASYNC)
+    public DeferredResult<ResponseEntity<TrainingDto>> createTrainingAsync(@RequestBody @Valid CreateTrainingRequest request) {
+        return DeferredResults.of(trainingAsyncService.createTraining(request)
+                .thenApply(created -> ResponseEntity.status(HttpStatus.CREATED).body(created)));
+    }
+
+    @Operation(summary = "Get Training by ID Asynchronously", description = "Retrieve a Training by ID without holding a request thread while it is loaded")
+    @ApiResponses(
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK",
+                    content = @Content(
+                            schema = @Schema(implementation = TrainingDto.class),
+                            mediaType = "application/json")))
+    @GetMapping(API_ASYNC + "/{id}")
+    public DeferredResult<ResponseEntity<TrainingDto>> getTrainingAsync(@PathVariable String id) {
+        return DeferredResults.of(trainingAsyncService.getTraining(id)
+                .thenApply(found -> ResponseEntity.ok().eTag(ETags.of(found.getVersion())).body(found)));
     }
 
     @Operation(summary = "Delete Training", description = "Delete a training by ID")
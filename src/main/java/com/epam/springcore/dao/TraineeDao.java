@@ -1,36 +1,102 @@
 package com.epam.springcore.dao;
+import com.epam.springcore.cache.EntityCache;
+import com.epam.springcore.cache.EntityCaches;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
+import com.epam.springcore.dto.TraineeDto;
 import com.epam.springcore.model.Trainee;
+import com.epam.springcore.readmodel.ReadModel;
 import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.util.Pagination;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public class TraineeDao {
 
     private TraineeStorage traineeStorage;
+    private EntityCache<Trainee> traineeCache;
+    private ReadModel readModel;
 
     @Autowired
     public void setTraineeStorage(TraineeStorage traineeStorage) {
         this.traineeStorage = traineeStorage;
     }
 
+    @Autowired
+    public void setEntityCaches(EntityCaches entityCaches) {
+        this.traineeCache = entityCaches.trainees();
+    }
+
+    @Autowired
+    public void setReadModel(ReadModel readModel) {
+        this.readModel = readModel;
+    }
+
     public Trainee save(Trainee trainee) {
-        traineeStorage.getTraineeMap().put(trainee.getUserId(), trainee);
-        return traineeStorage.getTraineeMap().get(trainee.getUserId());
+        traineeStorage.put(trainee.getUserId(), trainee);
+        return trainee;
+    }
+
+    /**
+     * Replaces the stored trainee if it is still at {@code expectedVersion};
+     * the saved trainee gets the next version.
+     *
+     * @return whether the trainee was saved
+     */
+    public boolean saveIfVersion(Trainee trainee, long expectedVersion) {
+        trainee.setVersion(expectedVersion + 1);
+        return traineeStorage.replaceIf(trainee.getUserId(), current -> current.getVersion() == expectedVersion, trainee);
+    }
+
+    public void saveAll(Collection<Trainee> trainees) {
+        for (Trainee trainee : trainees) {
+            traineeStorage.put(trainee.getUserId(), trainee);
+        }
     }
 
     public Trainee findById(String id) {
-        return traineeStorage.getTraineeMap().get(id);
+        return traineeCache.get(id);
     }
 
     public Collection<Trainee> findAll() {
-        return traineeStorage.getTraineeMap().values().stream().toList();
+        return traineeStorage.values().stream().toList();
+    }
+
+    public Stream<Trainee> streamAll() {
+        return traineeStorage.values().stream();
+    }
+
+    public List<Trainee> findPage(String afterId, int limit) {
+        return traineeStorage.page(afterId, limit);
+    }
+
+    public TraineeDto findViewById(String id) {
+        return readModel.trainee(id);
+    }
+
+    public RevisionDto findViewsRevision() {
+        return readModel.trainees().revision();
+    }
+
+    public List<TraineeDto> findAllViews() {
+        return readModel.trainees().values().stream().toList();
+    }
+
+    public PageDto<TraineeDto> findViewPage(String afterId, int limit) {
+        return Pagination.of(traineeStorage.pageIds(afterId, limit), limit, readModel::trainee);
+    }
+
+    public Stream<TraineeDto> streamViews() {
+        return readModel.trainees().values().stream();
     }
 
     public void delete(String id) {
-        traineeStorage.getTraineeMap().remove(id);
+        traineeStorage.remove(id);
     }
 
 }
@@ -1,36 +1,108 @@
 package com.epam.springcore.dao;
 
+import com.epam.springcore.cache.EntityCache;
+import com.epam.springcore.cache.EntityCaches;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
+import com.epam.springcore.dto.TrainerDto;
 import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.readmodel.ReadModel;
 import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.util.Pagination;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public class TrainerDao {
 
     private TrainerStorage trainerStorage;
+    private EntityCache<Trainer> trainerCache;
+    private ReadModel readModel;
 
     @Autowired
     public void setTrainerStorage(TrainerStorage trainerStorage) {
         this.trainerStorage = trainerStorage;
     }
 
+    @Autowired
+    public void setEntityCaches(EntityCaches entityCaches) {
+        this.trainerCache = entityCaches.trainers();
+    }
+
+    @Autowired
+    public void setReadModel(ReadModel readModel) {
+        this.readModel = readModel;
+    }
+
     public Trainer save(Trainer trainer) {
-        trainerStorage.getTrainerMap().put(trainer.getUserId(), trainer);
-        return trainerStorage.getTrainerMap().get(trainer.getUserId());
+        trainerStorage.put(trainer.getUserId(), trainer);
+        return trainer;
+    }
+
+    /**
+     * Replaces the stored trainer if it is still at {@code expectedVersion};
+     * the saved trainer gets the next version.
+     *
+     * @return whether the trainer was saved
+     */
+    public boolean saveIfVersion(Trainer trainer, long expectedVersion) {
+        trainer.setVersion(expectedVersion + 1);
+        return trainerStorage.replaceIf(trainer.getUserId(), current -> current.getVersion() == expectedVersion, trainer);
+    }
+
+    public void saveAll(Collection<Trainer> trainers) {
+        for (Trainer trainer : trainers) {
+            trainerStorage.put(trainer.getUserId(), trainer);
+        }
     }
 
     public Trainer findById(String id) {
-        return trainerStorage.getTrainerMap().get(id);
+        return trainerCache.get(id);
     }
 
     public Collection<Trainer> findAll() {
-        return trainerStorage.getTrainerMap().values().stream().toList();
+        return trainerStorage.values().stream().toList();
+    }
+
+    public Stream<Trainer> streamAll() {
+        return trainerStorage.values().stream();
+    }
+
+    public List<Trainer> findPage(String afterId, int limit) {
+        return trainerStorage.page(afterId, limit);
+    }
+
+    public Set<String> findIdsBySpecialization(TrainingType specialization) {
+        return trainerStorage.findIdsBySpecialization(specialization);
+    }
+
+    public TrainerDto findViewById(String id) {
+        return readModel.trainer(id);
+    }
+
+    public RevisionDto findViewsRevision() {
+        return readModel.trainers().revision();
+    }
+
+    public List<TrainerDto> findAllViews() {
+        return readModel.trainers().values().stream().toList();
+    }
+
+    public PageDto<TrainerDto> findViewPage(String afterId, int limit) {
+        return Pagination.of(trainerStorage.pageIds(afterId, limit), limit, readModel::trainer);
+    }
+
+    public Stream<TrainerDto> streamViews() {
+        return readModel.trainers().values().stream();
     }
 
     public void delete(String id) {
-        trainerStorage.getTrainerMap().remove(id);
+        trainerStorage.remove(id);
     }
 }
@@ -1,36 +1,274 @@
 package com.epam.springcore.dao;
 
+import com.epam.springcore.cache.EntityCache;
+import com.epam.springcore.cache.EntityCaches;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
+import com.epam.springcore.dto.TrainingDto;
+import com.epam.springcore.exception.GymNotFoundException;
 import com.epam.springcore.model.Training;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.readmodel.ReadModel;
 import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.util.IdGenerator;
+import com.epam.springcore.util.Pagination;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public class TrainingDao {
 
     private TrainingStorage trainingStorage;
+    private EntityCache<Training> trainingCache;
+    private ReadModel readModel;
+    private IdGenerator idGenerator;
 
     @Autowired
     public void setTrainingStorage(TrainingStorage trainingStorage) {
         this.trainingStorage = trainingStorage;
     }
 
+    @Autowired
+    public void setEntityCaches(EntityCaches entityCaches) {
+        this.trainingCache = entityCaches.trainings();
+    }
+
+    @Autowired
+    public void setReadModel(ReadModel readModel) {
+        this.readModel = readModel;
+    }
+
+    @Autowired
+    public void setIdGenerator(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     public Training save(Training training) {
-        trainingStorage.getTrainingMap().put(training.getId(), training);
-        return trainingStorage.getTrainingMap().get(training.getId()) ;
+        if (training.getId() == null) {
+            training.setId(idGenerator.nextId(IdGenerator.Sequence.TRAINING));
+        } else {
+            idGenerator.observe(IdGenerator.Sequence.TRAINING, training.getId());
+        }
+        trainingStorage.put(training.getId(), training);
+        return training;
+    }
+
+    /**
+     * Saves the trainings, taking the IDs of new ones from a single reserved range.
+     */
+    public void saveAll(Collection<Training> trainings) {
+        int unassigned = (int) trainings.stream().filter(training -> training.getId() == null).count();
+        long nextId = unassigned > 0 ? idGenerator.reserveRange(IdGenerator.Sequence.TRAINING, unassigned) : 0;
+        for (Training training : trainings) {
+            if (training.getId() == null) {
+                training.setId(String.valueOf(nextId++));
+            } else {
+                idGenerator.observe(IdGenerator.Sequence.TRAINING, training.getId());
+            }
+            trainingStorage.put(training.getId(), training);
+        }
+    }
+
+    /**
+     * Saves the training unless it overlaps another training of its trainer
+     * or trainee; the check and the insert are atomic. A new training is
+     * given an id only if it is saved.
+     *
+     * @return ids of the conflicting trainings, empty if the training was saved
+     * @throws GymNotFoundException if the trainee or trainer does not exist
+     */
+    public List<String> saveIfNoConflict(Training training) {
+        return book(training);
+    }
+
+    /**
+     * Bulk variant of {@link #saveIfNoConflict}.
+     *
+     * @return the conflicts of each training, in the given order, or null for
+     * a training whose trainee or trainer does not exist
+     */
+    public List<List<String>> saveAllIfNoConflict(List<Training> trainings) {
+        List<List<String>> conflicts = new ArrayList<>(trainings.size());
+        for (Training training : trainings) {
+            try {
+                conflicts.add(book(training));
+            } catch (GymNotFoundException e) {
+                conflicts.add(null);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Replaces the stored training if it is still at {@code expectedVersion}
+     * and the new slot is free, as in {@link #saveIfNoConflict}; the saved
+     * training gets the next version.
+     *
+     * @return ids of the conflicting trainings, empty if the training was
+     * saved, or null if the stored training is missing or at another version
+     */
+    public List<String> saveIfVersion(Training training, long expectedVersion) {
+        training.setVersion(expectedVersion + 1);
+        long start = training.getStartMinute();
+        return trainingStorage.replaceIfNoConflict(training, start, start + training.getDurationMinutes(),
+                current -> current.getVersion() == expectedVersion);
     }
+
     public Training findById(String id) {
-        return trainingStorage.getTrainingMap().get(id);
+        return trainingCache.get(id);
     }
 
     public List<Training> findAll() {
-        return trainingStorage.getTrainingMap().values().stream().toList();
+        return trainingStorage.values().stream().toList();
+    }
+
+    public List<Training> findByTraineeId(String traineeId) {
+        return loadAll(trainingStorage.findIdsByTraineeId(traineeId));
+    }
+
+    public List<Training> findByTrainerId(String trainerId) {
+        return loadAll(trainingStorage.findIdsByTrainerId(trainerId));
+    }
+
+    /**
+     * Waits for bookings in progress for the trainee or trainer to finish.
+     */
+    public void awaitBookings(String participantId) {
+        trainingStorage.awaitBookings(participantId);
+    }
+
+    public List<String> findIdsByTraineeId(String traineeId) {
+        return List.copyOf(trainingStorage.findIdsByTraineeId(traineeId));
+    }
+
+    public List<String> findIdsByTrainerId(String trainerId) {
+        return List.copyOf(trainingStorage.findIdsByTrainerId(trainerId));
+    }
+
+    /**
+     * Finds trainings starting in {@code [fromMinute, toMinute)}, ordered by start.
+     */
+    public List<Training> findByStartBetween(long fromMinute, long toMinute) {
+        return loadAll(trainingStorage.findIdsByStartBetween(fromMinute, toMinute));
+    }
+
+    public List<Training> findByType(TrainingType type) {
+        return loadAll(trainingStorage.findIdsByType(type));
+    }
+
+    /**
+     * Finds trainings matching every non-null criterion; the start criterion
+     * is the range {@code [fromMinute, toMinute)}. Only the smallest matching
+     * id bucket is scanned, the other criteria are checked per row. A start
+     * range without a trainee or trainer is read from the start index, which
+     * is usually narrower than a type bucket.
+     */
+    public List<Training> findByCriteria(String traineeId, String trainerId,
+                                         Long fromMinute, Long toMinute, TrainingType type) {
+        boolean byStart = fromMinute != null && toMinute != null;
+        List<Collection<String>> candidates = new ArrayList<>();
+        if (traineeId != null) {
+            candidates.add(trainingStorage.findIdsByTraineeId(traineeId));
+        }
+        if (trainerId != null) {
+            candidates.add(trainingStorage.findIdsByTrainerId(trainerId));
+        }
+        if (byStart && candidates.isEmpty()) {
+            candidates.add(trainingStorage.findIdsByStartBetween(fromMinute, toMinute));
+        }
+        if (type != null) {
+            candidates.add(trainingStorage.findIdsByType(type));
+        }
+        if (candidates.isEmpty()) {
+            return findAll();
+        }
+
+        Collection<String> smallest = candidates.get(0);
+        for (Collection<String> ids : candidates) {
+            if (ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+
+        List<Training> result = new ArrayList<>();
+        for (String id : smallest) {
+            Training training = trainingStorage.get(id);
+            if (training != null
+                    && (traineeId == null || traineeId.equals(training.getTraineeId()))
+                    && (trainerId == null || trainerId.equals(training.getTrainerId()))
+                    && (!byStart || (training.getStartMinute() >= fromMinute && training.getStartMinute() < toMinute))
+                    && (type == null || type == training.getType())) {
+                result.add(training);
+            }
+        }
+        return result;
+    }
+
+    public Set<String> findBookedTrainerIds(long startMinute, long endMinute) {
+        return trainingStorage.findBookedTrainerIds(startMinute, endMinute);
+    }
+
+    public long sumTrainerMinutes(String trainerId, YearMonth month) {
+        return trainingStorage.trainerMinutes(trainerId, month);
+    }
+
+    public Stream<Training> streamAll() {
+        return trainingStorage.values().stream();
+    }
+
+    public List<Training> findPage(String afterId, int limit) {
+        return trainingStorage.page(afterId, limit);
+    }
+
+    public TrainingDto findViewById(String id) {
+        return readModel.training(id);
+    }
+
+    public RevisionDto findViewsRevision() {
+        return readModel.trainings().revision();
+    }
+
+    public List<TrainingDto> findAllViews() {
+        return readModel.trainings().values().stream().toList();
+    }
+
+    public PageDto<TrainingDto> findViewPage(String afterId, int limit) {
+        return Pagination.of(trainingStorage.pageIds(afterId, limit), limit, readModel::training);
+    }
+
+    public List<TrainingDto> findViewsByStartBetween(long fromMinute, long toMinute) {
+        return trainingStorage.findIdsByStartBetween(fromMinute, toMinute).stream()
+                .map(readModel::training)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public Stream<TrainingDto> streamViews() {
+        return readModel.trainings().values().stream();
     }
 
     public void delete(String id) {
-        trainingStorage.getTrainingMap().remove(id);
+        trainingStorage.remove(id);
     }
 
+    private List<String> book(Training training) {
+        long start = training.getStartMinute();
+        return trainingStorage.putIfNoConflict(training, start, start + training.getDurationMinutes(),
+                () -> idGenerator.nextId(IdGenerator.Sequence.TRAINING));
+    }
 
+    private List<Training> loadAll(Collection<String> ids) {
+        return ids.stream()
+                .map(trainingStorage::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
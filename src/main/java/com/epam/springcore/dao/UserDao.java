@@ -1,34 +1,107 @@
 package com.epam.springcore.dao;
 
+import com.epam.springcore.cache.EntityCache;
+import com.epam.springcore.cache.EntityCaches;
 import com.epam.springcore.model.User;
 import com.epam.springcore.storage.UserStorage;
+import com.epam.springcore.util.CredentialGenerator;
+import com.epam.springcore.util.IdGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
 
 @Repository
 public class UserDao {
 
     private UserStorage userStorage;
+    private EntityCache<User> userCache;
+    private IdGenerator idGenerator;
 
     @Autowired
     public void setUserStorage(UserStorage userStorage) {
         this.userStorage = userStorage;
     }
 
+    @Autowired
+    public void setEntityCaches(EntityCaches entityCaches) {
+        this.userCache = entityCaches.users();
+    }
+
+    @Autowired
+    public void setIdGenerator(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     public void save(User user) {
-        userStorage.getUserMap().put(user.getId(), user);
+        if (user.getId() == null) {
+            user.setId(idGenerator.nextId(IdGenerator.Sequence.USER));
+        } else {
+            idGenerator.observe(IdGenerator.Sequence.USER, user.getId());
+        }
+        userStorage.put(user.getId(), user);
+    }
+
+    /**
+     * Saves the users, taking the IDs of new ones from a single reserved range.
+     */
+    public void saveAll(Collection<User> users) {
+        int unassigned = (int) users.stream().filter(user -> user.getId() == null).count();
+        long nextId = unassigned > 0 ? idGenerator.reserveRange(IdGenerator.Sequence.USER, unassigned) : 0;
+        for (User user : users) {
+            if (user.getId() == null) {
+                user.setId(String.valueOf(nextId++));
+            } else {
+                idGenerator.observe(IdGenerator.Sequence.USER, user.getId());
+            }
+            userStorage.put(user.getId(), user);
+        }
+    }
+
+    /**
+     * Saves the user only if the stored one is still at {@code expectedVersion},
+     * bumping its version.
+     *
+     * @return false if the user was changed or deleted in the meantime
+     */
+    public boolean saveIfVersion(User user, long expectedVersion) {
+        user.setVersion(expectedVersion + 1);
+        return userStorage.replaceIf(user.getId(), current -> current.getVersion() == expectedVersion, user);
+    }
+
+    /**
+     * Reserves a unique, case-insensitive username for the given name.
+     */
+    public String generateUsername(String firstName, String lastName) {
+        return userStorage.allocateUsername(CredentialGenerator.baseUsername(firstName, lastName));
+    }
+
+    /**
+     * Frees a username reserved by {@link #generateUsername} that was never saved.
+     */
+    public void releaseUsername(String username) {
+        userStorage.releaseUsername(username);
     }
 
     public User findById(String id) {
-        return userStorage.getUserMap().get(id);
+        return userCache.get(id);
     }
 
     public Collection<User> findAll() {
-        return userStorage.getUserMap().values();
+        return userStorage.values().stream().toList();
+    }
+
+    /**
+     * Finds up to {@code limit} ids of users accepted by {@code filter} whose
+     * names or username match the query, best matches first.
+     */
+    public List<String> searchIds(String query, int limit, Predicate<String> filter) {
+        return userStorage.searchIds(query, limit, filter);
     }
+
     public void delete(String id) {
-        userStorage.getUserMap().remove(id);
+        userStorage.remove(id);
     }
 }
@@ -0,0 +1,51 @@
+package com.epam.springcore.dto;
+
+import java.util.Map;
+
+public class BatchItemDto<T> {
+    private int index;
+    private T item;
+    private Map<String, String> errors;
+
+    public BatchItemDto() {
+    }
+
+    public BatchItemDto(int index, T item, Map<String, String> errors) {
+        this.index = index;
+        this.item = item;
+        this.errors = errors;
+    }
+
+    /**
+     * Position of the item in the request.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * The created entity, null if the item was rejected.
+     */
+    public T getItem() {
+        return item;
+    }
+
+    public void setItem(T item) {
+        this.item = item;
+    }
+
+    /**
+     * Validation errors by field, null if the item was created.
+     */
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,45 @@
+package com.epam.springcore.dto;
+
+import java.util.List;
+
+public class BatchResultDto<T> {
+    private int created;
+    private int failed;
+    private List<BatchItemDto<T>> results;
+
+    public BatchResultDto() {
+    }
+
+    public BatchResultDto(int created, int failed, List<BatchItemDto<T>> results) {
+        this.created = created;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    /**
+     * One result per request item, in request order.
+     */
+    public List<BatchItemDto<T>> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchItemDto<T>> results) {
+        this.results = results;
+    }
+}
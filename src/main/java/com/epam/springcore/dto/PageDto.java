@@ -0,0 +1,35 @@
+package com.epam.springcore.dto;
+
+import java.util.List;
+
+public class PageDto<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public PageDto() {
+    }
+
+    public PageDto(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    /**
+     * Id to pass as {@code after} for the next page, null on the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.epam.springcore.dto;
+
+
+/**
+ * State of a collection for conditional requests: the revision changes with
+ * every write to the collection, the timestamp is the time of the last one.
+ */
+public class RevisionDto {
+    private String revision;
+    private long lastModified;
+
+    public RevisionDto() {
+    }
+
+    public RevisionDto(String revision, long lastModified) {
+        this.revision = revision;
+        this.lastModified = lastModified;
+    }
+
+    public String getRevision() {
+        return revision;
+    }
+
+    public void setRevision(String revision) {
+        this.revision = revision;
+    }
+
+    /**
+     * Epoch milliseconds.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+}
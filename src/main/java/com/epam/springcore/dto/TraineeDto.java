@@ -9,6 +9,7 @@ public class TraineeDto {
     private LocalDate dateOfBirth;
     private String address;
     private String username;
+    private long version;
 
 
     public TraineeDto(String id, String firstName, String lastName, LocalDate dateOfBirth, String address, String username) {
@@ -72,6 +73,14 @@ public class TraineeDto {
         this.username = username;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "TraineeDto{" +
@@ -7,6 +7,7 @@ public class TrainerDto {
     private String lastName;
     private String specialization;
     private String username;
+    private long version;
 
     public TrainerDto(String id, String firstName, String lastName, String specialization, String username) {
         this.id = id;
@@ -59,6 +60,14 @@ public class TrainerDto {
         this.username = username;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "TrainerDto{" +
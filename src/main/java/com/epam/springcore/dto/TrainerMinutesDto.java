@@ -0,0 +1,44 @@
+package com.epam.springcore.dto;
+
+
+public class TrainerMinutesDto {
+    private String trainerId;
+    private String month;
+    private long minutes;
+
+    public TrainerMinutesDto() {
+    }
+
+    public TrainerMinutesDto(String trainerId, String month, long minutes) {
+        this.trainerId = trainerId;
+        this.month = month;
+        this.minutes = minutes;
+    }
+
+    public String getTrainerId() {
+        return trainerId;
+    }
+
+    public void setTrainerId(String trainerId) {
+        this.trainerId = trainerId;
+    }
+
+    /**
+     * Calendar month as {@code yyyy-MM}.
+     */
+    public String getMonth() {
+        return month;
+    }
+
+    public void setMonth(String month) {
+        this.month = month;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(long minutes) {
+        this.minutes = minutes;
+    }
+}
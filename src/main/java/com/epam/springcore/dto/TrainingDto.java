@@ -8,6 +8,7 @@ public class TrainingDto {
     private String date;
     private String type;
     private int durationMinutes;
+    private long version;
 
     public TrainingDto() {
     }
@@ -69,6 +70,14 @@ public class TrainingDto {
         this.durationMinutes = durationMinutes;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "TrainingDto{" +
@@ -0,0 +1,9 @@
+package com.epam.springcore.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ScheduleConflictException extends ApiException {
+    public ScheduleConflictException(String message) {
+        super(message, HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,9 @@
+package com.epam.springcore.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class StaleVersionException extends ApiException {
+    public StaleVersionException(String message) {
+        super(message, HttpStatus.PRECONDITION_FAILED);
+    }
+}
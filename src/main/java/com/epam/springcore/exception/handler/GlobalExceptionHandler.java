@@ -5,6 +5,8 @@ package com.epam.springcore.exception.handler;
 import com.epam.springcore.exception.ApiException;
 import com.epam.springcore.exception.ValidationException;
 import com.epam.springcore.response.ErrorResponse;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -43,4 +45,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    // the MVC async executor's queue is full, e.g. too many NDJSON exports at once
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException exception) {
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setMessage("Server is busy, try again later");
+        errorResponse.setExceptionType(exception.getClass().getSimpleName());
+        errorResponse.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.setErrorTime(LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
 }
@@ -7,25 +7,42 @@ import com.epam.springcore.dto.TrainingDto;
 import com.epam.springcore.request.create.CreateTraineeRequest;
 import com.epam.springcore.request.create.CreateTrainerRequest;
 import com.epam.springcore.request.create.CreateTrainingRequest;
+import com.epam.springcore.service.ITraineeAsyncService;
 import com.epam.springcore.service.ITraineeService;
+import com.epam.springcore.service.ITrainerAsyncService;
 import com.epam.springcore.service.ITrainerService;
+import com.epam.springcore.service.ITrainingAsyncService;
 import com.epam.springcore.service.ITrainingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Component
 public class GymFacade {
 
+    private static final Logger log = LoggerFactory.getLogger(GymFacade.class);
+
     private final ITrainerService trainerService;
     private final ITraineeService traineeService;
     private final ITrainingService trainingService;
+    private final ITrainerAsyncService trainerAsyncService;
+    private final ITraineeAsyncService traineeAsyncService;
+    private final ITrainingAsyncService trainingAsyncService;
 
     @Autowired
-    public GymFacade(ITrainerService trainerService, ITraineeService traineeService, ITrainingService trainingService) {
+    public GymFacade(ITrainerService trainerService, ITraineeService traineeService, ITrainingService trainingService,
+                     ITrainerAsyncService trainerAsyncService, ITraineeAsyncService traineeAsyncService,
+                     ITrainingAsyncService trainingAsyncService) {
         this.trainerService = trainerService;
         this.traineeService = traineeService;
         this.trainingService = trainingService;
+        this.trainerAsyncService = trainerAsyncService;
+        this.traineeAsyncService = traineeAsyncService;
+        this.trainingAsyncService = trainingAsyncService;
     }
 
     // Trainee Operations
@@ -54,4 +71,56 @@ public class GymFacade {
     public List<TrainingDto> getAllTrainings() {
         return trainingService.getAllTrainings();
     }
-}
\ No newline at end of file
+
+    // Async Operations
+    public CompletableFuture<TraineeDto> registerTraineeAsync(CreateTraineeRequest request) {
+        return traineeAsyncService.createTrainee(request);
+    }
+
+    public CompletableFuture<TrainerDto> registerTrainerAsync(CreateTrainerRequest request) {
+        return trainerAsyncService.createTrainer(request);
+    }
+
+    public CompletableFuture<TrainingDto> scheduleTrainingAsync(CreateTrainingRequest request) {
+        return trainingAsyncService.createTraining(request);
+    }
+
+    /**
+     * Registers a trainee and a trainer in parallel, then schedules a training
+     * of the trainer's specialization between them. The future fails if any
+     * step fails, once the profiles registered so far have been deleted again.
+     * The enrollment is not atomic: until then, those profiles are visible to
+     * other requests.
+     */
+    public CompletableFuture<TrainingDto> enroll(CreateTraineeRequest trainee, CreateTrainerRequest trainer,
+                                                 String date, int durationMinutes) {
+        CompletableFuture<TraineeDto> registeredTrainee = registerTraineeAsync(trainee);
+        CompletableFuture<TrainerDto> registeredTrainer = registerTrainerAsync(trainer);
+        return registeredTrainee
+                .thenCombine(registeredTrainer, (traineeDto, trainerDto) ->
+                        new CreateTrainingRequest(traineeDto.getId(), trainerDto.getId(), date,
+                                trainerDto.getSpecialization(), durationMinutes))
+                .thenCompose(this::scheduleTrainingAsync)
+                .handle((training, failure) -> failure == null
+                        ? CompletableFuture.completedFuture(training)
+                        : discard(registeredTrainee, registeredTrainer)
+                                .thenCompose(ignored -> CompletableFuture.<TrainingDto>failedFuture(failure)))
+                .thenCompose(Function.identity());
+    }
+
+    // waits for both registrations, as one may still be running when the other fails
+    private CompletableFuture<Void> discard(CompletableFuture<TraineeDto> trainee,
+                                            CompletableFuture<TrainerDto> trainer) {
+        return CompletableFuture.allOf(trainee, trainer)
+                .handle((ignored, failure) -> CompletableFuture.allOf(
+                        trainee.isCompletedExceptionally() ? CompletableFuture.completedFuture(null)
+                                : traineeAsyncService.deleteTrainee(trainee.join().getId()),
+                        trainer.isCompletedExceptionally() ? CompletableFuture.completedFuture(null)
+                                : trainerAsyncService.deleteTrainer(trainer.join().getId())))
+                .thenCompose(Function.identity())
+                .exceptionally(failure -> {
+                    log.warn("Could not delete the profiles of a failed enrollment", failure);
+                    return null;
+                });
+    }
+}
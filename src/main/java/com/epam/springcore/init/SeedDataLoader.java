@@ -0,0 +1,77 @@
+package com.epam.springcore.init;
+
+import com.epam.springcore.persistence.StorageRecovery;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup pipeline for the seed files. Trainers and trainees are independent and
+ * load in parallel; trainings reference both and load once they are done.
+ * Seeding is skipped when the storages were already recovered from disk.
+ */
+@Component
+public class SeedDataLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedDataLoader.class);
+
+    private final TrainerInitializer trainerInitializer;
+    private final TraineeInitializer traineeInitializer;
+    private final TrainingInitializer trainingInitializer;
+    private final StorageRecovery storageRecovery;
+
+    @Autowired
+    public SeedDataLoader(TrainerInitializer trainerInitializer,
+                          TraineeInitializer traineeInitializer,
+                          TrainingInitializer trainingInitializer,
+                          StorageRecovery storageRecovery) {
+        this.trainerInitializer = trainerInitializer;
+        this.traineeInitializer = traineeInitializer;
+        this.trainingInitializer = trainingInitializer;
+        this.storageRecovery = storageRecovery;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (storageRecovery.hasRecoveredData()) {
+            log.info("Storages recovered from disk, skipping seed data");
+            return;
+        }
+        log.info("Seed data loading started");
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "seed-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<SeedLoadResult> trainers =
+                    CompletableFuture.supplyAsync(trainerInitializer::init, executor);
+            CompletableFuture<SeedLoadResult> trainees =
+                    CompletableFuture.supplyAsync(traineeInitializer::init, executor);
+            report(trainers.join());
+            report(trainees.join());
+            report(trainingInitializer.init());
+        } finally {
+            executor.shutdown();
+        }
+        log.info("Seed data loading finished in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void report(SeedLoadResult result) {
+        if (result.successful()) {
+            log.info("Loaded {} {} in {} ms ({} records/s)",
+                    result.records(), result.name(), result.elapsedMillis(), result.recordsPerSecond());
+        } else {
+            log.warn("Loading {} failed after {} records in {} ms",
+                    result.name(), result.records(), result.elapsedMillis());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.epam.springcore.init;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for the seed data initializers. The seed file is a JSON array that
+ * is read one element at a time with a streaming {@link JsonParser}, so only one
+ * batch of records is held in memory; each full batch is handed to
+ * {@link #saveBatch(List)}.
+ */
+public abstract class SeedInitializer<R> {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedInitializer.class);
+
+    protected final ObjectMapper objectMapper;
+    private final Class<R> requestType;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize = 1000;
+
+    protected SeedInitializer(ObjectMapper objectMapper, Class<R> requestType) {
+        this.objectMapper = objectMapper;
+        this.requestType = requestType;
+    }
+
+    protected abstract Resource getDataFile();
+
+    protected abstract void saveBatch(List<R> batch);
+
+    protected abstract String getName();
+
+    public SeedLoadResult init() {
+        long start = System.nanoTime();
+        long loaded = 0;
+        try (InputStream inputStream = getDataFile().getInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array in " + getDataFile().getDescription());
+            }
+            List<R> batch = new ArrayList<>(batchSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                batch.add(objectMapper.readValue(parser, requestType));
+                if (batch.size() >= batchSize) {
+                    saveBatch(batch);
+                    loaded += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                saveBatch(batch);
+                loaded += batch.size();
+            }
+            return SeedLoadResult.success(getName(), loaded, System.nanoTime() - start);
+        } catch (Exception e) {
+            log.error("Error occurred while loading {} from JSON after {} records", getName(), loaded, e);
+            return SeedLoadResult.failure(getName(), loaded, System.nanoTime() - start);
+        }
+    }
+}
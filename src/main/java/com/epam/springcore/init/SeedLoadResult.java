@@ -0,0 +1,25 @@
+package com.epam.springcore.init;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of loading one seed file.
+ */
+public record SeedLoadResult(String name, long records, long elapsedNanos, boolean successful) {
+
+    public static SeedLoadResult success(String name, long records, long elapsedNanos) {
+        return new SeedLoadResult(name, records, elapsedNanos, true);
+    }
+
+    public static SeedLoadResult failure(String name, long records, long elapsedNanos) {
+        return new SeedLoadResult(name, records, elapsedNanos, false);
+    }
+
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public long recordsPerSecond() {
+        return elapsedNanos == 0 ? records : records * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
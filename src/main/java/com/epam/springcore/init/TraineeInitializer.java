@@ -5,57 +5,62 @@ import com.epam.springcore.dao.UserDao;
 import com.epam.springcore.model.Trainee;
 import com.epam.springcore.model.User;
 import com.epam.springcore.request.init.TraineeInitializeRequest;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
-public class TraineeInitializer {
+public class TraineeInitializer extends SeedInitializer<TraineeInitializeRequest> {
 
     @Value("${trainee.data.file}")
     private Resource traineeDataFile;
 
     private final TraineeDao traineeDao;
     private final UserDao userDao;
-    private final ObjectMapper objectMapper;
 
     @Autowired
     public TraineeInitializer(TraineeDao traineeDao, UserDao userDao, ObjectMapper objectMapper) {
+        super(objectMapper, TraineeInitializeRequest.class);
         this.traineeDao = traineeDao;
         this.userDao = userDao;
-        this.objectMapper = objectMapper;
     }
-    @PostConstruct
-    public void init() {
-        System.out.println("TraineeInitializer started (JSON).");
-        try {
-            List<TraineeInitializeRequest> trainees = objectMapper.readValue(
-                    traineeDataFile.getInputStream(),
-                    new TypeReference<List<TraineeInitializeRequest>>() {}
-            );
-             for (TraineeInitializeRequest traineeInitializeRequest : trainees) {
-                User user=new User(
-                        traineeInitializeRequest.getFirstName(),
-                        traineeInitializeRequest.getLastName(),
-                        traineeDao.findAll());
-                userDao.save(user);
-                Trainee trainee=new Trainee(traineeInitializeRequest.getDateOfBirth(),
-                        traineeInitializeRequest.getAddress(),
-                        user.getId());
-
-                 traineeDao.save(trainee);
-                System.out.println("Loaded trainee: " + trainee);
-            }
-
-        } catch (Exception e) {
-            System.out.println("Error occurred while loading trainees from JSON:");
-            e.printStackTrace();
+
+    @Override
+    protected Resource getDataFile() {
+        return traineeDataFile;
+    }
+
+    @Override
+    protected String getName() {
+        return "trainees";
+    }
+
+    @Override
+    protected void saveBatch(List<TraineeInitializeRequest> batch) {
+        List<User> users = new ArrayList<>(batch.size());
+        for (TraineeInitializeRequest traineeInitializeRequest : batch) {
+            User user = new User(
+                    traineeInitializeRequest.getFirstName(),
+                    traineeInitializeRequest.getLastName(),
+                    userDao.generateUsername(traineeInitializeRequest.getFirstName(),
+                            traineeInitializeRequest.getLastName()));
+            user.setId(traineeInitializeRequest.getId());
+            users.add(user);
+        }
+        userDao.saveAll(users);
+
+        List<Trainee> trainees = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            TraineeInitializeRequest traineeInitializeRequest = batch.get(i);
+            trainees.add(new Trainee(traineeInitializeRequest.getDateOfBirth(),
+                    traineeInitializeRequest.getAddress(),
+                    users.get(i).getId()));
         }
-        System.out.println("TraineeInitializer finished.");
+        traineeDao.saveAll(trainees);
     }
 }
@@ -5,56 +5,59 @@ import com.epam.springcore.dao.UserDao;
 import com.epam.springcore.model.Trainer;
 import com.epam.springcore.model.User;
 import com.epam.springcore.request.init.TrainerInitializeRequest;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
-public class TrainerInitializer {
+public class TrainerInitializer extends SeedInitializer<TrainerInitializeRequest> {
 
     @Value("${trainer.data.file}")
     private Resource trainerDataFile;
 
     private final TrainerDao trainerDao;
     private final UserDao userDao;
-    private final ObjectMapper objectMapper;
 
     @Autowired
-    public TrainerInitializer( TrainerDao trainerDao, UserDao userDao, ObjectMapper objectMapper) {
+    public TrainerInitializer(TrainerDao trainerDao, UserDao userDao, ObjectMapper objectMapper) {
+        super(objectMapper, TrainerInitializeRequest.class);
         this.trainerDao = trainerDao;
         this.userDao = userDao;
-        this.objectMapper = objectMapper;
     }
 
-    @PostConstruct
-    public void init() {
-        System.out.println("TrainerInitializer started (JSON).");
-        try {
-            List<TrainerInitializeRequest> trainers = objectMapper.readValue(
-                    trainerDataFile.getInputStream(),
-                    new TypeReference<List<TrainerInitializeRequest>>() {}
-            );
-            for (TrainerInitializeRequest trainerInitializeRequest : trainers) {
-                User user=new User(
-                        trainerInitializeRequest.getFirstName(),
-                        trainerInitializeRequest.getLastName(),
-                        trainerDao.findAll());
-
-                userDao.save(user);
-                Trainer trainer=new Trainer( trainerInitializeRequest.getSpecialty(),user.getId());
-
-                trainerDao.save(trainer);
-                System.out.println("Loaded trainer: " + trainer);
-            }
-
-        } catch (Exception e) {
-            System.out.println("Error occurred while loading trainers from JSON:");
-            e.printStackTrace();
+    @Override
+    protected Resource getDataFile() {
+        return trainerDataFile;
+    }
+
+    @Override
+    protected String getName() {
+        return "trainers";
+    }
+
+    @Override
+    protected void saveBatch(List<TrainerInitializeRequest> batch) {
+        List<User> users = new ArrayList<>(batch.size());
+        for (TrainerInitializeRequest trainerInitializeRequest : batch) {
+            User user = new User(
+                    trainerInitializeRequest.getFirstName(),
+                    trainerInitializeRequest.getLastName(),
+                    userDao.generateUsername(trainerInitializeRequest.getFirstName(),
+                            trainerInitializeRequest.getLastName()));
+            user.setId(trainerInitializeRequest.getId());
+            users.add(user);
         }
-}
+        userDao.saveAll(users);
+
+        List<Trainer> trainers = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            trainers.add(new Trainer(batch.get(i).getSpecialty(), users.get(i).getId()));
+        }
+        trainerDao.saveAll(trainers);
+    }
 }
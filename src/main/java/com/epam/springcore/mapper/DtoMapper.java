@@ -0,0 +1,60 @@
+package com.epam.springcore.mapper;
+
+import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.dto.TrainingDto;
+import com.epam.springcore.model.Trainee;
+import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.User;
+import com.epam.springcore.model.Versioned;
+import com.epam.springcore.util.TrainingTimes;
+
+public class DtoMapper {
+
+    private DtoMapper() {
+    }
+
+    public static TraineeDto toTraineeDto(Trainee trainee, User user) {
+        TraineeDto dto = new TraineeDto();
+        dto.setId(trainee.getUserId());
+        dto.setFirstName(user.getFirstName());
+        dto.setLastName(user.getLastName());
+        dto.setUsername(user.getUsername());
+        dto.setDateOfBirth(trainee.getDateOfBirth());
+        dto.setAddress(trainee.getAddress());
+        dto.setVersion(viewVersion(trainee, user));
+        return dto;
+    }
+
+    public static TrainerDto toTrainerDto(Trainer trainer, User user) {
+        TrainerDto dto = new TrainerDto();
+        dto.setId(trainer.getUserId());
+        dto.setFirstName(user.getFirstName());
+        dto.setLastName(user.getLastName());
+        dto.setUsername(user.getUsername());
+        dto.setSpecialization(trainer.getSpecialization() != null ? trainer.getSpecialization().toString() : null);
+        dto.setVersion(viewVersion(trainer, user));
+        return dto;
+    }
+
+    public static TrainingDto toTrainingDto(Training training) {
+        TrainingDto dto = new TrainingDto();
+        dto.setId(training.getId());
+        dto.setTrainerId(training.getTrainerId());
+        dto.setTraineeId(training.getTraineeId());
+        dto.setDate(TrainingTimes.format(training.getStartMinute()));
+        dto.setType(training.getType() != null ? training.getType().toString() : null);
+        dto.setDurationMinutes(training.getDurationMinutes());
+        dto.setVersion(training.getVersion());
+        return dto;
+    }
+
+    /**
+     * The version of a trainee or trainer view covers the profile and its
+     * user; both only grow, so every change to either yields a new version.
+     */
+    public static long viewVersion(Versioned profile, User user) {
+        return profile.getVersion() + user.getVersion();
+    }
+}
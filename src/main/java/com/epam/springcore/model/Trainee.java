@@ -2,11 +2,12 @@ package com.epam.springcore.model;
 
 import java.time.LocalDate;
 
-public class Trainee {
+public class Trainee implements Versioned {
 
     private LocalDate dateOfBirth;
     private String address;
     private String userId;
+    private long version;
 
     public Trainee() {
     }
@@ -41,6 +42,16 @@ public class Trainee {
         this.userId = userId;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Trainee{" +
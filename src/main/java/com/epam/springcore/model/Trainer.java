@@ -2,10 +2,14 @@ package com.epam.springcore.model;
 
 import com.epam.springcore.model.enums.TrainingType;
 
-public class Trainer {
+public class Trainer implements Versioned {
 
     private TrainingType specialization;
     private String userId;
+    private long version;
+
+    public Trainer() {
+    }
 
     public Trainer(TrainingType specialization, String userId) {
         this.specialization = specialization;
@@ -28,6 +32,16 @@ public class Trainer {
         this.userId = userId;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Trainer{" +
@@ -2,23 +2,25 @@ package com.epam.springcore.model;
 
 import com.epam.springcore.model.enums.TrainingType;
 
-public class Training {
+public class Training implements Versioned {
     private String id;
     private String traineeId;
     private String trainerId;
-    private String date;
+    // minutes since the epoch, see TrainingTimes
+    private long startMinute;
     private TrainingType type;
     private int durationMinutes;
-    private static int counter = 0;
+    private long version;
 
-    public Training(String traineeId, String trainerId, String date, TrainingType type, int durationMinutes) {
+    public Training() {
+    }
+
+    public Training(String traineeId, String trainerId, long startMinute, TrainingType type, int durationMinutes) {
         this.traineeId = traineeId;
         this.trainerId = trainerId;
-        this.date = date;
+        this.startMinute = startMinute;
         this.type = type;
         this.durationMinutes = durationMinutes;
-        this.id = String.valueOf(++counter);
-
     }
 
     public String getId() {
@@ -45,12 +47,12 @@ public class Training {
         this.trainerId = trainerId;
     }
 
-    public String getDate() {
-        return date;
+    public long getStartMinute() {
+        return startMinute;
     }
 
-    public void setDate(String date) {
-        this.date = date;
+    public void setStartMinute(long startMinute) {
+        this.startMinute = startMinute;
     }
 
     public TrainingType getType() {
@@ -69,12 +71,14 @@ public class Training {
         this.durationMinutes = durationMinutes;
     }
 
-    public static int getCounter() {
-        return counter;
+    @Override
+    public long getVersion() {
+        return version;
     }
 
-    public static void setCounter(int counter) {
-        Training.counter = counter;
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
     }
 
     @Override
@@ -83,7 +87,7 @@ public class Training {
                 "id='" + id + '\'' +
                 ", traineeId='" + traineeId + '\'' +
                 ", trainerId='" + trainerId + '\'' +
-                ", date='" + date + '\'' +
+                ", startMinute=" + startMinute +
                 ", type='" + type + '\'' +
                 ", durationMinutes=" + durationMinutes +
                 '}';
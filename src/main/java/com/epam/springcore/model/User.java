@@ -2,11 +2,7 @@ package com.epam.springcore.model;
 
 import com.epam.springcore.util.CredentialGenerator;
 
-import java.util.Collection;
-
-public class User {
-
-    private static int counter = 0;
+public class User implements Versioned {
 
     protected String id;
     protected String firstName;
@@ -14,16 +10,29 @@ public class User {
     protected String username;
     protected String password;
     protected boolean isActive;
+    protected long version;
+
+    public User() {
+    }
 
-    public User(String firstName, String lastName, Collection<?> entities) {
-        this.id = String.valueOf(++counter);
+    public User(String firstName, String lastName, String username) {
         this.firstName = firstName;
         this.lastName = lastName;
-        this.username = CredentialGenerator.generateUsername(firstName, lastName, entities);
+        this.username = username;
         this.password = CredentialGenerator.generateRandomPassword();
         this.isActive = true;
     }
 
+    public User(User source) {
+        this.id = source.id;
+        this.firstName = source.firstName;
+        this.lastName = source.lastName;
+        this.username = source.username;
+        this.password = source.password;
+        this.isActive = source.isActive;
+        this.version = source.version;
+    }
+
     public String getId() {
         return id;
     }
@@ -72,6 +81,16 @@ public class User {
         isActive = active;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" +
@@ -0,0 +1,12 @@
+package com.epam.springcore.model;
+
+/**
+ * Entity carrying a version that every accepted update increments; used for
+ * optimistic concurrency control and as the entity tag of the resource.
+ */
+public interface Versioned {
+
+    long getVersion();
+
+    void setVersion(long version);
+}
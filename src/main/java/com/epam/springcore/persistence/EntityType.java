@@ -0,0 +1,31 @@
+package com.epam.springcore.persistence;
+
+/**
+ * Entity kinds that are persisted, with a stable one-byte code used in the
+ * on-disk formats. Codes must never be reused.
+ */
+public enum EntityType {
+    USER(1),
+    TRAINEE(2),
+    TRAINER(3),
+    TRAINING(4);
+
+    private final byte code;
+
+    EntityType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static EntityType fromCode(byte code) {
+        for (EntityType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown entity type code: " + code);
+    }
+}
@@ -0,0 +1,316 @@
+package com.epam.springcore.persistence;
+
+import com.epam.springcore.model.Trainee;
+import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.User;
+import com.epam.springcore.model.enums.TrainingType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot layout:
+ * <pre>
+ * header   magic:int version:int lsn:long
+ * sections users, trainees, trainers, trainings (fixed field order, no names)
+ * footer   4 x (offset:long count:int) crc32:int
+ * </pre>
+ * Strings are length-prefixed UTF-8 with {@code -1} for null. The footer lets
+ * the reader decode the sections of a mapped file independently.
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x47594D53;
+    static final int VERSION = 4;
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int SECTION_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int SECTIONS = 4;
+    private static final int FOOTER_BYTES = SECTIONS * SECTION_ENTRY_BYTES + Integer.BYTES;
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    private SnapshotFormat() {
+    }
+
+    /**
+     * Streams the given collections into {@code file}. The collections may
+     * change while they are written; the caller recovers the difference from
+     * the write-ahead log.
+     */
+    static void write(Path file, long lsn,
+                      Collection<User> users,
+                      Collection<Trainee> trainees,
+                      Collection<Trainer> trainers,
+                      Collection<Training> trainings) throws IOException {
+        long[] offsets = new long[SECTIONS];
+        int[] counts = new int[SECTIONS];
+        try (Output out = new Output(file)) {
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putLong(lsn);
+
+            offsets[0] = out.position();
+            for (User user : users) {
+                out.putString(user.getId());
+                out.putString(user.getFirstName());
+                out.putString(user.getLastName());
+                out.putString(user.getUsername());
+                out.putString(user.getPassword());
+                out.putByte(user.isActive() ? 1 : 0);
+                out.putLong(user.getVersion());
+                counts[0]++;
+            }
+            offsets[1] = out.position();
+            for (Trainee trainee : trainees) {
+                out.putString(trainee.getUserId());
+                out.putLong(trainee.getDateOfBirth() == null ? NULL_DATE : trainee.getDateOfBirth().toEpochDay());
+                out.putString(trainee.getAddress());
+                out.putLong(trainee.getVersion());
+                counts[1]++;
+            }
+            offsets[2] = out.position();
+            for (Trainer trainer : trainers) {
+                out.putString(trainer.getUserId());
+                out.putType(trainer.getSpecialization());
+                out.putLong(trainer.getVersion());
+                counts[2]++;
+            }
+            offsets[3] = out.position();
+            for (Training training : trainings) {
+                out.putString(training.getId());
+                out.putString(training.getTraineeId());
+                out.putString(training.getTrainerId());
+                out.putLong(training.getStartMinute());
+                out.putType(training.getType());
+                out.putInt(training.getDurationMinutes());
+                out.putLong(training.getVersion());
+                counts[3]++;
+            }
+            if (out.position() > Integer.MAX_VALUE - FOOTER_BYTES) {
+                throw new IOException("Snapshot exceeds 2 GB");
+            }
+
+            for (int i = 0; i < SECTIONS; i++) {
+                out.putLong(offsets[i]);
+                out.putInt(counts[i]);
+            }
+            out.finish();
+        }
+    }
+
+    /**
+     * Memory-maps {@code file}, verifies it and decodes the four sections in
+     * parallel into the given sinks.
+     *
+     * @return the LSN the snapshot was taken at
+     */
+    static long read(Path file,
+                     Consumer<User> users,
+                     Consumer<Trainee> trainees,
+                     Consumer<Trainer> trainers,
+                     Consumer<Training> trainings) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + FOOTER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid snapshot size " + size + " of " + file);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        int crcPosition = mapped.limit() - Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(mapped.duplicate().limit(crcPosition));
+        if ((int) crc.getValue() != mapped.getInt(crcPosition)) {
+            throw new IOException("Snapshot checksum mismatch in " + file);
+        }
+        if (mapped.getInt(0) != MAGIC || mapped.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Unsupported snapshot format in " + file);
+        }
+        long lsn = mapped.getLong(Integer.BYTES * 2);
+
+        int footer = mapped.limit() - FOOTER_BYTES;
+        long[] offsets = new long[SECTIONS];
+        int[] counts = new int[SECTIONS];
+        for (int i = 0; i < SECTIONS; i++) {
+            offsets[i] = mapped.getLong(footer + i * SECTION_ENTRY_BYTES);
+            counts[i] = mapped.getInt(footer + i * SECTION_ENTRY_BYTES + Long.BYTES);
+        }
+
+        IntStream.range(0, SECTIONS).parallel().forEach(section -> {
+            ByteBuffer in = mapped.duplicate().position((int) offsets[section]);
+            switch (section) {
+                case 0 -> readUsers(in, counts[section], users);
+                case 1 -> readTrainees(in, counts[section], trainees);
+                case 2 -> readTrainers(in, counts[section], trainers);
+                default -> readTrainings(in, counts[section], trainings);
+            }
+        });
+        return lsn;
+    }
+
+    private static void readUsers(ByteBuffer in, int count, Consumer<User> sink) {
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId(readString(in));
+            user.setFirstName(readString(in));
+            user.setLastName(readString(in));
+            user.setUsername(readString(in));
+            user.setPassword(readString(in));
+            user.setActive(in.get() != 0);
+            user.setVersion(in.getLong());
+            sink.accept(user);
+        }
+    }
+
+    private static void readTrainees(ByteBuffer in, int count, Consumer<Trainee> sink) {
+        for (int i = 0; i < count; i++) {
+            String userId = readString(in);
+            long epochDay = in.getLong();
+            String address = readString(in);
+            Trainee trainee = new Trainee(epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay), address, userId);
+            trainee.setVersion(in.getLong());
+            sink.accept(trainee);
+        }
+    }
+
+    private static void readTrainers(ByteBuffer in, int count, Consumer<Trainer> sink) {
+        for (int i = 0; i < count; i++) {
+            String userId = readString(in);
+            Trainer trainer = new Trainer(readType(in), userId);
+            trainer.setVersion(in.getLong());
+            sink.accept(trainer);
+        }
+    }
+
+    private static void readTrainings(ByteBuffer in, int count, Consumer<Training> sink) {
+        for (int i = 0; i < count; i++) {
+            String id = readString(in);
+            String traineeId = readString(in);
+            String trainerId = readString(in);
+            long startMinute = in.getLong();
+            TrainingType type = readType(in);
+            Training training = new Training(traineeId, trainerId, startMinute, type, in.getInt());
+            training.setId(id);
+            training.setVersion(in.getLong());
+            sink.accept(training);
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static TrainingType readType(ByteBuffer in) {
+        byte ordinal = in.get();
+        return ordinal < 0 ? null : TrainingType.values()[ordinal];
+    }
+
+    /**
+     * Buffered writer that keeps the running checksum and position; cheaper
+     * than a stream stack for millions of small fields.
+     */
+    private static final class Output implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+        private final CRC32 crc = new CRC32();
+        private long flushed;
+
+        private Output(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        long position() {
+            return flushed + buffer.position();
+        }
+
+        void putByte(int value) throws IOException {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putString(String value) throws IOException {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensure(1);
+                int chunk = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        // ordinals are stored, so new training types must be appended to the enum
+        void putType(TrainingType type) throws IOException {
+            putByte(type == null ? -1 : type.ordinal());
+        }
+
+        /**
+         * Appends the checksum of everything written so far and syncs the file.
+         */
+        void finish() throws IOException {
+            flush();
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.array(), 0, buffer.limit());
+            flushed += buffer.limit();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.epam.springcore.persistence;
+
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import com.epam.springcore.util.IdGenerator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Takes periodic binary snapshots of the storages and restores the latest one
+ * on startup. Snapshots are fuzzy: writers are never blocked and values are
+ * read while they change, so the write-ahead log is replayed on top of the
+ * snapshot. Each snapshot rotates the log, and the segments that were already
+ * closed when the previous snapshot was taken are deleted. Keeping one
+ * interval of slack guarantees that a write still in flight while a snapshot
+ * was taken is either in that snapshot or in a retained segment.
+ */
+@Component
+public class SnapshotManager {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotManager.class);
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long intervalSeconds;
+    private final WriteAheadLog wal;
+    private final UserStorage userStorage;
+    private final TraineeStorage traineeStorage;
+    private final TrainerStorage trainerStorage;
+    private final TrainingStorage trainingStorage;
+    private final IdGenerator idGenerator;
+
+    private ScheduledExecutorService scheduler;
+    private Path retainFrom;
+
+    @Autowired
+    public SnapshotManager(@Value("${snapshot.enabled:false}") boolean enabled,
+                           @Value("${snapshot.directory:data/snapshot}") String directory,
+                           @Value("${snapshot.interval-seconds:300}") long intervalSeconds,
+                           WriteAheadLog wal,
+                           UserStorage userStorage,
+                           TraineeStorage traineeStorage,
+                           TrainerStorage trainerStorage,
+                           TrainingStorage trainingStorage,
+                           IdGenerator idGenerator) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.intervalSeconds = intervalSeconds;
+        this.wal = wal;
+        this.userStorage = userStorage;
+        this.traineeStorage = traineeStorage;
+        this.trainerStorage = trainerStorage;
+        this.trainingStorage = trainingStorage;
+        this.idGenerator = idGenerator;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Loads the latest snapshot into the storages.
+     *
+     * @return the LSN of the restored snapshot, or 0 if there was none. Log
+     *         records are replayed regardless of it, this only bounds the
+     *         LSNs the log continues from.
+     */
+    public long restoreLatest() throws IOException {
+        if (!enabled) {
+            return 0;
+        }
+        Optional<Path> latest = findLatest();
+        if (latest.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        long lsn = SnapshotFormat.read(latest.get(),
+                user -> {
+                    userStorage.put(user.getId(), user);
+                    idGenerator.observe(IdGenerator.Sequence.USER, user.getId());
+                },
+                trainee -> traineeStorage.put(trainee.getUserId(), trainee),
+                trainer -> trainerStorage.put(trainer.getUserId(), trainer),
+                training -> {
+                    trainingStorage.put(training.getId(), training);
+                    idGenerator.observe(IdGenerator.Sequence.TRAINING, training.getId());
+                });
+        log.info("Restored snapshot {} ({} users, {} trainings) in {} ms", latest.get().getFileName(),
+                userStorage.size(), trainingStorage.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return lsn;
+    }
+
+    /**
+     * Starts taking snapshots in the background every
+     * {@code snapshot.interval-seconds}.
+     */
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        // everything logged before this segment was applied during recovery
+        retainFrom = wal.currentSegment();
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes a snapshot of the current state and drops the log segments and
+     * older snapshots it makes redundant.
+     *
+     * @return the new snapshot file
+     */
+    public synchronized Path takeSnapshot() throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+        Path segment = wal.isEnabled() ? wal.rotate() : null;
+        long lsn = wal.lastLsn();
+
+        Path target = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, lsn, SNAPSHOT_SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        SnapshotFormat.write(temp, lsn, userStorage.values(), traineeStorage.values(),
+                trainerStorage.values(), trainingStorage.values());
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        deleteSnapshotsBefore(target);
+        if (retainFrom != null) {
+            wal.deleteSegmentsBefore(retainFrom);
+        }
+        retainFrom = segment;
+        log.info("Wrote snapshot {} in {} ms", target.getFileName(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return target;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (this) {
+            if (!enabled) {
+                return;
+            }
+            if (scheduler != null) {
+                scheduler.shutdown();
+            }
+        }
+        snapshotQuietly();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            takeSnapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Writing snapshot failed", e);
+        }
+    }
+
+    private Optional<Path> findLatest() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(SnapshotManager::isSnapshot).max(Path::compareTo);
+        }
+    }
+
+    private void deleteSnapshotsBefore(Path snapshot) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path older : files.filter(SnapshotManager::isSnapshot).toList()) {
+                if (older.compareTo(snapshot) < 0) {
+                    Files.deleteIfExists(older);
+                }
+            }
+        }
+    }
+
+    private static boolean isSnapshot(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+    }
+}
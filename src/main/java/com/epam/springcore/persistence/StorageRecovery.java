@@ -0,0 +1,149 @@
+package com.epam.springcore.persistence;
+
+import com.epam.springcore.model.Trainee;
+import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.User;
+import com.epam.springcore.storage.EntityStorage;
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import com.epam.springcore.util.IdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rebuilds the storages on startup from the latest snapshot plus the
+ * write-ahead log, then starts logging new writes and taking snapshots. Log
+ * replay only applies the last record of every key: records are partitioned
+ * by key, collapsed per partition and the partitions are applied in parallel.
+ * Storage listeners rebuild the indexes as usual.
+ */
+@Component
+public class StorageRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageRecovery.class);
+
+    private final WriteAheadLog wal;
+    private final SnapshotManager snapshotManager;
+    private final ObjectMapper objectMapper;
+    private final UserStorage userStorage;
+    private final TraineeStorage traineeStorage;
+    private final TrainerStorage trainerStorage;
+    private final TrainingStorage trainingStorage;
+    private final IdGenerator idGenerator;
+
+    @Value("${wal.sync-commit:false}")
+    private boolean syncCommit;
+
+    private volatile int recoveredEntities;
+
+    @Autowired
+    public StorageRecovery(WriteAheadLog wal,
+                           SnapshotManager snapshotManager,
+                           ObjectMapper objectMapper,
+                           UserStorage userStorage,
+                           TraineeStorage traineeStorage,
+                           TrainerStorage trainerStorage,
+                           TrainingStorage trainingStorage,
+                           IdGenerator idGenerator) {
+        this.wal = wal;
+        this.snapshotManager = snapshotManager;
+        this.objectMapper = objectMapper;
+        this.userStorage = userStorage;
+        this.traineeStorage = traineeStorage;
+        this.trainerStorage = trainerStorage;
+        this.trainingStorage = trainingStorage;
+        this.idGenerator = idGenerator;
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        long snapshotLsn = snapshotManager.restoreLatest();
+        if (wal.isEnabled()) {
+            long lastLsn = replay();
+            wal.open(Math.max(snapshotLsn, lastLsn));
+            userStorage.addListener(new WalStorageListener<>(wal, EntityType.USER, syncCommit));
+            traineeStorage.addListener(new WalStorageListener<>(wal, EntityType.TRAINEE, syncCommit));
+            trainerStorage.addListener(new WalStorageListener<>(wal, EntityType.TRAINER, syncCommit));
+            trainingStorage.addListener(new WalStorageListener<>(wal, EntityType.TRAINING, syncCommit));
+        }
+        recoveredEntities = userStorage.size() + traineeStorage.size()
+                + trainerStorage.size() + trainingStorage.size();
+        snapshotManager.start();
+    }
+
+    /**
+     * Whether the storages were populated from a snapshot or the log, in
+     * which case seeding must not run again.
+     */
+    public boolean hasRecoveredData() {
+        return recoveredEntities > 0;
+    }
+
+    long replay() throws IOException {
+        long start = System.nanoTime();
+        int partitions = Math.max(1, Runtime.getRuntime().availableProcessors());
+        List<Map<String, WalRecord>> latest = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            latest.add(new HashMap<>());
+        }
+        long[] lastLsn = {0};
+        long records = wal.readAll(record -> {
+            String key = record.entityType().name() + ':' + record.id();
+            latest.get(Math.floorMod(key.hashCode(), partitions))
+                    .merge(key, record, (current, next) -> next.lsn() > current.lsn() ? next : current);
+            lastLsn[0] = Math.max(lastLsn[0], record.lsn());
+        });
+        latest.parallelStream().forEach(partition -> partition.values().forEach(this::apply));
+        log.info("Replayed {} WAL records in {} ms",
+                records, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return lastLsn[0];
+    }
+
+    private void apply(WalRecord record) {
+        switch (record.entityType()) {
+            case USER -> {
+                apply(userStorage, record, User.class);
+                observe(IdGenerator.Sequence.USER, record);
+            }
+            case TRAINEE -> apply(traineeStorage, record, Trainee.class);
+            case TRAINER -> apply(trainerStorage, record, Trainer.class);
+            case TRAINING -> {
+                apply(trainingStorage, record, Training.class);
+                observe(IdGenerator.Sequence.TRAINING, record);
+            }
+        }
+    }
+
+    private <V> void apply(EntityStorage<V> storage, WalRecord record, Class<V> type) {
+        if (record.operation() == WalRecord.Operation.DELETE) {
+            storage.remove(record.id());
+            return;
+        }
+        try {
+            storage.put(record.id(), objectMapper.readValue(record.payload(), type));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable WAL record " + record.lsn(), e);
+        }
+    }
+
+    private void observe(IdGenerator.Sequence sequence, WalRecord record) {
+        // deleted ids are observed too, so they are never handed out again
+        idGenerator.observe(sequence, record.id());
+    }
+}
@@ -0,0 +1,13 @@
+package com.epam.springcore.persistence;
+
+/**
+ * One decoded write-ahead log entry. {@code payload} holds the JSON of the
+ * entity for {@link Operation#PUT} and is empty for {@link Operation#DELETE}.
+ */
+public record WalRecord(long lsn, Operation operation, EntityType entityType, String id, byte[] payload) {
+
+    public enum Operation {
+        PUT,
+        DELETE
+    }
+}
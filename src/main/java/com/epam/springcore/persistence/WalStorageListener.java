@@ -0,0 +1,51 @@
+package com.epam.springcore.persistence;
+
+import com.epam.springcore.persistence.WalRecord.Operation;
+import com.epam.springcore.storage.StorageListener;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Logs every write of one storage. Records are appended while the entry is
+ * locked, so the log order of a key matches the order its writes were
+ * applied in. With synchronous commit the writing thread waits for the
+ * group commit in {@link #afterWrite()}, after the lock is released.
+ */
+class WalStorageListener<V> implements StorageListener<V> {
+
+    private final WriteAheadLog wal;
+    private final EntityType type;
+    private final boolean syncCommit;
+    private final ThreadLocal<CompletableFuture<Void>> lastAppend = new ThreadLocal<>();
+
+    WalStorageListener(WriteAheadLog wal, EntityType type, boolean syncCommit) {
+        this.wal = wal;
+        this.type = type;
+        this.syncCommit = syncCommit;
+    }
+
+    @Override
+    public void onPut(String id, V value) {
+        track(wal.append(Operation.PUT, type, id, value));
+    }
+
+    @Override
+    public void onRemove(String id, V removed) {
+        track(wal.append(Operation.DELETE, type, id, null));
+    }
+
+    @Override
+    public void afterWrite() {
+        CompletableFuture<Void> pending = lastAppend.get();
+        if (pending != null) {
+            lastAppend.remove();
+            pending.join();
+        }
+    }
+
+    private void track(CompletableFuture<Void> append) {
+        if (syncCommit) {
+            lastAppend.set(append);
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package com.epam.springcore.persistence;
+
+import com.epam.springcore.persistence.WalRecord.Operation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of storage writes. Callers encode their record and hand it
+ * to a single flusher thread, which writes whatever has queued up in one go
+ * and syncs it with one {@code fsync} (group commit). Appending therefore costs
+ * a JSON serialization and a queue offer; callers that need durability can
+ * wait on the returned future.
+ *
+ * <p>Records are framed as {@code [length][crc32][lsn][op][type][id][payload]}.
+ * Every startup opens a new segment, and the flusher moves on to a new one
+ * once the current segment reaches {@code wal.segment-size} bytes, so
+ * snapshots can drop the segments they cover. Older segments are only read
+ * during recovery, one record at a time. A torn or corrupt record ends the
+ * segment it is found in.
+ */
+@Component
+public class WriteAheadLog {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MAX_RECORD_BYTES = 16 * 1024 * 1024;
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int batchSize;
+    private final long batchDelayNanos;
+    private final boolean fsync;
+    private final long segmentSize;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong nextLsn = new AtomicLong(1);
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final Object channelLock = new Object();
+
+    private FileChannel channel;
+    private long segmentBytes;
+    private long segmentNumber;
+    private volatile Path currentSegment;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @Autowired
+    public WriteAheadLog(@Value("${wal.enabled:false}") boolean enabled,
+                         @Value("${wal.directory:data/wal}") String directory,
+                         @Value("${wal.group-commit.batch-size:512}") int batchSize,
+                         @Value("${wal.group-commit.max-delay-ms:2}") long maxDelayMillis,
+                         @Value("${wal.fsync:true}") boolean fsync,
+                         @Value("${wal.segment-size:67108864}") long segmentSize,
+                         ObjectMapper objectMapper) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("WAL batch size must be positive: " + batchSize);
+        }
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("WAL segment size must be positive: " + segmentSize);
+        }
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.batchSize = batchSize;
+        this.batchDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMillis));
+        this.fsync = fsync;
+        this.segmentSize = segmentSize;
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hands every record of every existing segment to {@code consumer}, in
+     * log order, without holding more than one record in memory.
+     *
+     * @return the number of records read
+     */
+    public long readAll(Consumer<WalRecord> consumer) throws IOException {
+        long records = 0;
+        if (!Files.isDirectory(directory)) {
+            return records;
+        }
+        for (Path segment : listSegments()) {
+            records += readSegment(segment, consumer);
+        }
+        return records;
+    }
+
+    /**
+     * Opens a fresh segment and starts the flusher. LSNs continue after
+     * {@code lastRecoveredLsn}.
+     */
+    public synchronized void open(long lastRecoveredLsn) throws IOException {
+        if (running) {
+            return;
+        }
+        nextLsn.set(lastRecoveredLsn + 1);
+        Files.createDirectories(directory);
+        List<Path> existing = listSegments();
+        segmentNumber = existing.isEmpty() ? 0 : segmentNumber(existing.get(existing.size() - 1));
+        channel = openSegment(nextLsn.get());
+        running = true;
+        flusher = new Thread(this::flushLoop, "wal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Queues a record for the next group commit.
+     *
+     * @return future completed once the record is written (and synced if
+     *         {@code wal.fsync} is on)
+     */
+    public CompletableFuture<Void> append(Operation operation, EntityType type, String id, Object entity) {
+        byte[] payload = operation == Operation.PUT ? toJson(entity) : new byte[0];
+        PendingWrite write = new PendingWrite(encode(nextLsn.getAndIncrement(), operation, type, id, payload));
+        if (!running) {
+            write.done.completeExceptionally(new IllegalStateException("Write-ahead log is not open"));
+            return write.done;
+        }
+        queue.add(write);
+        return write.done;
+    }
+
+    public long lastLsn() {
+        return nextLsn.get() - 1;
+    }
+
+    /**
+     * The segment records are currently appended to, or null if the log is
+     * not open.
+     */
+    public Path currentSegment() {
+        return currentSegment;
+    }
+
+    /**
+     * Closes the current segment and continues in a new one, so older
+     * segments can be dropped once a snapshot covers them.
+     *
+     * @return the new segment
+     */
+    public Path rotate() throws IOException {
+        synchronized (channelLock) {
+            if (fsync) {
+                channel.force(false);
+            }
+            channel.close();
+            channel = openSegment(nextLsn.get());
+            return currentSegment;
+        }
+    }
+
+    /**
+     * Segments the log currently consists of, oldest first.
+     */
+    public List<Path> segments() throws IOException {
+        return Files.isDirectory(directory) ? listSegments() : List.of();
+    }
+
+    /**
+     * Deletes all segments older than the given one.
+     */
+    public void deleteSegmentsBefore(Path segment) throws IOException {
+        String boundary = segment.getFileName().toString();
+        for (Path older : listSegments()) {
+            if (older.getFileName().toString().compareTo(boundary) < 0) {
+                Files.deleteIfExists(older);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            thread = flusher;
+        }
+        // no interrupt: it would close the channel under a pending write
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        PendingWrite late;
+        while ((late = queue.poll()) != null) {
+            late.done.completeExceptionally(new IllegalStateException("Write-ahead log is closed"));
+        }
+        synchronized (channelLock) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Closing write-ahead log failed", e);
+            }
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<PendingWrite> batch) throws InterruptedException {
+        queue.drainTo(batch, batchSize - batch.size());
+        long deadline = System.nanoTime() + batchDelayNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        long remaining = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.wrap(batch.get(i).frame);
+            remaining += buffers[i].remaining();
+        }
+        try {
+            synchronized (channelLock) {
+                while (remaining > 0) {
+                    long written = channel.write(buffers);
+                    remaining -= written;
+                    segmentBytes += written;
+                }
+                if (fsync) {
+                    channel.force(false);
+                }
+            }
+            for (PendingWrite write : batch) {
+                write.done.complete(null);
+            }
+        } catch (IOException e) {
+            log.error("Writing {} WAL records failed", batch.size(), e);
+            for (PendingWrite write : batch) {
+                write.done.completeExceptionally(e);
+            }
+        }
+        rotateIfFull();
+    }
+
+    private void rotateIfFull() {
+        synchronized (channelLock) {
+            if (segmentBytes < segmentSize) {
+                return;
+            }
+            try {
+                rotate();
+            } catch (IOException e) {
+                log.error("Rotating WAL segment {} failed", currentSegment, e);
+            }
+        }
+    }
+
+    private byte[] toJson(Object entity) {
+        try {
+            return objectMapper.writeValueAsBytes(entity);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static byte[] encode(long lsn, Operation operation, EntityType type, String id, byte[] payload) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        int bodyLength = Long.BYTES + 2 + Short.BYTES + idBytes.length + payload.length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        buffer.putInt(bodyLength);
+        buffer.putInt(0);
+        buffer.putLong(lsn);
+        buffer.put((byte) operation.ordinal());
+        buffer.put(type.getCode());
+        buffer.putShort((short) idBytes.length);
+        buffer.put(idBytes);
+        buffer.put(payload);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, bodyLength);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    private long readSegment(Path segment, Consumer<WalRecord> consumer) throws IOException {
+        long records = 0;
+        long offset = 0;
+        byte[] header = new byte[HEADER_BYTES];
+        CRC32 crc = new CRC32();
+        try (FileChannel file = FileChannel.open(segment, StandardOpenOption.READ);
+             InputStream in = new BufferedInputStream(Channels.newInputStream(file), READ_BUFFER_BYTES)) {
+            while (in.readNBytes(header, 0, HEADER_BYTES) == HEADER_BYTES) {
+                ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+                int bodyLength = headerBuffer.getInt();
+                int checksum = headerBuffer.getInt();
+                byte[] body = bodyLength > 0 && bodyLength <= MAX_RECORD_BYTES ? in.readNBytes(bodyLength) : null;
+                if (body == null || body.length < bodyLength) {
+                    log.warn("Truncated WAL record at offset {} in {}, ignoring the rest", offset, segment);
+                    return records;
+                }
+                crc.reset();
+                crc.update(body, 0, bodyLength);
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("Corrupt WAL record at offset {} in {}, ignoring the rest", offset, segment);
+                    return records;
+                }
+                consumer.accept(decode(body));
+                records++;
+                offset += HEADER_BYTES + bodyLength;
+            }
+        }
+        return records;
+    }
+
+    private static WalRecord decode(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        long lsn = buffer.getLong();
+        Operation operation = Operation.values()[buffer.get()];
+        EntityType type = EntityType.fromCode(buffer.get());
+        byte[] idBytes = new byte[buffer.getShort()];
+        buffer.get(idBytes);
+        byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+        return new WalRecord(lsn, operation, type, new String(idBytes, StandardCharsets.UTF_8), payload);
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // LSNs are taken when records are queued, so the next LSN can stay put
+    // over several rotations; segment numbers must still grow every time
+    private FileChannel openSegment(long firstLsn) throws IOException {
+        segmentNumber = Math.max(firstLsn, segmentNumber + 1);
+        currentSegment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segmentNumber, SEGMENT_SUFFIX));
+        FileChannel opened = FileChannel.open(currentSegment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        segmentBytes = opened.size();
+        return opened;
+    }
+
+    private static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class PendingWrite {
+        private final byte[] frame;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private PendingWrite(byte[] frame) {
+            this.frame = frame;
+        }
+    }
+}
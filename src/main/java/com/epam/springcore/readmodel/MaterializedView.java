@@ -0,0 +1,96 @@
+package com.epam.springcore.readmodel;
+
+import com.epam.springcore.dto.RevisionDto;
+import com.epam.springcore.storage.StorageListener;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Denormalized projection keyed by entity id. An entry is rebuilt from the
+ * current storage state whenever one of its sources changes; the builder
+ * returns null when the entry should not exist. Rebuilds of one key are
+ * serialized and always read the latest published sources, so the last
+ * rebuild after a burst of writes sees all of them.
+ *
+ * <p>The view counts its refreshes as a revision for conditional requests.
+ * The count is bumped after the entry is published, so a reader that takes
+ * the revision before the entries can see newer entries than the revision
+ * says, never older ones.
+ */
+public class MaterializedView<D> {
+
+    private final ConcurrentMap<String, D> entries = new ConcurrentHashMap<>();
+    private final Function<String, D> builder;
+    // tells revisions of different runs apart, the count restarts at zero
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong refreshes = new AtomicLong();
+    private volatile long lastModified = System.currentTimeMillis();
+
+    public MaterializedView(Function<String, D> builder) {
+        this.builder = builder;
+    }
+
+    public void refresh(String id) {
+        entries.compute(id, (key, current) -> builder.apply(key));
+        lastModified = System.currentTimeMillis();
+        refreshes.incrementAndGet();
+    }
+
+    public D get(String id) {
+        return entries.get(id);
+    }
+
+    public Collection<D> values() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public RevisionDto revision() {
+        String revision = epoch + "-" + refreshes.get();
+        return new RevisionDto(revision, lastModified);
+    }
+
+    /**
+     * Returns a listener that refreshes this view for every id written to
+     * the storage it is added to.
+     */
+    public <V> StorageListener<V> refresher() {
+        return new Refresher<>();
+    }
+
+    /**
+     * Defers the rebuild to {@link #afterWrite()}: inside the entry lock the
+     * new value is not yet visible through the storage.
+     */
+    private final class Refresher<V> implements StorageListener<V> {
+
+        private final ThreadLocal<String> pending = new ThreadLocal<>();
+
+        @Override
+        public void onPut(String id, V value) {
+            pending.set(id);
+        }
+
+        @Override
+        public void onRemove(String id, V removed) {
+            pending.set(id);
+        }
+
+        @Override
+        public void afterWrite() {
+            String id = pending.get();
+            if (id != null) {
+                pending.remove();
+                refresh(id);
+            }
+        }
+    }
+}
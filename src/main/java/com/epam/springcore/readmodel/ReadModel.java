@@ -0,0 +1,86 @@
+package com.epam.springcore.readmodel;
+
+import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.dto.TrainingDto;
+import com.epam.springcore.mapper.DtoMapper;
+import com.epam.springcore.model.Trainee;
+import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.User;
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Materialized DTO views of trainees, trainers and trainings, kept up to date
+ * by storage listeners. Trainee and trainer views join in their {@link User}
+ * and are refreshed when either side changes, so reads need no lookups.
+ * The DTOs are shared and must not be modified by callers.
+ */
+@Component
+public class ReadModel {
+
+    private final MaterializedView<TraineeDto> trainees;
+    private final MaterializedView<TrainerDto> trainers;
+    private final MaterializedView<TrainingDto> trainings;
+
+    @Autowired
+    public ReadModel(UserStorage userStorage,
+                     TraineeStorage traineeStorage,
+                     TrainerStorage trainerStorage,
+                     TrainingStorage trainingStorage) {
+        trainees = new MaterializedView<>(id -> {
+            Trainee trainee = traineeStorage.get(id);
+            User user = userStorage.get(id);
+            return trainee != null && user != null ? DtoMapper.toTraineeDto(trainee, user) : null;
+        });
+        trainers = new MaterializedView<>(id -> {
+            Trainer trainer = trainerStorage.get(id);
+            User user = userStorage.get(id);
+            return trainer != null && user != null ? DtoMapper.toTrainerDto(trainer, user) : null;
+        });
+        trainings = new MaterializedView<>(id -> {
+            Training training = trainingStorage.get(id);
+            return training != null ? DtoMapper.toTrainingDto(training) : null;
+        });
+
+        userStorage.addListener(trainees.refresher());
+        userStorage.addListener(trainers.refresher());
+        traineeStorage.addListener(trainees.refresher());
+        trainerStorage.addListener(trainers.refresher());
+        trainingStorage.addListener(trainings.refresher());
+
+        // storages may already have been restored from disk
+        traineeStorage.values().forEach(trainee -> trainees.refresh(trainee.getUserId()));
+        trainerStorage.values().forEach(trainer -> trainers.refresh(trainer.getUserId()));
+        trainingStorage.values().forEach(training -> trainings.refresh(training.getId()));
+    }
+
+    public TraineeDto trainee(String id) {
+        return trainees.get(id);
+    }
+
+    public TrainerDto trainer(String id) {
+        return trainers.get(id);
+    }
+
+    public TrainingDto training(String id) {
+        return trainings.get(id);
+    }
+
+    public MaterializedView<TraineeDto> trainees() {
+        return trainees;
+    }
+
+    public MaterializedView<TrainerDto> trainers() {
+        return trainers;
+    }
+
+    public MaterializedView<TrainingDto> trainings() {
+        return trainings;
+    }
+}
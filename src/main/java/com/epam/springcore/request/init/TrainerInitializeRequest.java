@@ -5,6 +5,7 @@ import com.epam.springcore.model.enums.TrainingType;
 
 public class TrainerInitializeRequest {
 
+    private String id;
     private String firstName;
     private String lastName;
     private TrainingType specialty;
@@ -14,6 +15,14 @@ public class TrainerInitializeRequest {
 
     public TrainerInitializeRequest(String ahmet, String kaya, TrainingType crossfit) {}
 
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
     public String getFirstName() {
         return firstName;
     }
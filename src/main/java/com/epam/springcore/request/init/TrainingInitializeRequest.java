@@ -2,6 +2,7 @@ package com.epam.springcore.request.init;
 
 public class TrainingInitializeRequest {
 
+    private String id;
     private String traineeId;
     private String trainerId;
     private String date;
@@ -19,6 +20,14 @@ public class TrainingInitializeRequest {
         this.durationMinutes = durationMinutes;
     }
 
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
     public String getTraineeId() {
         return traineeId;
     }
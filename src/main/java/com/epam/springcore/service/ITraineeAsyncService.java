@@ -0,0 +1,57 @@
+package com.epam.springcore.service;
+
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.request.create.CreateTraineeRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link ITraineeService}. Every call returns at
+ * once; the work runs on the service executor and the future completes with
+ * its result, or exceptionally with the exception the blocking call throws.
+ */
+public interface ITraineeAsyncService {
+
+    /**
+     * @see ITraineeService#createTrainee(CreateTraineeRequest)
+     */
+    CompletableFuture<TraineeDto> createTrainee(CreateTraineeRequest request);
+
+    /**
+     * @see ITraineeService#createTrainees(List)
+     */
+    CompletableFuture<BatchResultDto<TraineeDto>> createTrainees(List<CreateTraineeRequest> requests);
+
+    /**
+     * @see ITraineeService#getTrainee(String)
+     */
+    CompletableFuture<TraineeDto> getTrainee(String id);
+
+    /**
+     * @see ITraineeService#getAllTrainees()
+     */
+    CompletableFuture<List<TraineeDto>> getAllTrainees();
+
+    /**
+     * @see ITraineeService#getTraineePage(String, int)
+     */
+    CompletableFuture<PageDto<TraineeDto>> getTraineePage(String after, int limit);
+
+    /**
+     * @see ITraineeService#searchTrainees(String, int)
+     */
+    CompletableFuture<List<TraineeDto>> searchTrainees(String query, int limit);
+
+    /**
+     * @see ITraineeService#updateTrainee(String, CreateTraineeRequest, Long)
+     */
+    CompletableFuture<TraineeDto> updateTrainee(String id, CreateTraineeRequest request, Long expectedVersion);
+
+    /**
+     * @see ITraineeService#deleteTrainee(String)
+     */
+    CompletableFuture<Void> deleteTrainee(String id);
+}
@@ -1,9 +1,13 @@
 package com.epam.springcore.service;
 
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
 import com.epam.springcore.dto.TraineeDto;
 import com.epam.springcore.request.create.CreateTraineeRequest;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service interface for managing Trainee entities.
@@ -18,6 +22,15 @@ public interface ITraineeService {
      */
     TraineeDto createTrainee(CreateTraineeRequest request);
 
+    /**
+     * Creates trainees in bulk. Every item is validated on its own; invalid items
+     * are reported and the valid ones are created in one pass.
+     *
+     * @param requests the items to create
+     * @return per-item results in request order
+     */
+    BatchResultDto<TraineeDto> createTrainees(List<CreateTraineeRequest> requests);
+
     /**
      * Retrieves a trainee by their ID.
      *
@@ -34,16 +47,57 @@ public interface ITraineeService {
     List<TraineeDto> getAllTrainees();
 
     /**
-     * Updates an existing trainee by ID.
+     * Returns the current revision of the trainee collection. It changes with
+     * every trainee write, so clients can poll the collection conditionally.
+     *
+     * @return the revision and the time of the last change
+     */
+    RevisionDto getTraineesRevision();
+
+    /**
+     * Returns one page of trainees ordered by ID.
+     *
+     * @param after the ID to continue after, or null for the first page
+     * @param limit the maximum page size; out of range values are normalized
+     * @return the page and the cursor of the next one
+     */
+    PageDto<TraineeDto> getTraineePage(String after, int limit);
+
+    /**
+     * Finds trainees by partial or misspelled name: first name, last name or
+     * username prefixes first, then similar names. A search checks at most
+     * 10,000 candidate users, so it may return fewer results than
+     * {@code limit} when matches are rare among very common names.
+     *
+     * @param query one or more words; with several, each must prefix a name or the username
+     * @param limit the maximum number of results; out of range values are normalized
+     * @return the best matching Trainee DTOs, best first
+     */
+    List<TraineeDto> searchTrainees(String query, int limit);
+
+    /**
+     * Streams all trainees as DTOs, mapped lazily while the stream is consumed.
+     * The caller must close the stream.
+     *
+     * @return a stream of Trainee DTOs
+     */
+    Stream<TraineeDto> streamTrainees();
+
+    /**
+     * Updates an existing trainee by ID. The update applies only if the trainee is
+     * still at the expected version and bumps its version.
      *
      * @param id the ID of the trainee to update
      * @param request the updated data
+     * @param expectedVersion the version the update is based on, or null to update any version
      * @return the created Trainee as DTO
+     * @throws com.epam.springcore.exception.StaleVersionException if the trainee is at another version
      */
-    TraineeDto updateTrainee(String id, CreateTraineeRequest request);
+    TraineeDto updateTrainee(String id, CreateTraineeRequest request, Long expectedVersion);
 
     /**
-     * Deletes a trainee by their ID.
+     * Deletes a trainee by their ID together with their user and trainings.
+     * Very long training histories may finish deleting after this returns.
      *
      * @param id the ID of the trainee to delete
      */
@@ -0,0 +1,62 @@
+package com.epam.springcore.service;
+
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.request.create.CreateTrainerRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link ITrainerService}. Every call returns at
+ * once; the work runs on the service executor and the future completes with
+ * its result, or exceptionally with the exception the blocking call throws.
+ */
+public interface ITrainerAsyncService {
+
+    /**
+     * @see ITrainerService#createTrainer(CreateTrainerRequest)
+     */
+    CompletableFuture<TrainerDto> createTrainer(CreateTrainerRequest request);
+
+    /**
+     * @see ITrainerService#createTrainers(List)
+     */
+    CompletableFuture<BatchResultDto<TrainerDto>> createTrainers(List<CreateTrainerRequest> requests);
+
+    /**
+     * @see ITrainerService#getTrainer(String)
+     */
+    CompletableFuture<TrainerDto> getTrainer(String id);
+
+    /**
+     * @see ITrainerService#getAllTrainers()
+     */
+    CompletableFuture<List<TrainerDto>> getAllTrainers();
+
+    /**
+     * @see ITrainerService#getTrainerPage(String, int)
+     */
+    CompletableFuture<PageDto<TrainerDto>> getTrainerPage(String after, int limit);
+
+    /**
+     * @see ITrainerService#searchTrainers(String, int)
+     */
+    CompletableFuture<List<TrainerDto>> searchTrainers(String query, int limit);
+
+    /**
+     * @see ITrainerService#findAvailableTrainers(String, String, String)
+     */
+    CompletableFuture<List<TrainerDto>> findAvailableTrainers(String specialization, String from, String to);
+
+    /**
+     * @see ITrainerService#updateTrainer(String, CreateTrainerRequest, Long)
+     */
+    CompletableFuture<TrainerDto> updateTrainer(String id, CreateTrainerRequest request, Long expectedVersion);
+
+    /**
+     * @see ITrainerService#deleteTrainer(String)
+     */
+    CompletableFuture<Void> deleteTrainer(String id);
+}
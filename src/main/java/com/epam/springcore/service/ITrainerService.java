@@ -1,9 +1,13 @@
 package com.epam.springcore.service;
 
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
 import com.epam.springcore.dto.TrainerDto;
 import com.epam.springcore.request.create.CreateTrainerRequest;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service interface for managing Trainer entities.
@@ -18,6 +22,15 @@ public interface ITrainerService {
      */
     TrainerDto createTrainer(CreateTrainerRequest request);
 
+    /**
+     * Creates trainers in bulk. Every item is validated on its own; invalid items
+     * are reported and the valid ones are created in one pass.
+     *
+     * @param requests the items to create
+     * @return per-item results in request order
+     */
+    BatchResultDto<TrainerDto> createTrainers(List<CreateTrainerRequest> requests);
+
     /**
      * Retrieves a trainer by their ID.
      *
@@ -34,16 +47,68 @@ public interface ITrainerService {
     List<TrainerDto> getAllTrainers();
 
     /**
-     * Updates an existing trainer by ID.
+     * Returns the current revision of the trainer collection. It changes with
+     * every trainer write, so clients can poll the collection conditionally.
+     *
+     * @return the revision and the time of the last change
+     */
+    RevisionDto getTrainersRevision();
+
+    /**
+     * Returns one page of trainers ordered by ID.
+     *
+     * @param after the ID to continue after, or null for the first page
+     * @param limit the maximum page size; out of range values are normalized
+     * @return the page and the cursor of the next one
+     */
+    PageDto<TrainerDto> getTrainerPage(String after, int limit);
+
+    /**
+     * Finds trainers by partial or misspelled name: first name, last name or
+     * username prefixes first, then similar names. A search checks at most
+     * 10,000 candidate users, so it may return fewer results than
+     * {@code limit} when matches are rare among very common names.
+     *
+     * @param query one or more words; with several, each must prefix a name or the username
+     * @param limit the maximum number of results; out of range values are normalized
+     * @return the best matching Trainer DTOs, best first
+     */
+    List<TrainerDto> searchTrainers(String query, int limit);
+
+    /**
+     * Streams all trainers as DTOs, mapped lazily while the stream is consumed.
+     * The caller must close the stream.
+     *
+     * @return a stream of Trainer DTOs
+     */
+    Stream<TrainerDto> streamTrainers();
+
+    /**
+     * Finds the trainers of a specialization with no training overlapping
+     * the given time slot.
+     *
+     * @param specialization the training type, case-insensitive
+     * @param from the slot start as ISO date-time
+     * @param to the slot end as ISO date-time, exclusive
+     * @return the free trainers ordered by ID
+     */
+    List<TrainerDto> findAvailableTrainers(String specialization, String from, String to);
+
+    /**
+     * Updates an existing trainer by ID. The update applies only if the trainer is
+     * still at the expected version and bumps its version.
      *
      * @param id the ID of the trainer to update
      * @param request the updated data
+     * @param expectedVersion the version the update is based on, or null to update any version
      * @return the found Trainer DTO or null if not found
+     * @throws com.epam.springcore.exception.StaleVersionException if the trainer is at another version
      */
-    TrainerDto updateTrainer(String id, CreateTrainerRequest request);
+    TrainerDto updateTrainer(String id, CreateTrainerRequest request, Long expectedVersion);
 
     /**
-     * Deletes a trainer by their ID.
+     * Deletes a trainer by their ID together with their user and trainings.
+     * Very long training histories may finish deleting after this returns.
      *
      * @param id the ID of the trainer to delete
      */
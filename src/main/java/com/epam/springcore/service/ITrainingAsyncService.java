@@ -0,0 +1,68 @@
+package com.epam.springcore.service;
+
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.TrainerMinutesDto;
+import com.epam.springcore.dto.TrainingDto;
+import com.epam.springcore.request.create.CreateTrainingRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link ITrainingService}. Every call returns at
+ * once; the work runs on the service executor and the future completes with
+ * its result, or exceptionally with the exception the blocking call throws.
+ */
+public interface ITrainingAsyncService {
+
+    /**
+     * @see ITrainingService#createTraining(CreateTrainingRequest)
+     */
+    CompletableFuture<TrainingDto> createTraining(CreateTrainingRequest request);
+
+    /**
+     * @see ITrainingService#createTrainings(List)
+     */
+    CompletableFuture<BatchResultDto<TrainingDto>> createTrainings(List<CreateTrainingRequest> requests);
+
+    /**
+     * @see ITrainingService#getTraining(String)
+     */
+    CompletableFuture<TrainingDto> getTraining(String id);
+
+    /**
+     * @see ITrainingService#getAllTrainings()
+     */
+    CompletableFuture<List<TrainingDto>> getAllTrainings();
+
+    /**
+     * @see ITrainingService#getTrainingPage(String, int)
+     */
+    CompletableFuture<PageDto<TrainingDto>> getTrainingPage(String after, int limit);
+
+    /**
+     * @see ITrainingService#searchTrainings(String, String, String, String)
+     */
+    CompletableFuture<List<TrainingDto>> searchTrainings(String traineeId, String trainerId, String date, String type);
+
+    /**
+     * @see ITrainingService#getTrainingsInRange(String, String)
+     */
+    CompletableFuture<List<TrainingDto>> getTrainingsInRange(String from, String to);
+
+    /**
+     * @see ITrainingService#getTrainerMinutes(String, String)
+     */
+    CompletableFuture<TrainerMinutesDto> getTrainerMinutes(String trainerId, String month);
+
+    /**
+     * @see ITrainingService#updateTraining(String, CreateTrainingRequest, Long)
+     */
+    CompletableFuture<TrainingDto> updateTraining(String id, CreateTrainingRequest request, Long expectedVersion);
+
+    /**
+     * @see ITrainingService#deleteTraining(String)
+     */
+    CompletableFuture<Void> deleteTraining(String id);
+}
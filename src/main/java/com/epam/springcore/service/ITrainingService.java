@@ -1,9 +1,14 @@
 package com.epam.springcore.service;
 
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
+import com.epam.springcore.dto.TrainerMinutesDto;
 import com.epam.springcore.dto.TrainingDto;
 import com.epam.springcore.request.create.CreateTrainingRequest;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service interface for managing Training entities.
@@ -18,6 +23,15 @@ public interface ITrainingService {
      */
     TrainingDto createTraining(CreateTrainingRequest request);
 
+    /**
+     * Creates trainings in bulk. Every item is validated on its own; invalid items
+     * are reported and the valid ones are created in one pass.
+     *
+     * @param requests the items to create
+     * @return per-item results in request order
+     */
+    BatchResultDto<TrainingDto> createTrainings(List<CreateTrainingRequest> requests);
+
     /**
      * Retrieves a training session by its ID.
      *
@@ -34,13 +48,73 @@ public interface ITrainingService {
     List<TrainingDto> getAllTrainings();
 
     /**
-     * Updates an existing training session by ID.
+     * Returns the current revision of the training collection. It changes with
+     * every training write, so clients can poll the collection conditionally.
+     *
+     * @return the revision and the time of the last change
+     */
+    RevisionDto getTrainingsRevision();
+
+    /**
+     * Returns one page of trainings ordered by ID.
+     *
+     * @param after the ID to continue after, or null for the first page
+     * @param limit the maximum page size; out of range values are normalized
+     * @return the page and the cursor of the next one
+     */
+    PageDto<TrainingDto> getTrainingPage(String after, int limit);
+
+    /**
+     * Streams all trainings as DTOs, mapped lazily while the stream is consumed.
+     * The caller must close the stream.
+     *
+     * @return a stream of Training DTOs
+     */
+    Stream<TrainingDto> streamTrainings();
+
+    /**
+     * Finds trainings matching all of the given criteria using the training indexes.
+     * Null criteria are ignored; when every criterion is null all trainings are returned.
+     *
+     * @param traineeId the trainee ID to match, or null
+     * @param trainerId the trainer ID to match, or null
+     * @param date      the ISO day, or the exact ISO date-time, the training starts on; or null
+     * @param type      the training type to match, or null
+     * @return a collection of matching Training DTOs
+     */
+    List<TrainingDto> searchTrainings(String traineeId, String trainerId, String date, String type);
+
+    /**
+     * Returns the trainings starting in the half-open range {@code [from, to)},
+     * ordered by start. Both bounds are ISO dates (midnight) or date-times.
+     *
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range
+     * @return the Training DTOs in start order
+     */
+    List<TrainingDto> getTrainingsInRange(String from, String to);
+
+    /**
+     * Returns the total minutes of the trainer's trainings starting in the given
+     * month, read from a running aggregate rather than summed per request.
+     *
+     * @param trainerId the trainer ID
+     * @param month     the calendar month as {@code yyyy-MM}
+     * @return the trainer's minutes in that month, zero if there are none
+     */
+    TrainerMinutesDto getTrainerMinutes(String trainerId, String month);
+
+    /**
+     * Updates an existing training session by ID. The update applies only if the training is
+     * still at the expected version and bumps its version.
      *
      * @param id      the ID of the training to update
      * @param request the updated data
+     * @param expectedVersion the version the update is based on, or null to update any version
      * @return the found Training DTO or null if not found
+     * @throws com.epam.springcore.exception.StaleVersionException if the training is at another version
      */
-    TrainingDto updateTraining(String id, CreateTrainingRequest request);
+    TrainingDto updateTraining(String id, CreateTrainingRequest request, Long expectedVersion);
 
     /**
      * Deletes a training session by its ID.
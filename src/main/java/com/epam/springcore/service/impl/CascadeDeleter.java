@@ -0,0 +1,98 @@
+package com.epam.springcore.service.impl;
+
+import com.epam.springcore.dao.TrainingDao;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Deletes the trainings of a removed trainee or trainer. The ids come from
+ * the training indexes, so the cost is proportional to the number of
+ * dependents. Histories longer than {@code cascade.async-threshold} are
+ * deleted on the service executor, so the request does not wait for them.
+ *
+ * <p>The profile must be deleted first: bookings for a missing trainee or
+ * trainer are rejected, and the ids are read once the bookings already in
+ * progress have finished, so no training of the profile is left behind.
+ */
+@Component
+public class CascadeDeleter {
+
+    private static final Logger log = LoggerFactory.getLogger(CascadeDeleter.class);
+
+    private final TrainingDao trainingDao;
+    private final Executor executor;
+    private final int asyncThreshold;
+    private final Set<CompletableFuture<Void>> running = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CascadeDeleter(TrainingDao trainingDao,
+                          @Qualifier("serviceExecutor") Executor executor,
+                          @Value("${cascade.async-threshold:10000}") int asyncThreshold) {
+        this.trainingDao = trainingDao;
+        this.executor = executor;
+        this.asyncThreshold = asyncThreshold;
+    }
+
+    /**
+     * @return the number of trainings deleted or queued for deletion
+     */
+    public int deleteTrainingsOfTrainee(String traineeId) {
+        trainingDao.awaitBookings(traineeId);
+        return delete("trainee " + traineeId, trainingDao.findIdsByTraineeId(traineeId));
+    }
+
+    /**
+     * @return the number of trainings deleted or queued for deletion
+     */
+    public int deleteTrainingsOfTrainer(String trainerId) {
+        trainingDao.awaitBookings(trainerId);
+        return delete("trainer " + trainerId, trainingDao.findIdsByTrainerId(trainerId));
+    }
+
+    private int delete(String owner, List<String> trainingIds) {
+        if (asyncThreshold > 0 && trainingIds.size() > asyncThreshold) {
+            log.info("Deleting {} trainings of {} in the background", trainingIds.size(), owner);
+            CompletableFuture<Void> deletion = CompletableFuture.runAsync(() -> {
+                trainingIds.forEach(trainingDao::delete);
+                log.info("Deleted {} trainings of {}", trainingIds.size(), owner);
+            }, executor);
+            running.add(deletion);
+            deletion.whenComplete((ignored, failure) -> {
+                running.remove(deletion);
+                if (failure != null) {
+                    log.error("Deleting the trainings of {} failed", owner, failure);
+                }
+            });
+        } else {
+            trainingIds.forEach(trainingDao::delete);
+            log.debug("Deleted {} trainings of {}", trainingIds.size(), owner);
+        }
+        return trainingIds.size();
+    }
+
+    // gives background deletes a chance to finish before the context, and the executor, go away
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        try {
+            CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            // already logged by the failed deletion
+        } catch (TimeoutException e) {
+            log.warn("Background cascade deletes still running at shutdown");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.springcore.service.impl;
+
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.request.create.CreateTraineeRequest;
+import com.epam.springcore.service.ITraineeAsyncService;
+import com.epam.springcore.service.ITraineeService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Service
+public class TraineeAsyncServiceImpl implements ITraineeAsyncService {
+
+    private final ITraineeService traineeService;
+    private final Executor executor;
+
+    public TraineeAsyncServiceImpl(ITraineeService traineeService, @Qualifier("serviceExecutor") Executor executor) {
+        this.traineeService = traineeService;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<TraineeDto> createTrainee(CreateTraineeRequest request) {
+        return CompletableFuture.supplyAsync(() -> traineeService.createTrainee(request), executor);
+    }
+
+    @Override
+    public CompletableFuture<BatchResultDto<TraineeDto>> createTrainees(List<CreateTraineeRequest> requests) {
+        return CompletableFuture.supplyAsync(() -> traineeService.createTrainees(requests), executor);
+    }
+
+    @Override
+    public CompletableFuture<TraineeDto> getTrainee(String id) {
+        return CompletableFuture.supplyAsync(() -> traineeService.getTrainee(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<TraineeDto>> getAllTrainees() {
+        return CompletableFuture.supplyAsync(traineeService::getAllTrainees, executor);
+    }
+
+    @Override
+    public CompletableFuture<PageDto<TraineeDto>> getTraineePage(String after, int limit) {
+        return CompletableFuture.supplyAsync(() -> traineeService.getTraineePage(after, limit), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<TraineeDto>> searchTrainees(String query, int limit) {
+        return CompletableFuture.supplyAsync(() -> traineeService.searchTrainees(query, limit), executor);
+    }
+
+    @Override
+    public CompletableFuture<TraineeDto> updateTrainee(String id, CreateTraineeRequest request, Long expectedVersion) {
+        return CompletableFuture.supplyAsync(() -> traineeService.updateTrainee(id, request, expectedVersion), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteTrainee(String id) {
+        return CompletableFuture.runAsync(() -> traineeService.deleteTrainee(id), executor);
+    }
+}
@@ -2,19 +2,29 @@ package com.epam.springcore.service.impl;
 
 import com.epam.springcore.dao.TraineeDao;
 import com.epam.springcore.dao.UserDao;
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
 import com.epam.springcore.dto.TraineeDto;
 import com.epam.springcore.exception.GymNotFoundException;
+import com.epam.springcore.mapper.DtoMapper;
 import com.epam.springcore.model.Trainee;
 import com.epam.springcore.model.User;
 import com.epam.springcore.request.create.CreateTraineeRequest;
 import com.epam.springcore.service.ITraineeService;
+import com.epam.springcore.util.BatchValidator;
 import com.epam.springcore.util.CredentialGenerator;
+import com.epam.springcore.util.Pagination;
+import com.epam.springcore.util.Versions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Service
 public class TraineeServiceImpl implements ITraineeService {
@@ -23,70 +33,146 @@ public class TraineeServiceImpl implements ITraineeService {
 
     private final TraineeDao traineeDao;
     private final UserDao userDao;
+    private final BatchValidator batchValidator;
+    private final CascadeDeleter cascadeDeleter;
 
-    public TraineeServiceImpl(TraineeDao traineeDao, UserDao userDao) {
+    public TraineeServiceImpl(TraineeDao traineeDao, UserDao userDao, BatchValidator batchValidator,
+                              CascadeDeleter cascadeDeleter) {
         this.traineeDao = traineeDao;
         this.userDao = userDao;
+        this.batchValidator = batchValidator;
+        this.cascadeDeleter = cascadeDeleter;
     }
 
     @Override
     public TraineeDto createTrainee(CreateTraineeRequest request) {
         log.info("Creating new trainee: {} {}", request.getFirstName(), request.getLastName());
 
-        User user = new User(request.getFirstName(), request.getLastName(), traineeDao.findAll());
+        String username = userDao.generateUsername(request.getFirstName(), request.getLastName());
+        User user = new User(request.getFirstName(), request.getLastName(), username);
         userDao.save(user);
 
         Trainee trainee = new Trainee(request.getDateOfBirth(), request.getAddress(), user.getId());
         Trainee saved = traineeDao.save(trainee);
 
         log.debug("Trainee saved with userId={}", user.getId());
-        return toDto(saved, user);
+        return DtoMapper.toTraineeDto(saved, user);
+    }
+
+    @Override
+    public BatchResultDto<TraineeDto> createTrainees(List<CreateTraineeRequest> requests) {
+        List<Map<String, String>> errors = batchValidator.validate(requests);
+        log.info("Creating {} trainees in bulk", requests.size());
+
+        List<User> users = new ArrayList<>(requests.size());
+        List<CreateTraineeRequest> accepted = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors.get(i) == null) {
+                CreateTraineeRequest request = requests.get(i);
+                String username = userDao.generateUsername(request.getFirstName(), request.getLastName());
+                users.add(new User(request.getFirstName(), request.getLastName(), username));
+                accepted.add(request);
+            }
+        }
+        userDao.saveAll(users);
+
+        List<Trainee> trainees = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            CreateTraineeRequest request = accepted.get(i);
+            trainees.add(new Trainee(request.getDateOfBirth(), request.getAddress(), users.get(i).getId()));
+        }
+        traineeDao.saveAll(trainees);
+
+        List<TraineeDto> created = new ArrayList<>(trainees.size());
+        for (int i = 0; i < trainees.size(); i++) {
+            created.add(DtoMapper.toTraineeDto(trainees.get(i), users.get(i)));
+        }
+        log.debug("Created {} of {} trainees", created.size(), requests.size());
+        return BatchValidator.result(errors, created);
     }
 
     @Override
     public TraineeDto getTrainee(String id) {
         log.info("Fetching trainee with ID: {}", id);
-        Trainee trainee = traineeDao.findById(id);
+        TraineeDto trainee = traineeDao.findViewById(id);
         if (trainee == null) {
             log.warn("Trainee with ID {} not found", id);
             throw  new GymNotFoundException("Trainee not found");
         }
-        User user = userDao.findById(trainee.getUserId());
-        return toDto(trainee, user);
+        return trainee;
     }
 
     @Override
     public List<TraineeDto> getAllTrainees() {
         log.info("Fetching all trainees");
-        List<Trainee> trainees = (List<Trainee>) traineeDao.findAll();
-        List<TraineeDto> dtoList = new ArrayList<>();
+        return traineeDao.findAllViews();
+    }
 
-        for (Trainee trainee : trainees) {
-            User user = userDao.findById(trainee.getUserId());
-            dtoList.add(toDto(trainee, user));
-        }
+    @Override
+    public RevisionDto getTraineesRevision() {
+        return traineeDao.findViewsRevision();
+    }
+
+    @Override
+    public PageDto<TraineeDto> getTraineePage(String after, int limit) {
+        int size = Pagination.limit(limit);
+        log.info("Fetching trainee page after={} limit={}", after, size);
+        return traineeDao.findViewPage(after, size);
+    }
 
-        return dtoList;
+    @Override
+    public List<TraineeDto> searchTrainees(String query, int limit) {
+        int size = Pagination.limit(limit);
+        log.info("Searching trainees query={} limit={}", query, size);
+        return userDao.searchIds(query, size, id -> traineeDao.findViewById(id) != null).stream()
+                .map(traineeDao::findViewById)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
-    public TraineeDto updateTrainee(String id, CreateTraineeRequest request) {
+    public Stream<TraineeDto> streamTrainees() {
+        log.info("Streaming all trainees");
+        return traineeDao.streamViews();
+    }
+
+    @Override
+    public TraineeDto updateTrainee(String id, CreateTraineeRequest request, Long expectedVersion) {
         log.info("Updating trainee with ID: {}", id);
         Trainee existingTrainee = checkTraineeExist(id);
-        User existingUser = userDao.findById(existingTrainee.getUserId());
-        existingUser.setFirstName(request.getFirstName());
-        existingUser.setLastName(request.getLastName());
-        existingUser.setUsername( CredentialGenerator.generateUsername(request
-                .getFirstName(), request.getLastName(),traineeDao.findAll()));
-        userDao.save(existingUser);
-        existingTrainee.setDateOfBirth(request.getDateOfBirth());
-        existingTrainee.setAddress(request.getAddress());
-
-        Trainee updated = traineeDao.save(existingTrainee);
-
-        User user = userDao.findById(existingTrainee.getUserId());
-        log.debug("Trainee with ID {} updated", id);
-        return toDto(updated, user);
+        User existingUser = checkUserExist(existingTrainee.getUserId(), id);
+        Versions.check(DtoMapper.viewVersion(existingTrainee, existingUser), expectedVersion, "Trainee " + id);
+        long version = existingTrainee.getVersion();
+        long userVersion = existingUser.getVersion();
+
+        // cached instances are shared with readers, so the update saves fresh copies
+        Trainee trainee = new Trainee(request.getDateOfBirth(), request.getAddress(), existingTrainee.getUserId());
+        if (!traineeDao.saveIfVersion(trainee, version)) {
+            log.warn("Update of trainee {} lost a race at version {}", id, version);
+            throw Versions.concurrentUpdate("Trainee " + id, expectedVersion);
+        }
+        User user = new User(existingUser);
+        boolean renamed = isRenamed(user, request.getFirstName(), request.getLastName());
+        if (renamed) {
+            user.setUsername(userDao.generateUsername(request.getFirstName(), request.getLastName()));
+        }
+        user.setFirstName(request.getFirstName());
+        user.setLastName(request.getLastName());
+        if (!userDao.saveIfVersion(user, userVersion)) {
+            log.warn("Update of trainee {} lost a race on its user at version {}", id, userVersion);
+            if (renamed) {
+                userDao.releaseUsername(user.getUsername());
+            }
+            // puts the old profile back unless someone else has written it since
+            traineeDao.saveIfVersion(new Trainee(existingTrainee.getDateOfBirth(), existingTrainee.getAddress(),
+                    existingTrainee.getUserId()), version + 1);
+            checkUserExist(user.getId(), id);
+            throw Versions.concurrentUpdate("Trainee " + id, expectedVersion);
+        }
+
+        TraineeDto updated = DtoMapper.toTraineeDto(trainee, user);
+        log.debug("Trainee with ID {} updated to version {}", id, updated.getVersion());
+        return updated;
     }
 
     @Override
@@ -94,7 +180,9 @@ public class TraineeServiceImpl implements ITraineeService {
         log.info("Deleting trainee with ID: {}", id);
         checkTraineeExist(id);
         traineeDao.delete(id);
-        log.debug("Trainee with ID {} deleted", id);
+        userDao.delete(id);
+        int trainings = cascadeDeleter.deleteTrainingsOfTrainee(id);
+        log.debug("Trainee with ID {} deleted with its user and {} trainings", id, trainings);
     }
 
     private Trainee checkTraineeExist(String id) {
@@ -106,13 +194,17 @@ public class TraineeServiceImpl implements ITraineeService {
         return existingTrainee;
     }
 
-    private TraineeDto toDto(Trainee trainee, User user) {
-        TraineeDto dto = new TraineeDto();
-        dto.setId(trainee.getUserId());
-        dto.setFirstName(user.getFirstName());
-        dto.setLastName(user.getLastName());
-        dto.setDateOfBirth(trainee.getDateOfBirth());
-        dto.setAddress(trainee.getAddress());
-        return dto;
+    private User checkUserExist(String userId, String traineeId) {
+        User user = userDao.findById(userId);
+        if (user == null) {
+            log.error("User of trainee with ID {} not found", traineeId);
+            throw new GymNotFoundException("Trainee with ID: " + traineeId + " not found");
+        }
+        return user;
+    }
+
+    private boolean isRenamed(User user, String firstName, String lastName) {
+        return !CredentialGenerator.baseUsername(firstName, lastName)
+                .equalsIgnoreCase(CredentialGenerator.baseUsername(user.getFirstName(), user.getLastName()));
     }
 }
\ No newline at end of file
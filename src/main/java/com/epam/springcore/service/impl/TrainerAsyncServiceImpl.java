@@ -0,0 +1,71 @@
+package com.epam.springcore.service.impl;
+
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.request.create.CreateTrainerRequest;
+import com.epam.springcore.service.ITrainerAsyncService;
+import com.epam.springcore.service.ITrainerService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Service
+public class TrainerAsyncServiceImpl implements ITrainerAsyncService {
+
+    private final ITrainerService trainerService;
+    private final Executor executor;
+
+    public TrainerAsyncServiceImpl(ITrainerService trainerService, @Qualifier("serviceExecutor") Executor executor) {
+        this.trainerService = trainerService;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<TrainerDto> createTrainer(CreateTrainerRequest request) {
+        return CompletableFuture.supplyAsync(() -> trainerService.createTrainer(request), executor);
+    }
+
+    @Override
+    public CompletableFuture<BatchResultDto<TrainerDto>> createTrainers(List<CreateTrainerRequest> requests) {
+        return CompletableFuture.supplyAsync(() -> trainerService.createTrainers(requests), executor);
+    }
+
+    @Override
+    public CompletableFuture<TrainerDto> getTrainer(String id) {
+        return CompletableFuture.supplyAsync(() -> trainerService.getTrainer(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<TrainerDto>> getAllTrainers() {
+        return CompletableFuture.supplyAsync(trainerService::getAllTrainers, executor);
+    }
+
+    @Override
+    public CompletableFuture<PageDto<TrainerDto>> getTrainerPage(String after, int limit) {
+        return CompletableFuture.supplyAsync(() -> trainerService.getTrainerPage(after, limit), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<TrainerDto>> searchTrainers(String query, int limit) {
+        return CompletableFuture.supplyAsync(() -> trainerService.searchTrainers(query, limit), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<TrainerDto>> findAvailableTrainers(String specialization, String from, String to) {
+        return CompletableFuture.supplyAsync(() -> trainerService.findAvailableTrainers(specialization, from, to), executor);
+    }
+
+    @Override
+    public CompletableFuture<TrainerDto> updateTrainer(String id, CreateTrainerRequest request, Long expectedVersion) {
+        return CompletableFuture.supplyAsync(() -> trainerService.updateTrainer(id, request, expectedVersion), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteTrainer(String id) {
+        return CompletableFuture.runAsync(() -> trainerService.deleteTrainer(id), executor);
+    }
+}
@@ -1,92 +1,207 @@
 package com.epam.springcore.service.impl;
 
 import com.epam.springcore.dao.TrainerDao;
+import com.epam.springcore.dao.TrainingDao;
 import com.epam.springcore.dao.UserDao;
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
 import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.exception.ApiException;
 import com.epam.springcore.exception.GymNotFoundException;
+import com.epam.springcore.mapper.DtoMapper;
 import com.epam.springcore.model.Trainer;
 import com.epam.springcore.model.User;
+import com.epam.springcore.model.enums.TrainingType;
 import com.epam.springcore.request.create.CreateTrainerRequest;
 import com.epam.springcore.service.ITrainerService;
+import com.epam.springcore.util.BatchValidator;
 import com.epam.springcore.util.CredentialGenerator;
+import com.epam.springcore.util.Pagination;
+import com.epam.springcore.util.TrainingTimes;
+import com.epam.springcore.util.Versions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class TrainerServiceImpl implements ITrainerService {
     private static final Logger log = LoggerFactory.getLogger(TrainerServiceImpl.class);
     private final TrainerDao trainerDao;
     private final UserDao userDao;
+    private final TrainingDao trainingDao;
+    private final BatchValidator batchValidator;
+    private final CascadeDeleter cascadeDeleter;
 
-    public TrainerServiceImpl(TrainerDao trainerDao, UserDao userDao) {
+    public TrainerServiceImpl(TrainerDao trainerDao, UserDao userDao, TrainingDao trainingDao,
+                              BatchValidator batchValidator, CascadeDeleter cascadeDeleter) {
         this.trainerDao = trainerDao;
         this.userDao = userDao;
+        this.trainingDao = trainingDao;
+        this.batchValidator = batchValidator;
+        this.cascadeDeleter = cascadeDeleter;
     }
 
     @Override
     public TrainerDto createTrainer(CreateTrainerRequest request) {
         log.info("Creating new trainer: {} {}", request.getFirstName(), request.getLastName());
 
-        User user = new User(request.getFirstName(), request.getLastName(), trainerDao.findAll());
+        String username = userDao.generateUsername(request.getFirstName(), request.getLastName());
+        User user = new User(request.getFirstName(), request.getLastName(), username);
         userDao.save(user);
 
         Trainer trainer = new Trainer(request.getSpecialty(), user.getId());
         Trainer savedTrainer = trainerDao.save(trainer);
 
         log.debug("Trainer saved with userId={}", user.getId());
-        return getTrainerDto(savedTrainer, user);
+        return DtoMapper.toTrainerDto(savedTrainer, user);
+    }
+
+    @Override
+    public BatchResultDto<TrainerDto> createTrainers(List<CreateTrainerRequest> requests) {
+        List<Map<String, String>> errors = batchValidator.validate(requests);
+        log.info("Creating {} trainers in bulk", requests.size());
+
+        List<User> users = new ArrayList<>(requests.size());
+        List<CreateTrainerRequest> accepted = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors.get(i) == null) {
+                CreateTrainerRequest request = requests.get(i);
+                String username = userDao.generateUsername(request.getFirstName(), request.getLastName());
+                users.add(new User(request.getFirstName(), request.getLastName(), username));
+                accepted.add(request);
+            }
+        }
+        userDao.saveAll(users);
+
+        List<Trainer> trainers = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            trainers.add(new Trainer(accepted.get(i).getSpecialty(), users.get(i).getId()));
+        }
+        trainerDao.saveAll(trainers);
+
+        List<TrainerDto> created = new ArrayList<>(trainers.size());
+        for (int i = 0; i < trainers.size(); i++) {
+            created.add(DtoMapper.toTrainerDto(trainers.get(i), users.get(i)));
+        }
+        log.debug("Created {} of {} trainers", created.size(), requests.size());
+        return BatchValidator.result(errors, created);
     }
 
     @Override
     public TrainerDto getTrainer(String id) {
         log.info("Fetching trainer with ID: {}", id);
-        Trainer trainer = trainerDao.findById(id);
+        TrainerDto trainer = trainerDao.findViewById(id);
         if (trainer == null) {
             log.warn("Trainer with ID {} not found", id);
             throw  new GymNotFoundException("Trainer not found");
-
         }
-
-        User user = userDao.findById(trainer.getUserId());
-        return getTrainerDto(trainer, user);
+        return trainer;
     }
 
     @Override
     public List<TrainerDto> getAllTrainers() {
         log.info("Fetching all trainers");
-        List<Trainer> trainers = (List<Trainer>) trainerDao.findAll();
-        List<TrainerDto> dtoList = new ArrayList<>();
+        return trainerDao.findAllViews();
+    }
+
+    @Override
+    public RevisionDto getTrainersRevision() {
+        return trainerDao.findViewsRevision();
+    }
+
+    @Override
+    public PageDto<TrainerDto> getTrainerPage(String after, int limit) {
+        int size = Pagination.limit(limit);
+        log.info("Fetching trainer page after={} limit={}", after, size);
+        return trainerDao.findViewPage(after, size);
+    }
+
+    @Override
+    public List<TrainerDto> searchTrainers(String query, int limit) {
+        int size = Pagination.limit(limit);
+        log.info("Searching trainers query={} limit={}", query, size);
+        return userDao.searchIds(query, size, id -> trainerDao.findViewById(id) != null).stream()
+                .map(trainerDao::findViewById)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-        for (Trainer trainer : trainers) {
-            User user = userDao.findById(trainer.getUserId());
-            dtoList.add(getTrainerDto(trainer, user));
+    @Override
+    public Stream<TrainerDto> streamTrainers() {
+        log.info("Streaming all trainers");
+        return trainerDao.streamViews();
+    }
+
+    @Override
+    public List<TrainerDto> findAvailableTrainers(String specialization, String from, String to) {
+        log.info("Finding {} trainers free from {} to {}", specialization, from, to);
+        TrainingType type = parseSpecialization(specialization);
+        long start = parseSlotTime(from);
+        long end = parseSlotTime(to);
+        if (end <= start) {
+            throw new ApiException("Slot end must be after its start", HttpStatus.BAD_REQUEST);
         }
 
-        return dtoList;
+        // the busy set comes from one scan of the slot, not a lookup per trainer
+        Set<String> booked = trainingDao.findBookedTrainerIds(start, end);
+        List<TrainerDto> available = new ArrayList<>();
+        for (String trainerId : trainerDao.findIdsBySpecialization(type)) {
+            if (!booked.contains(trainerId)) {
+                TrainerDto trainer = trainerDao.findViewById(trainerId);
+                if (trainer != null) {
+                    available.add(trainer);
+                }
+            }
+        }
+        return available;
     }
 
     @Override
-    public TrainerDto updateTrainer(String id, CreateTrainerRequest request) {
+    public TrainerDto updateTrainer(String id, CreateTrainerRequest request, Long expectedVersion) {
         log.info("Updating trainer with ID: {}", id);
         Trainer existingTrainer = checkTrainerExist(id);
+        User existingUser = checkUserExist(existingTrainer.getUserId(), id);
+        Versions.check(DtoMapper.viewVersion(existingTrainer, existingUser), expectedVersion, "Trainer " + id);
+        long version = existingTrainer.getVersion();
+        long userVersion = existingUser.getVersion();
+
+        // cached instances are shared with readers, so the update saves fresh copies
+        Trainer trainer = new Trainer(request.getSpecialty(), existingTrainer.getUserId());
+        if (!trainerDao.saveIfVersion(trainer, version)) {
+            log.warn("Update of trainer {} lost a race at version {}", id, version);
+            throw Versions.concurrentUpdate("Trainer " + id, expectedVersion);
+        }
+        User user = new User(existingUser);
+        boolean renamed = isRenamed(user, request.getFirstName(), request.getLastName());
+        if (renamed) {
+            user.setUsername(userDao.generateUsername(request.getFirstName(), request.getLastName()));
+        }
+        user.setFirstName(request.getFirstName());
+        user.setLastName(request.getLastName());
+        if (!userDao.saveIfVersion(user, userVersion)) {
+            log.warn("Update of trainer {} lost a race on its user at version {}", id, userVersion);
+            if (renamed) {
+                userDao.releaseUsername(user.getUsername());
+            }
+            // puts the old profile back unless someone else has written it since
+            trainerDao.saveIfVersion(new Trainer(existingTrainer.getSpecialization(), existingTrainer.getUserId()), version + 1);
+            checkUserExist(user.getId(), id);
+            throw Versions.concurrentUpdate("Trainer " + id, expectedVersion);
+        }
 
-        User existingUser = userDao.findById(existingTrainer.getUserId());
-        existingUser.setFirstName(request.getFirstName());
-        existingUser.setLastName(request.getLastName());
-        existingUser.setUsername( CredentialGenerator.generateUsername(request
-                .getFirstName(), request.getLastName(),trainerDao.findAll()));
-        userDao.save(existingUser);
-        existingTrainer.setSpecialization(request.getSpecialty());
-        Trainer updatedTrainer = trainerDao.save(existingTrainer);
-
-        User user = userDao.findById(existingTrainer.getUserId());
-
-        log.debug("Trainer with ID {} updated", id);
-        return getTrainerDto(updatedTrainer, user);
+        TrainerDto updated = DtoMapper.toTrainerDto(trainer, user);
+        log.debug("Trainer with ID {} updated to version {}", id, updated.getVersion());
+        return updated;
     }
 
     @Override
@@ -94,7 +209,9 @@ public class TrainerServiceImpl implements ITrainerService {
         log.info("Deleting trainer with ID: {}", id);
         checkTrainerExist(id);
         trainerDao.delete(id);
-        log.debug("Trainer with ID {} deleted", id);
+        userDao.delete(id);
+        int trainings = cascadeDeleter.deleteTrainingsOfTrainer(id);
+        log.debug("Trainer with ID {} deleted with its user and {} trainings", id, trainings);
     }
 
     private Trainer checkTrainerExist(String id) {
@@ -106,13 +223,33 @@ public class TrainerServiceImpl implements ITrainerService {
         return existingTrainer;
     }
 
-    private TrainerDto getTrainerDto(Trainer trainer, User user) {
-        TrainerDto dto = new TrainerDto();
-        dto.setId(trainer.getUserId());
-        dto.setFirstName(user.getFirstName());
-        dto.setLastName(user.getLastName());
-        dto.setUsername(user.getUsername());
-        dto.setSpecialization(trainer.getSpecialization().toString());
-        return dto;
+    private User checkUserExist(String userId, String trainerId) {
+        User user = userDao.findById(userId);
+        if (user == null) {
+            log.error("User of trainer with ID {} not found", trainerId);
+            throw new GymNotFoundException("Trainer with ID: " + trainerId + " not found");
+        }
+        return user;
+    }
+
+    private boolean isRenamed(User user, String firstName, String lastName) {
+        return !CredentialGenerator.baseUsername(firstName, lastName)
+                .equalsIgnoreCase(CredentialGenerator.baseUsername(user.getFirstName(), user.getLastName()));
+    }
+
+    private static TrainingType parseSpecialization(String specialization) {
+        try {
+            return TrainingType.valueOf(specialization.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new ApiException("Unknown specialization: " + specialization, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static long parseSlotTime(String time) {
+        try {
+            return TrainingTimes.startMinute(time);
+        } catch (DateTimeParseException e) {
+            throw new ApiException("Invalid slot time: " + time, HttpStatus.BAD_REQUEST);
+        }
     }
-}
\ No newline at end of file
+}
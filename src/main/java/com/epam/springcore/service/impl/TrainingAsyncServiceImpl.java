@@ -0,0 +1,77 @@
+package com.epam.springcore.service.impl;
+
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.TrainerMinutesDto;
+import com.epam.springcore.dto.TrainingDto;
+import com.epam.springcore.request.create.CreateTrainingRequest;
+import com.epam.springcore.service.ITrainingAsyncService;
+import com.epam.springcore.service.ITrainingService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Service
+public class TrainingAsyncServiceImpl implements ITrainingAsyncService {
+
+    private final ITrainingService trainingService;
+    private final Executor executor;
+
+    public TrainingAsyncServiceImpl(ITrainingService trainingService, @Qualifier("serviceExecutor") Executor executor) {
+        this.trainingService = trainingService;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<TrainingDto> createTraining(CreateTrainingRequest request) {
+        return CompletableFuture.supplyAsync(() -> trainingService.createTraining(request), executor);
+    }
+
+    @Override
+    public CompletableFuture<BatchResultDto<TrainingDto>> createTrainings(List<CreateTrainingRequest> requests) {
+        return CompletableFuture.supplyAsync(() -> trainingService.createTrainings(requests), executor);
+    }
+
+    @Override
+    public CompletableFuture<TrainingDto> getTraining(String id) {
+        return CompletableFuture.supplyAsync(() -> trainingService.getTraining(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<TrainingDto>> getAllTrainings() {
+        return CompletableFuture.supplyAsync(trainingService::getAllTrainings, executor);
+    }
+
+    @Override
+    public CompletableFuture<PageDto<TrainingDto>> getTrainingPage(String after, int limit) {
+        return CompletableFuture.supplyAsync(() -> trainingService.getTrainingPage(after, limit), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<TrainingDto>> searchTrainings(String traineeId, String trainerId, String date, String type) {
+        return CompletableFuture.supplyAsync(() -> trainingService.searchTrainings(traineeId, trainerId, date, type), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<TrainingDto>> getTrainingsInRange(String from, String to) {
+        return CompletableFuture.supplyAsync(() -> trainingService.getTrainingsInRange(from, to), executor);
+    }
+
+    @Override
+    public CompletableFuture<TrainerMinutesDto> getTrainerMinutes(String trainerId, String month) {
+        return CompletableFuture.supplyAsync(() -> trainingService.getTrainerMinutes(trainerId, month), executor);
+    }
+
+    @Override
+    public CompletableFuture<TrainingDto> updateTraining(String id, CreateTrainingRequest request, Long expectedVersion) {
+        return CompletableFuture.supplyAsync(() -> trainingService.updateTraining(id, request, expectedVersion), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteTraining(String id) {
+        return CompletableFuture.runAsync(() -> trainingService.deleteTraining(id), executor);
+    }
+}
@@ -1,20 +1,35 @@
 package com.epam.springcore.service.impl;
 
 import com.epam.springcore.dao.TrainingDao;
-import com.epam.springcore.dao.UserDao;
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
+import com.epam.springcore.dto.TrainerMinutesDto;
 import com.epam.springcore.dto.TrainingDto;
+import com.epam.springcore.exception.ApiException;
 import com.epam.springcore.exception.GymNotFoundException;
+import com.epam.springcore.exception.ScheduleConflictException;
+import com.epam.springcore.mapper.DtoMapper;
 import com.epam.springcore.model.Training;
-import com.epam.springcore.model.User;
 import com.epam.springcore.model.enums.TrainingType;
 import com.epam.springcore.request.create.CreateTrainingRequest;
 import com.epam.springcore.service.ITrainingService;
+import com.epam.springcore.util.BatchValidator;
+import com.epam.springcore.util.Pagination;
+import com.epam.springcore.util.TrainingTimes;
+import com.epam.springcore.util.TrainingTypes;
+import com.epam.springcore.util.Versions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 public class TrainingServiceImpl implements ITrainingService {
@@ -22,11 +37,11 @@ public class TrainingServiceImpl implements ITrainingService {
     private static final Logger log = LoggerFactory.getLogger(TrainingServiceImpl.class);
 
     private final TrainingDao trainingDao;
-    private final UserDao userDao;
+    private final BatchValidator batchValidator;
 
-    public TrainingServiceImpl(TrainingDao trainingDao, UserDao userDao) {
+    public TrainingServiceImpl(TrainingDao trainingDao, BatchValidator batchValidator) {
         this.trainingDao = trainingDao;
-        this.userDao = userDao;
+        this.batchValidator = batchValidator;
     }
 
     @Override
@@ -34,55 +49,155 @@ public class TrainingServiceImpl implements ITrainingService {
         log.info("Creating new training between trainerId={} and traineeId={}",
                 request.getTrainerId(), request.getTraineeId());
 
-        Training training = new Training(
-                request.getTraineeId(),
-                request.getTrainerId(),
-                request.getDate(),
-                TrainingType.valueOf(request.getType().toUpperCase()),
-                request.getDurationMinutes()
-        );
-        Training saved = trainingDao.save(training);
+        Training training = toTraining(request);
+        List<String> conflicts = trainingDao.saveIfNoConflict(training);
+        if (!conflicts.isEmpty()) {
+            log.warn("Training of trainer {} and trainee {} at {} overlaps {}",
+                    request.getTrainerId(), request.getTraineeId(), request.getDate(), conflicts);
+            throw new ScheduleConflictException(conflictMessage(conflicts));
+        }
 
-        log.debug("Training saved with id={}", saved.getId());
-        return toDto(saved);
+        log.debug("Training saved with id={}", training.getId());
+        return DtoMapper.toTrainingDto(training);
+    }
+
+    @Override
+    public BatchResultDto<TrainingDto> createTrainings(List<CreateTrainingRequest> requests) {
+        List<Map<String, String>> errors = batchValidator.validate(requests);
+        log.info("Creating {} trainings in bulk", requests.size());
+
+        List<Training> trainings = new ArrayList<>(requests.size());
+        List<Integer> positions = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors.get(i) != null) {
+                continue;
+            }
+            CreateTrainingRequest request = requests.get(i);
+            TrainingType type = TrainingTypes.parse(request.getType());
+            Long start = parseStart(request.getDate());
+            if (type == null) {
+                errors.set(i, Map.of("type", "Unknown training type: " + request.getType()));
+            } else if (start == null) {
+                errors.set(i, Map.of("date", "Invalid training date: " + request.getDate()));
+            } else {
+                trainings.add(new Training(request.getTraineeId(), request.getTrainerId(), start,
+                        type, request.getDurationMinutes()));
+                positions.add(i);
+            }
+        }
+        List<List<String>> conflicts = trainingDao.saveAllIfNoConflict(trainings);
+
+        List<TrainingDto> created = new ArrayList<>(trainings.size());
+        for (int i = 0; i < trainings.size(); i++) {
+            if (conflicts.get(i) == null) {
+                errors.set(positions.get(i), Map.of("participant", "Trainee or trainer not found"));
+            } else if (conflicts.get(i).isEmpty()) {
+                created.add(DtoMapper.toTrainingDto(trainings.get(i)));
+            } else {
+                errors.set(positions.get(i), Map.of("schedule", conflictMessage(conflicts.get(i))));
+            }
+        }
+        log.debug("Created {} of {} trainings", created.size(), requests.size());
+        return BatchValidator.result(errors, created);
     }
 
     @Override
     public TrainingDto getTraining(String id) {
         log.info("Fetching training with ID: {}", id);
-        Training training = trainingDao.findById(id);
+        TrainingDto training = trainingDao.findViewById(id);
         if (training == null) {
             log.warn("Training with ID {} not found", id);
             throw  new GymNotFoundException("Training not found");
         }
-        return toDto(training);
+        return training;
     }
 
     @Override
     public List<TrainingDto> getAllTrainings() {
         log.info("Fetching all trainings");
-        List<Training> trainings = (List<Training>) trainingDao.findAll();
+        return trainingDao.findAllViews();
+    }
+
+    @Override
+    public RevisionDto getTrainingsRevision() {
+        return trainingDao.findViewsRevision();
+    }
+
+    @Override
+    public PageDto<TrainingDto> getTrainingPage(String after, int limit) {
+        int size = Pagination.limit(limit);
+        log.info("Fetching training page after={} limit={}", after, size);
+        return trainingDao.findViewPage(after, size);
+    }
+
+    @Override
+    public Stream<TrainingDto> streamTrainings() {
+        log.info("Streaming all trainings");
+        return trainingDao.streamViews();
+    }
+
+    @Override
+    public List<TrainingDto> searchTrainings(String traineeId, String trainerId, String date, String type) {
+        log.info("Searching trainings traineeId={} trainerId={} date={} type={}", traineeId, trainerId, date, type);
+        TrainingType trainingType = type != null ? TrainingTypes.require(type) : null;
+        Long from = null;
+        Long to = null;
+        if (date != null) {
+            from = requireStart(date);
+            to = from + TrainingTimes.periodMinutes(date);
+        }
+        List<Training> trainings = trainingDao.findByCriteria(traineeId, trainerId, from, to, trainingType);
         List<TrainingDto> dtos = new ArrayList<>();
         for (Training training : trainings) {
-            dtos.add(toDto(training));
+            dtos.add(DtoMapper.toTrainingDto(training));
         }
         return dtos;
     }
 
     @Override
-    public TrainingDto updateTraining(String id, CreateTrainingRequest request) {
-        log.info("Updating training with ID: {}", id);
-        Training existingTraining = checkTrainingExist(id);
+    public List<TrainingDto> getTrainingsInRange(String from, String to) {
+        log.info("Fetching trainings starting from={} to={}", from, to);
+        long start = requireStart(from);
+        long end = requireStart(to);
+        if (end <= start) {
+            throw new ApiException("Range end must be after its start", HttpStatus.BAD_REQUEST);
+        }
+        return trainingDao.findViewsByStartBetween(start, end);
+    }
 
-        existingTraining.setTraineeId(request.getTraineeId());
-        existingTraining.setTrainerId(request.getTrainerId());
-        existingTraining.setDate(request.getDate());
-        existingTraining.setType(TrainingType.valueOf(request.getType().toUpperCase()));
-        existingTraining.setDurationMinutes(request.getDurationMinutes());
+    @Override
+    public TrainerMinutesDto getTrainerMinutes(String trainerId, String month) {
+        log.info("Summing training minutes of trainerId={} in {}", trainerId, month);
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new ApiException("Invalid month, expected yyyy-MM: " + month, HttpStatus.BAD_REQUEST);
+        }
+        return new TrainerMinutesDto(trainerId, yearMonth.toString(), trainingDao.sumTrainerMinutes(trainerId, yearMonth));
+    }
 
-        Training updated = trainingDao.save(existingTraining);
-        log.debug("Training with ID {} updated", id);
-        return toDto(updated);
+    @Override
+    public TrainingDto updateTraining(String id, CreateTrainingRequest request, Long expectedVersion) {
+        log.info("Updating training with ID: {}", id);
+        Training existing = checkTrainingExist(id);
+        long version = existing.getVersion();
+        Versions.check(version, expectedVersion, "Training " + id);
+
+        // the stored instance stays untouched if the new slot is taken
+        Training updated = toTraining(request);
+        updated.setId(id);
+        List<String> conflicts = trainingDao.saveIfVersion(updated, version);
+        if (conflicts == null) {
+            log.warn("Update of training {} lost a race at version {}", id, version);
+            throw Versions.concurrentUpdate("Training " + id, expectedVersion);
+        }
+        if (!conflicts.isEmpty()) {
+            log.warn("Update of training {} to {} overlaps {}", id, request.getDate(), conflicts);
+            throw new ScheduleConflictException(conflictMessage(conflicts));
+        }
+        log.debug("Training with ID {} updated to version {}", id, updated.getVersion());
+        return DtoMapper.toTrainingDto(updated);
     }
 
     @Override
@@ -102,18 +217,33 @@ public class TrainingServiceImpl implements ITrainingService {
         return existingTraining;
     }
 
-    private TrainingDto toDto(Training training) {
-        User trainer = userDao.findById(training.getTrainerId());
-        User trainee = userDao.findById(training.getTraineeId());
+    private Training toTraining(CreateTrainingRequest request) {
+        return new Training(
+                request.getTraineeId(),
+                request.getTrainerId(),
+                requireStart(request.getDate()),
+                TrainingTypes.require(request.getType()),
+                request.getDurationMinutes()
+        );
+    }
 
-        TrainingDto dto = new TrainingDto();
-        dto.setId(training.getId());
-        dto.setTrainerId(trainer.getId());
-        dto.setTraineeId(trainee.getId());
-        dto.setDate(training.getDate());
-        dto.setType(training.getType().toString());
-        dto.setDurationMinutes(training.getDurationMinutes());
+    private static long requireStart(String date) {
+        Long start = parseStart(date);
+        if (start == null) {
+            throw new ApiException("Invalid training date: " + date, HttpStatus.BAD_REQUEST);
+        }
+        return start;
+    }
+
+    private static Long parseStart(String date) {
+        try {
+            return TrainingTimes.startMinute(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 
-        return dto;
+    private static String conflictMessage(List<String> conflicts) {
+        return "Trainer or trainee is already booked at that time by training(s) " + String.join(", ", conflicts);
     }
-}
\ No newline at end of file
+}
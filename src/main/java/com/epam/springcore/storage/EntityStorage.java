@@ -0,0 +1,196 @@
+package com.epam.springcore.storage;
+
+import com.epam.springcore.storage.engine.StorageEngine;
+import com.epam.springcore.storage.index.OrderedKeyIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * Base class for the entity storages. All access goes through the
+ * {@link StorageEngine}, the underlying map is never exposed. Every write is
+ * applied through {@code compute} so registered {@link StorageListener}s see
+ * changes to a key in the same order they were applied.
+ */
+public abstract class EntityStorage<V> {
+
+    private final StorageEngine<String, V> engine;
+    private final List<StorageListener<V>> listeners = new CopyOnWriteArrayList<>();
+    private final OrderedKeyIndex<V> orderedKeys = new OrderedKeyIndex<>();
+
+    protected EntityStorage(StorageEngine<String, V> engine) {
+        this.engine = engine;
+        addListener(orderedKeys);
+    }
+
+    public void addListener(StorageListener<V> listener) {
+        listeners.add(listener);
+    }
+
+    public V get(String id) {
+        return engine.get(id);
+    }
+
+    public boolean contains(String id) {
+        return engine.get(id) != null;
+    }
+
+    public V put(String id, V value) {
+        V previous = store(id, value);
+        fireAfterWrite();
+        return previous;
+    }
+
+    public V putIfAbsent(String id, V value) {
+        Object[] existing = new Object[1];
+        engine.compute(id, (key, current) -> {
+            if (current != null) {
+                existing[0] = current;
+                return current;
+            }
+            firePut(key, value);
+            return value;
+        });
+        fireAfterWrite();
+        return cast(existing[0]);
+    }
+
+    /**
+     * Replaces the stored value only if there is one and {@code expected}
+     * accepts it; the check and the write are atomic.
+     *
+     * @return whether the value was stored
+     */
+    public boolean replaceIf(String id, Predicate<? super V> expected, V value) {
+        boolean replaced = storeIf(id, expected, value);
+        fireAfterWrite();
+        return replaced;
+    }
+
+    public V compute(String id, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+        V result = engine.compute(id, (key, current) -> {
+            V updated = remappingFunction.apply(key, current);
+            if (updated != null) {
+                firePut(key, updated);
+            } else if (current != null) {
+                fireRemove(key, current);
+            }
+            return updated;
+        });
+        fireAfterWrite();
+        return result;
+    }
+
+    public V remove(String id) {
+        Object[] removed = new Object[1];
+        engine.compute(id, (key, current) -> {
+            if (current != null) {
+                removed[0] = current;
+                fireRemove(key, current);
+            }
+            return null;
+        });
+        fireAfterWrite();
+        return cast(removed[0]);
+    }
+
+    public Collection<V> values() {
+        return engine.values();
+    }
+
+    public int size() {
+        return engine.size();
+    }
+
+    /**
+     * Returns up to {@code limit} ids following {@code afterId} in
+     * {@link OrderedKeyIndex#ID_ORDER}, starting from the first id when
+     * {@code afterId} is null. Costs O(log n + limit).
+     */
+    public List<String> pageIds(String afterId, int limit) {
+        return orderedKeys.after(afterId, limit);
+    }
+
+    /**
+     * Same as {@link #pageIds} but resolves the values, skipping ids removed
+     * in the meantime.
+     */
+    public List<V> page(String afterId, int limit) {
+        List<V> page = new ArrayList<>(Math.min(limit, 1024));
+        for (String id : pageIds(afterId, limit)) {
+            V value = engine.get(id);
+            if (value != null) {
+                page.add(value);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Same as {@link #put} without the {@link StorageListener#afterWrite()}
+     * callbacks. Meant for subclasses that write while holding locks of their
+     * own: they call {@link #completeWrites()} once those are released, so
+     * listeners waiting there, for example for a WAL commit, do not hold them.
+     */
+    protected V store(String id, V value) {
+        Object[] previous = new Object[1];
+        engine.compute(id, (key, current) -> {
+            previous[0] = current;
+            firePut(key, value);
+            return value;
+        });
+        return cast(previous[0]);
+    }
+
+    /**
+     * Same as {@link #replaceIf} without the after-write callbacks, see
+     * {@link #store}.
+     */
+    protected boolean storeIf(String id, Predicate<? super V> expected, V value) {
+        boolean[] replaced = new boolean[1];
+        engine.compute(id, (key, current) -> {
+            if (current == null || !expected.test(current)) {
+                return current;
+            }
+            replaced[0] = true;
+            firePut(key, value);
+            return value;
+        });
+        return replaced[0];
+    }
+
+    /**
+     * Runs the after-write callbacks of the writes this thread made through
+     * {@link #store} or {@link #storeIf}.
+     */
+    protected void completeWrites() {
+        fireAfterWrite();
+    }
+
+    private void firePut(String id, V value) {
+        for (StorageListener<V> listener : listeners) {
+            listener.onPut(id, value);
+        }
+    }
+
+    private void fireRemove(String id, V removed) {
+        for (StorageListener<V> listener : listeners) {
+            listener.onRemove(id, removed);
+        }
+    }
+
+    private void fireAfterWrite() {
+        for (StorageListener<V> listener : listeners) {
+            listener.afterWrite();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V cast(Object value) {
+        return (V) value;
+    }
+}
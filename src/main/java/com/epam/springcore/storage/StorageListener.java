@@ -0,0 +1,33 @@
+package com.epam.springcore.storage;
+
+/**
+ * Callback notified about every change applied to an {@link EntityStorage}.
+ * Invoked while the entry is locked, so implementations must be fast and
+ * must not write back to the same storage.
+ */
+public interface StorageListener<V> {
+
+    /**
+     * Called after a value has been stored under the given id.
+     *
+     * @param id the entity id
+     * @param value the stored value
+     */
+    void onPut(String id, V value);
+
+    /**
+     * Called after the value stored under the given id has been removed.
+     *
+     * @param id the entity id
+     * @param removed the removed value
+     */
+    void onRemove(String id, V removed);
+
+    /**
+     * Called once a write has been applied and the entry lock released.
+     * Listeners that need to block, for example to wait for durability,
+     * do it here instead of in {@link #onPut} or {@link #onRemove}.
+     */
+    default void afterWrite() {
+    }
+}
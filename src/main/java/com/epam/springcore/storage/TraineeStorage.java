@@ -1,17 +1,13 @@
 package com.epam.springcore.storage;
 
 import com.epam.springcore.model.Trainee;
+import com.epam.springcore.storage.engine.ConcurrentStorageEngine;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Component
-public class TraineeStorage {
-
-    private final Map<String, Trainee> traineeMap = new HashMap<>();
+public class TraineeStorage extends EntityStorage<Trainee> {
 
-    public Map<String, Trainee> getTraineeMap() {
-        return traineeMap;
+    public TraineeStorage() {
+        super(new ConcurrentStorageEngine<>());
     }
 }
@@ -1,17 +1,24 @@
 package com.epam.springcore.storage;
 
 import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.storage.engine.ConcurrentStorageEngine;
+import com.epam.springcore.storage.index.SpecializationIndex;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
 
 @Component
-public class TrainerStorage {
+public class TrainerStorage extends EntityStorage<Trainer> {
 
-    private final Map<String, Trainer> trainerMap = new HashMap<>();
+    private final SpecializationIndex specializationIndex = new SpecializationIndex();
 
-    public Map<String, Trainer> getTrainerMap() {
-        return trainerMap;
+    public TrainerStorage() {
+        super(new ConcurrentStorageEngine<>());
+        addListener(specializationIndex);
+    }
+
+    public Set<String> findIdsBySpecialization(TrainingType specialization) {
+        return specializationIndex.findBySpecialization(specialization);
     }
 }
@@ -1,17 +1,176 @@
 package com.epam.springcore.storage;
 
+import com.epam.springcore.exception.GymNotFoundException;
 import com.epam.springcore.model.Training;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.storage.engine.ConcurrentStorageEngine;
+import com.epam.springcore.storage.index.ScheduleIndex;
+import com.epam.springcore.storage.index.TrainerMinutesIndex;
+import com.epam.springcore.storage.index.TrainingIndex;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 @Component
-public class TrainingStorage {
+public class TrainingStorage extends EntityStorage<Training> {
 
-    private final Map<String, Training> trainingMap = new HashMap<>();
+    private static final int BOOKING_LOCK_STRIPES = 1024;
 
-    public Map<String, Training> getTrainingMap() {
-        return trainingMap;
+    private final TrainingIndex index = new TrainingIndex();
+    private final ScheduleIndex schedule = new ScheduleIndex();
+    private final TrainerMinutesIndex trainerMinutes = new TrainerMinutesIndex();
+    private final ReentrantLock[] bookingLocks = new ReentrantLock[BOOKING_LOCK_STRIPES];
+    private Predicate<String> traineeExists = id -> true;
+    private Predicate<String> trainerExists = id -> true;
+
+    public TrainingStorage() {
+        super(new ConcurrentStorageEngine<>());
+        addListener(index);
+        addListener(schedule);
+        addListener(trainerMinutes);
+        for (int i = 0; i < bookingLocks.length; i++) {
+            bookingLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Lets bookings check that their trainee and trainer still exist; without
+     * these storages any participant is accepted.
+     */
+    @Autowired
+    public void setParticipantStorages(TraineeStorage traineeStorage, TrainerStorage trainerStorage) {
+        this.traineeExists = traineeStorage::contains;
+        this.trainerExists = trainerStorage::contains;
+    }
+
+    public Set<String> findIdsByTraineeId(String traineeId) {
+        return index.findByTraineeId(traineeId);
+    }
+
+    public Set<String> findIdsByTrainerId(String trainerId) {
+        return index.findByTrainerId(trainerId);
+    }
+
+    public List<String> findIdsByStartBetween(long from, long to) {
+        return index.findByStartBetween(from, to);
+    }
+
+    public Set<String> findIdsByType(TrainingType type) {
+        return index.findByType(type);
+    }
+
+    /**
+     * Returns the ids of other trainings of the trainer or trainee that
+     * overlap the minute interval {@code [start, end)}.
+     */
+    public List<String> findOverlapping(String trainerId, String traineeId, long start, long end, String excludeId) {
+        return schedule.findOverlapping(trainerId, traineeId, start, end, excludeId);
+    }
+
+    public Set<String> findBookedTrainerIds(long start, long end) {
+        return schedule.findBookedTrainers(start, end);
+    }
+
+    public long trainerMinutes(String trainerId, YearMonth month) {
+        return trainerMinutes.minutes(trainerId, month);
+    }
+
+    /**
+     * Stores the training unless its trainer or trainee already has another
+     * training overlapping {@code [start, end)}. Check and insert run under
+     * the striped locks of both participants, taken in stripe order, so two
+     * overlapping bookings cannot both pass while bookings of unrelated
+     * people proceed in parallel. Writes through {@link #put} are not
+     * checked. A training without an id gets one from {@code newId} only
+     * once its slot is accepted, so rejected bookings use up no ids. Waiting
+     * for the write to become durable happens after the locks are released.
+     *
+     * @return ids of the conflicting trainings, empty if the training was stored
+     * @throws GymNotFoundException if the trainee or trainer does not exist
+     */
+    public List<String> putIfNoConflict(Training training, long start, long end, Supplier<String> newId) {
+        return book(training, start, end, null, newId);
+    }
+
+    /**
+     * Like {@link #putIfNoConflict}, but replaces the stored training only
+     * while {@code expected} accepts it.
+     *
+     * @return ids of the conflicting trainings, empty if the training was
+     * stored, or null if there is no stored training or it was not accepted
+     * @throws GymNotFoundException if the trainee or trainer does not exist
+     */
+    public List<String> replaceIfNoConflict(Training training, long start, long end,
+                                            Predicate<? super Training> expected) {
+        return book(training, start, end, expected, null);
+    }
+
+    /**
+     * Waits until bookings in progress for the participant have finished.
+     * Once its profile is deleted no new booking passes the participant
+     * check, so after this call the indexes hold all of its trainings.
+     */
+    public void awaitBookings(String participantId) {
+        // Every booking of the participant holds this stripe while it checks that the participant exists
+        // and writes the indexes. A booking that passed the check before the delete therefore still holds
+        // the lock or has already indexed its training, and one that takes the lock after us fails the check.
+        ReentrantLock lock = bookingLocks[stripe(participantId)];
+        lock.lock();
+        lock.unlock();
+    }
+
+    private List<String> book(Training training, long start, long end, Predicate<? super Training> expected,
+                              Supplier<String> newId) {
+        int first = stripe(training.getTrainerId());
+        int second = stripe(training.getTraineeId());
+        ReentrantLock outer = bookingLocks[Math.min(first, second)];
+        ReentrantLock inner = bookingLocks[Math.max(first, second)];
+        List<String> conflicts;
+        outer.lock();
+        inner.lock();
+        try {
+            conflicts = bookLocked(training, start, end, expected, newId);
+        } finally {
+            inner.unlock();
+            outer.unlock();
+        }
+        // waits for durability, such as a WAL group commit, without blocking other bookings of the stripes
+        completeWrites();
+        return conflicts;
+    }
+
+    private List<String> bookLocked(Training training, long start, long end, Predicate<? super Training> expected,
+                                    Supplier<String> newId) {
+        if (!traineeExists.test(training.getTraineeId())) {
+            throw new GymNotFoundException("Trainee with ID: " + training.getTraineeId() + " not found");
+        }
+        if (!trainerExists.test(training.getTrainerId())) {
+            throw new GymNotFoundException("Trainer with ID: " + training.getTrainerId() + " not found");
+        }
+        List<String> conflicts = schedule.findOverlapping(training.getTrainerId(), training.getTraineeId(),
+                start, end, training.getId());
+        if (!conflicts.isEmpty()) {
+            return conflicts;
+        }
+        if (expected == null) {
+            if (training.getId() == null) {
+                training.setId(newId.get());
+            }
+            store(training.getId(), training);
+        } else if (!storeIf(training.getId(), expected, training)) {
+            return null;
+        }
+        return conflicts;
+    }
+
+    private static int stripe(String participantId) {
+        int hash = participantId == null ? 0 : participantId.hashCode();
+        return (hash ^ (hash >>> 16)) & (BOOKING_LOCK_STRIPES - 1);
     }
 }
@@ -1,17 +1,39 @@
 package com.epam.springcore.storage;
 
 import com.epam.springcore.model.User;
+import com.epam.springcore.storage.engine.ConcurrentStorageEngine;
+import com.epam.springcore.storage.index.UserSearchIndex;
+import com.epam.springcore.storage.index.UsernameRegistry;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.function.Predicate;
 
 @Component
-public class UserStorage {
+public class UserStorage extends EntityStorage<User> {
 
-    private final Map<String, User> userMap = new HashMap<>();
+    private final UsernameRegistry usernameRegistry = new UsernameRegistry();
+    private final UserSearchIndex searchIndex = new UserSearchIndex();
 
-    public Map<String, User> getUserMap() {
-        return userMap;
+    public UserStorage() {
+        super(new ConcurrentStorageEngine<>());
+        addListener(usernameRegistry);
+        addListener(searchIndex);
+    }
+
+    public String allocateUsername(String baseUsername) {
+        return usernameRegistry.allocate(baseUsername);
+    }
+
+    public void releaseUsername(String username) {
+        usernameRegistry.release(username);
+    }
+
+    public boolean isUsernameTaken(String username) {
+        return usernameRegistry.isTaken(username);
+    }
+
+    public List<String> searchIds(String query, int limit, Predicate<String> filter) {
+        return searchIndex.search(query, limit, filter);
     }
 }
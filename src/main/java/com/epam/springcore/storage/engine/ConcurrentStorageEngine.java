@@ -0,0 +1,45 @@
+package com.epam.springcore.storage.engine;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * {@link StorageEngine} backed by a {@link ConcurrentHashMap}: lock-free reads
+ * and per-bin locking for writes, so throughput scales with cores.
+ */
+public class ConcurrentStorageEngine<K, V> implements StorageEngine<K, V> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private final ConcurrentHashMap<K, V> map;
+
+    public ConcurrentStorageEngine() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public ConcurrentStorageEngine(int initialCapacity) {
+        this.map = new ConcurrentHashMap<>(initialCapacity);
+    }
+
+    @Override
+    public V get(K key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return map.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(map.values());
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,45 @@
+package com.epam.springcore.storage.engine;
+
+import java.util.Collection;
+import java.util.function.BiFunction;
+
+/**
+ * Key-value engine backing the in-memory storages.
+ * Implementations must be safe for concurrent use from request threads.
+ * Every write goes through {@link #compute}, so the storages can notify
+ * their listeners while the key is locked.
+ */
+public interface StorageEngine<K, V> {
+
+    /**
+     * Returns the value mapped to the given key.
+     *
+     * @param key the key to look up
+     * @return the value or null if absent
+     */
+    V get(K key);
+
+    /**
+     * Atomically recomputes the mapping for the given key.
+     * Returning null from the function removes the mapping.
+     *
+     * @param key the key
+     * @param remappingFunction receives the key and the current value (or null)
+     * @return the new value or null if removed
+     */
+    V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction);
+
+    /**
+     * Returns an unmodifiable, weakly consistent view of the stored values.
+     *
+     * @return the stored values
+     */
+    Collection<V> values();
+
+    /**
+     * Returns the number of stored mappings.
+     *
+     * @return the mapping count
+     */
+    int size();
+}
@@ -0,0 +1,44 @@
+package com.epam.springcore.storage.index;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent key to id-set index. Buckets are created and dropped atomically,
+ * so a lookup never sees a half-updated bucket.
+ */
+public class MultiValueIndex<K> {
+
+    private final ConcurrentMap<K, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    public void add(K key, String id) {
+        if (key == null) {
+            return;
+        }
+        buckets.compute(key, (k, ids) -> {
+            Set<String> bucket = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            bucket.add(id);
+            return bucket;
+        });
+    }
+
+    public void remove(K key, String id) {
+        if (key == null) {
+            return;
+        }
+        buckets.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    public Set<String> get(K key) {
+        if (key == null) {
+            return Collections.emptySet();
+        }
+        Set<String> ids = buckets.get(key);
+        return ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+    }
+}
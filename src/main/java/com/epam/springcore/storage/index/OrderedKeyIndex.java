@@ -0,0 +1,47 @@
+package com.epam.springcore.storage.index;
+
+import com.epam.springcore.storage.StorageListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Sorted set of the ids in a storage, used for keyset pagination. Ids are
+ * ordered by length first, so numeric ids sort numerically ("9" before "10").
+ */
+public class OrderedKeyIndex<V> implements StorageListener<V> {
+
+    public static final Comparator<String> ID_ORDER =
+            Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder());
+
+    private final ConcurrentSkipListSet<String> ids = new ConcurrentSkipListSet<>(ID_ORDER);
+
+    @Override
+    public void onPut(String id, V value) {
+        ids.add(id);
+    }
+
+    @Override
+    public void onRemove(String id, V removed) {
+        ids.remove(id);
+    }
+
+    /**
+     * Returns up to {@code limit} ids following {@code after}, or from the
+     * start when {@code after} is null.
+     */
+    public List<String> after(String after, int limit) {
+        NavigableSet<String> tail = after != null ? ids.tailSet(after, false) : ids;
+        List<String> page = new ArrayList<>(Math.min(limit, 1024));
+        for (String id : tail) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(id);
+        }
+        return page;
+    }
+}
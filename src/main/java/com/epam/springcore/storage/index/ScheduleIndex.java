@@ -0,0 +1,174 @@
+package com.epam.springcore.storage.index;
+
+import com.epam.springcore.model.Training;
+import com.epam.springcore.storage.StorageListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-trainer and per-trainee timelines of booked trainings, as half-open
+ * minute intervals {@code [start, start + duration)}. Each timeline keeps its
+ * intervals sorted by start and remembers its longest one, so an overlap
+ * query only scans the intervals starting within that distance before the
+ * queried one: O(log n + k). A global timeline over all bookings answers
+ * "who is busy in this slot" with a single scan. Trainings without a
+ * positive duration are not indexed.
+ */
+public class ScheduleIndex implements StorageListener<Training> {
+
+    private final Map<String, Booking> bookings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timeline> trainerTimelines = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timeline> traineeTimelines = new ConcurrentHashMap<>();
+    private final Timeline allBookings = new Timeline();
+
+    @Override
+    public void onPut(String id, Training training) {
+        Booking current = Booking.of(training);
+        Booking previous = current != null ? bookings.put(id, current) : bookings.remove(id);
+        if (current != null && current.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unlink(id, previous);
+        }
+        if (current != null) {
+            link(trainerTimelines, current.trainerId(), id, current);
+            link(traineeTimelines, current.traineeId(), id, current);
+            allBookings.add(id, current.start(), current.end());
+        }
+    }
+
+    @Override
+    public void onRemove(String id, Training removed) {
+        Booking previous = bookings.remove(id);
+        if (previous != null) {
+            unlink(id, previous);
+        }
+    }
+
+    /**
+     * Returns the ids of trainings of the given trainer or trainee that
+     * overlap {@code [start, end)}, ignoring {@code excludeId}.
+     */
+    public List<String> findOverlapping(String trainerId, String traineeId, long start, long end, String excludeId) {
+        List<String> overlapping = new ArrayList<>();
+        collect(trainerTimelines, trainerId, start, end, excludeId, overlapping);
+        collect(traineeTimelines, traineeId, start, end, excludeId, overlapping);
+        return overlapping.stream().distinct().toList();
+    }
+
+    /**
+     * Returns the ids of all trainers with a training overlapping
+     * {@code [start, end)}.
+     */
+    public Set<String> findBookedTrainers(long start, long end) {
+        List<String> trainingIds = new ArrayList<>();
+        allBookings.collectOverlapping(start, end, null, trainingIds);
+        Set<String> trainerIds = new HashSet<>();
+        for (String trainingId : trainingIds) {
+            Booking booking = bookings.get(trainingId);
+            if (booking != null && booking.trainerId() != null) {
+                trainerIds.add(booking.trainerId());
+            }
+        }
+        return trainerIds;
+    }
+
+    private static void collect(ConcurrentMap<String, Timeline> timelines, String participantId,
+                                long start, long end, String excludeId, List<String> out) {
+        if (participantId == null) {
+            return;
+        }
+        Timeline timeline = timelines.get(participantId);
+        if (timeline != null) {
+            timeline.collectOverlapping(start, end, excludeId, out);
+        }
+    }
+
+    private static void link(ConcurrentMap<String, Timeline> timelines, String participantId, String id, Booking booking) {
+        if (participantId == null) {
+            return;
+        }
+        timelines.compute(participantId, (key, timeline) -> {
+            Timeline target = timeline != null ? timeline : new Timeline();
+            target.add(id, booking.start(), booking.end());
+            return target;
+        });
+    }
+
+    private void unlink(String id, Booking booking) {
+        unlink(trainerTimelines, booking.trainerId(), id, booking);
+        unlink(traineeTimelines, booking.traineeId(), id, booking);
+        allBookings.remove(id, booking.start());
+    }
+
+    private static void unlink(ConcurrentMap<String, Timeline> timelines, String participantId, String id, Booking booking) {
+        if (participantId == null) {
+            return;
+        }
+        timelines.computeIfPresent(participantId, (key, timeline) -> {
+            timeline.remove(id, booking.start());
+            return timeline.isEmpty() ? null : timeline;
+        });
+    }
+
+    private record Booking(String trainerId, String traineeId, long start, long end) {
+
+        static Booking of(Training training) {
+            if (training.getDurationMinutes() <= 0) {
+                return null;
+            }
+            long start = training.getStartMinute();
+            return new Booking(training.getTrainerId(), training.getTraineeId(),
+                    start, start + training.getDurationMinutes());
+        }
+    }
+
+    private record Slot(long start, String id) {
+
+        static final Comparator<Slot> ORDER = Comparator.comparingLong(Slot::start).thenComparing(Slot::id);
+    }
+
+    private static final class Timeline {
+
+        private final ConcurrentSkipListMap<Slot, Long> slots = new ConcurrentSkipListMap<>(Slot.ORDER);
+        // only grows; a stale bound widens the scan but never misses an overlap
+        private final AtomicLong longest = new AtomicLong();
+
+        void add(String id, long start, long end) {
+            longest.accumulateAndGet(end - start, Math::max);
+            slots.put(new Slot(start, id), end);
+        }
+
+        void remove(String id, long start) {
+            slots.remove(new Slot(start, id));
+        }
+
+        boolean isEmpty() {
+            return slots.isEmpty();
+        }
+
+        void collectOverlapping(long start, long end, String excludeId, List<String> out) {
+            for (Map.Entry<Slot, Long> slot : candidates(start, end).entrySet()) {
+                String id = slot.getKey().id();
+                if (slot.getValue() > start && !id.equals(excludeId)) {
+                    out.add(id);
+                }
+            }
+        }
+
+        // intervals starting before end and at most the longest duration before start
+        private Map<Slot, Long> candidates(long start, long end) {
+            return slots.subMap(new Slot(start - longest.get(), ""), true, new Slot(end, ""), false);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.springcore.storage.index;
+
+import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.storage.StorageListener;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Trainer ids by specialization, each set iterating in
+ * {@link OrderedKeyIndex#ID_ORDER}. Like {@link TrainingIndex}, the
+ * specialization each trainer was indexed under is remembered, because
+ * trainers are updated in place.
+ */
+public class SpecializationIndex implements StorageListener<Trainer> {
+
+    private final Map<TrainingType, Set<String>> bySpecialization = new EnumMap<>(TrainingType.class);
+    private final Map<String, TrainingType> indexed = new ConcurrentHashMap<>();
+
+    public SpecializationIndex() {
+        for (TrainingType type : TrainingType.values()) {
+            bySpecialization.put(type, new ConcurrentSkipListSet<>(OrderedKeyIndex.ID_ORDER));
+        }
+    }
+
+    @Override
+    public void onPut(String id, Trainer trainer) {
+        TrainingType current = trainer.getSpecialization();
+        TrainingType previous = current != null ? indexed.put(id, current) : indexed.remove(id);
+        if (current == previous) {
+            return;
+        }
+        if (previous != null) {
+            bySpecialization.get(previous).remove(id);
+        }
+        if (current != null) {
+            bySpecialization.get(current).add(id);
+        }
+    }
+
+    @Override
+    public void onRemove(String id, Trainer removed) {
+        TrainingType previous = indexed.remove(id);
+        if (previous != null) {
+            bySpecialization.get(previous).remove(id);
+        }
+    }
+
+    public Set<String> findBySpecialization(TrainingType type) {
+        return type != null ? Collections.unmodifiableSet(bySpecialization.get(type)) : Collections.emptySet();
+    }
+}
@@ -0,0 +1,78 @@
+package com.epam.springcore.storage.index;
+
+import com.epam.springcore.model.Training;
+import com.epam.springcore.storage.StorageListener;
+import com.epam.springcore.util.TrainingTimes;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running totals of training minutes per trainer and calendar month. Like
+ * {@link TrainingIndex}, the contribution each training was last counted
+ * with is remembered, so an update moves its minutes instead of re-summing.
+ * Totals change through atomic merges and are dropped once they fall back to
+ * zero, so deleted trainers and emptied months leave no entries behind.
+ */
+public class TrainerMinutesIndex implements StorageListener<Training> {
+
+    private final Map<TrainerMonth, Long> totals = new ConcurrentHashMap<>();
+    private final Map<String, Contribution> counted = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPut(String id, Training training) {
+        Contribution current = Contribution.of(training);
+        Contribution previous = current != null ? counted.put(id, current) : counted.remove(id);
+        if (current != null && current.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            add(previous.key(), -previous.minutes());
+        }
+        if (current != null) {
+            add(current.key(), current.minutes());
+        }
+    }
+
+    @Override
+    public void onRemove(String id, Training removed) {
+        Contribution previous = counted.remove(id);
+        if (previous != null) {
+            add(previous.key(), -previous.minutes());
+        }
+    }
+
+    public long minutes(String trainerId, YearMonth month) {
+        Long total = totals.get(new TrainerMonth(trainerId, month));
+        return total != null ? total : 0;
+    }
+
+    /**
+     * Returns the number of trainer-months with a non-zero total.
+     */
+    public int size() {
+        return totals.size();
+    }
+
+    private void add(TrainerMonth key, long minutes) {
+        totals.merge(key, minutes, (total, delta) -> total + delta == 0 ? null : total + delta);
+    }
+
+    private record TrainerMonth(String trainerId, YearMonth month) {
+    }
+
+    private record Contribution(TrainerMonth key, int minutes) {
+
+        static Contribution of(Training training) {
+            if (training.getTrainerId() == null || training.getDurationMinutes() == 0) {
+                return null;
+            }
+            LocalDate day = LocalDate.ofEpochDay(
+                    Math.floorDiv(training.getStartMinute(), TrainingTimes.MINUTES_PER_DAY));
+            return new Contribution(new TrainerMonth(training.getTrainerId(), YearMonth.from(day)),
+                    training.getDurationMinutes());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.epam.springcore.storage.index;
+
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.storage.StorageListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Secondary indexes over trainings by trainee, trainer, start time and type.
+ * Start times are kept in a sorted set, so range queries cost O(log n + k)
+ * and return trainings in start order. Trainings are mutable, so the keys
+ * each training was last indexed under are remembered and used to unlink it
+ * from its old buckets on the next change.
+ */
+public class TrainingIndex implements StorageListener<Training> {
+
+    private final MultiValueIndex<String> byTrainee = new MultiValueIndex<>();
+    private final MultiValueIndex<String> byTrainer = new MultiValueIndex<>();
+    private final ConcurrentSkipListSet<DatedId> byStart = new ConcurrentSkipListSet<>(DatedId.ORDER);
+    private final Map<TrainingType, Set<String>> byType = new EnumMap<>(TrainingType.class);
+    private final Map<String, IndexedKeys> indexedKeys = new ConcurrentHashMap<>();
+
+    public TrainingIndex() {
+        for (TrainingType type : TrainingType.values()) {
+            byType.put(type, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @Override
+    public void onPut(String id, Training training) {
+        IndexedKeys current = IndexedKeys.of(training);
+        IndexedKeys previous = indexedKeys.put(id, current);
+        if (current.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unlink(id, previous);
+        }
+        byTrainee.add(current.traineeId(), id);
+        byTrainer.add(current.trainerId(), id);
+        byStart.add(new DatedId(current.startMinute(), id));
+        if (current.type() != null) {
+            byType.get(current.type()).add(id);
+        }
+    }
+
+    @Override
+    public void onRemove(String id, Training removed) {
+        IndexedKeys previous = indexedKeys.remove(id);
+        if (previous != null) {
+            unlink(id, previous);
+        }
+    }
+
+    public Set<String> findByTraineeId(String traineeId) {
+        return byTrainee.get(traineeId);
+    }
+
+    public Set<String> findByTrainerId(String trainerId) {
+        return byTrainer.get(trainerId);
+    }
+
+    /**
+     * Returns the ids of trainings starting in {@code [from, to)}, ordered by
+     * start and then id.
+     */
+    public List<String> findByStartBetween(long from, long to) {
+        if (from >= to) {
+            return List.of();
+        }
+        List<String> ids = new ArrayList<>();
+        for (DatedId entry : byStart.subSet(new DatedId(from, ""), new DatedId(to, ""))) {
+            ids.add(entry.id());
+        }
+        return ids;
+    }
+
+    public Set<String> findByType(TrainingType type) {
+        return type != null ? Collections.unmodifiableSet(byType.get(type)) : Collections.emptySet();
+    }
+
+    private void unlink(String id, IndexedKeys keys) {
+        byTrainee.remove(keys.traineeId(), id);
+        byTrainer.remove(keys.trainerId(), id);
+        byStart.remove(new DatedId(keys.startMinute(), id));
+        if (keys.type() != null) {
+            byType.get(keys.type()).remove(id);
+        }
+    }
+
+    private record IndexedKeys(String traineeId, String trainerId, long startMinute, TrainingType type) {
+
+        static IndexedKeys of(Training training) {
+            return new IndexedKeys(training.getTraineeId(), training.getTrainerId(),
+                    training.getStartMinute(), training.getType());
+        }
+    }
+
+    // "" sorts before every id, so it bounds a range at a given minute
+    private record DatedId(long startMinute, String id) {
+
+        static final Comparator<DatedId> ORDER = Comparator.comparingLong(DatedId::startMinute)
+                .thenComparing(DatedId::id, OrderedKeyIndex.ID_ORDER);
+    }
+}
@@ -0,0 +1,279 @@
+package com.epam.springcore.storage.index;
+
+import com.epam.springcore.model.User;
+import com.epam.springcore.storage.StorageListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * Case-insensitive search over user first names, last names and usernames.
+ *
+ * <p>Name terms (distinct lower-cased first and last names) map to the ids of
+ * their users and are also kept in a sorted set, so a prefix query walks only
+ * the matching range: O(log n + k). Usernames are unique and sorted
+ * separately. For typos, each distinct name term is indexed by its trigrams;
+ * since there are far fewer distinct names than users, fuzzy candidates are
+ * ranked by trigram overlap without touching individual users.
+ *
+ * <p>Buckets, the sorted term set and the trigram postings of a term change
+ * together inside the bucket's {@code compute}, so a term is listed exactly
+ * while it has users.
+ */
+public class UserSearchIndex implements StorageListener<User> {
+
+    // candidates checked per query, bounds the cost of rare words and selective filters
+    private static final int MAX_SCANNED = 10_000;
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private final ConcurrentMap<String, Set<String>> usersByName = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<String> sortedNames = new ConcurrentSkipListSet<>();
+    private final ConcurrentMap<String, Set<String>> namesByTrigram = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, String> userByUsername = new ConcurrentSkipListMap<>();
+    private final Map<String, Terms> indexed = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPut(String id, User user) {
+        Terms current = Terms.of(user);
+        Terms previous = indexed.put(id, current);
+        if (current.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unlink(id, previous);
+        }
+        linkName(current.firstName(), id);
+        linkName(current.lastName(), id);
+        if (current.username() != null) {
+            userByUsername.put(current.username(), id);
+        }
+    }
+
+    @Override
+    public void onRemove(String id, User removed) {
+        Terms previous = indexed.remove(id);
+        if (previous != null) {
+            unlink(id, previous);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} user ids matching the query, best first:
+     * users with a name equal to or starting with the query, then usernames
+     * starting with it, then names similar to it. A query of several words
+     * matches users for whom every word prefixes their first name, last name
+     * or username. Only ids accepted by {@code filter} are returned or count
+     * towards the limit.
+     *
+     * <p>At most {@value #MAX_SCANNED} candidates are checked, so a search
+     * whose matches are rare among the candidates may return fewer than
+     * {@code limit} ids even though more users match.
+     */
+    public List<String> search(String query, int limit, Predicate<String> filter) {
+        String[] words = normalize(query).split("\\s+");
+        Arrays.sort(words, Comparator.comparingInt(String::length).reversed());
+        if (words.length == 0 || words[0].isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<String> found = new LinkedHashSet<>();
+        Search search = new Search(found, limit, filter, words.length > 1 ? words : null);
+        collectPrefixMatches(words[0], search);
+        if (words.length == 1 && found.size() < limit) {
+            collectSimilar(words[0], search);
+        }
+        return new ArrayList<>(found);
+    }
+
+    private void collectPrefixMatches(String prefix, Search search) {
+        for (String name : sortedNames.tailSet(prefix)) {
+            if (!name.startsWith(prefix)) {
+                break;
+            }
+            if (addAll(usersByName.get(name), search)) {
+                return;
+            }
+        }
+        for (Map.Entry<String, String> entry : userByUsername.tailMap(prefix).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (addAll(Set.of(entry.getValue()), search)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds the accepted ids that match every word of the search.
+     *
+     * @return whether the search is done
+     */
+    private boolean addAll(Set<String> ids, Search search) {
+        if (ids == null) {
+            return false;
+        }
+        for (String id : ids) {
+            if (++search.scanned > MAX_SCANNED) {
+                return true;
+            }
+            if ((search.words == null || matchesAll(indexed.get(id), search.words)) && search.filter.test(id)) {
+                search.found.add(id);
+                if (search.found.size() >= search.limit) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAll(Terms terms, String[] words) {
+        if (terms == null) {
+            return false;
+        }
+        for (String word : words) {
+            if (!startsWith(terms.firstName(), word) && !startsWith(terms.lastName(), word)
+                    && !startsWith(terms.username(), word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void collectSimilar(String word, Search search) {
+        Set<String> trigrams = trigrams(word);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : trigrams) {
+            Set<String> names = namesByTrigram.get(trigram);
+            if (names != null) {
+                for (String name : names) {
+                    shared.merge(name, 1, Integer::sum);
+                }
+            }
+        }
+        List<Map.Entry<String, Double>> ranked = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+            int union = trigrams.size() + trigrams(entry.getKey()).size() - entry.getValue();
+            double similarity = (double) entry.getValue() / union;
+            if (similarity >= MIN_SIMILARITY) {
+                ranked.add(Map.entry(entry.getKey(), similarity));
+            }
+        }
+        ranked.sort(Map.Entry.<String, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        for (Map.Entry<String, Double> entry : ranked) {
+            if (addAll(usersByName.get(entry.getKey()), search)) {
+                return;
+            }
+        }
+    }
+
+    private void linkName(String name, String id) {
+        if (name == null) {
+            return;
+        }
+        usersByName.compute(name, (key, ids) -> {
+            Set<String> bucket = ids;
+            if (bucket == null) {
+                bucket = ConcurrentHashMap.newKeySet();
+                sortedNames.add(key);
+                for (String trigram : trigrams(key)) {
+                    namesByTrigram.compute(trigram, (t, names) -> {
+                        Set<String> posting = names != null ? names : ConcurrentHashMap.newKeySet();
+                        posting.add(key);
+                        return posting;
+                    });
+                }
+            }
+            bucket.add(id);
+            return bucket;
+        });
+    }
+
+    private void unlinkName(String name, String id) {
+        if (name == null) {
+            return;
+        }
+        usersByName.computeIfPresent(name, (key, ids) -> {
+            ids.remove(id);
+            if (!ids.isEmpty()) {
+                return ids;
+            }
+            sortedNames.remove(key);
+            for (String trigram : trigrams(key)) {
+                namesByTrigram.computeIfPresent(trigram, (t, names) -> {
+                    names.remove(key);
+                    return names.isEmpty() ? null : names;
+                });
+            }
+            return null;
+        });
+    }
+
+    private void unlink(String id, Terms terms) {
+        unlinkName(terms.firstName(), id);
+        unlinkName(terms.lastName(), id);
+        if (terms.username() != null) {
+            userByUsername.remove(terms.username(), id);
+        }
+    }
+
+    /**
+     * Distinct trigrams of the word padded with one boundary mark on each
+     * side, so even two-letter words have some and matching first letters
+     * count.
+     */
+    private static Set<String> trigrams(String word) {
+        String padded = "^" + word + "$";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static boolean startsWith(String term, String word) {
+        return term != null && term.startsWith(word);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Search {
+        private final Set<String> found;
+        private final int limit;
+        private final Predicate<String> filter;
+        private final String[] words;
+        private int scanned;
+
+        private Search(Set<String> found, int limit, Predicate<String> filter, String[] words) {
+            this.found = found;
+            this.limit = limit;
+            this.filter = filter;
+            this.words = words;
+        }
+    }
+
+    private record Terms(String firstName, String lastName, String username) {
+
+        static Terms of(User user) {
+            return new Terms(term(user.getFirstName()), term(user.getLastName()), term(user.getUsername()));
+        }
+
+        private static String term(String value) {
+            String term = normalize(value);
+            return term.isEmpty() ? null : term;
+        }
+    }
+}
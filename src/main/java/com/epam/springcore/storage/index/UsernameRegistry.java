@@ -0,0 +1,77 @@
+package com.epam.springcore.storage.index;
+
+import com.epam.springcore.model.User;
+import com.epam.springcore.storage.StorageListener;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Case-insensitive registry of taken usernames. Allocation keeps the next
+ * free numeric suffix per base name, so picking a username is O(1) amortized
+ * instead of probing every existing user. Claims are made with
+ * {@code putIfAbsent}, so two concurrent allocations never get the same name.
+ */
+public class UsernameRegistry implements StorageListener<User> {
+
+    private static final String PENDING = "";
+
+    private final ConcurrentMap<String, String> ownerByUsername = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> usernameByOwner = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> nextSuffix = new ConcurrentHashMap<>();
+
+    /**
+     * Reserves a free username derived from the given base, e.g. {@code John.Smith},
+     * then {@code John.Smith1}, {@code John.Smith2} and so on.
+     */
+    public String allocate(String baseUsername) {
+        AtomicInteger suffix = nextSuffix.computeIfAbsent(normalize(baseUsername), key -> new AtomicInteger());
+        while (true) {
+            int next = suffix.getAndIncrement();
+            String candidate = next == 0 ? baseUsername : baseUsername + next;
+            if (ownerByUsername.putIfAbsent(normalize(candidate), PENDING) == null) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * Gives back a username that was allocated but never saved.
+     */
+    public void release(String username) {
+        if (username != null) {
+            ownerByUsername.remove(normalize(username), PENDING);
+        }
+    }
+
+    public boolean isTaken(String username) {
+        return username != null && ownerByUsername.containsKey(normalize(username));
+    }
+
+    @Override
+    public void onPut(String id, User user) {
+        if (user.getUsername() == null) {
+            return;
+        }
+        String username = normalize(user.getUsername());
+        ownerByUsername.put(username, id);
+        String previous = usernameByOwner.put(id, username);
+        if (previous != null && !previous.equals(username)) {
+            ownerByUsername.remove(previous, id);
+        }
+    }
+
+    @Override
+    public void onRemove(String id, User removed) {
+        String previous = usernameByOwner.remove(id);
+        if (previous != null) {
+            ownerByUsername.remove(previous, id);
+        }
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
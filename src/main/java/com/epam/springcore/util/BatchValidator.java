@@ -0,0 +1,87 @@
+package com.epam.springcore.util;
+
+import com.epam.springcore.dto.BatchItemDto;
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.exception.ApiException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.epam.springcore.constants.Constant.MAX_BATCH_SIZE;
+
+/**
+ * Validates the items of a bulk request one by one, so a batch reports the
+ * rejected items instead of failing as a whole.
+ */
+@Component
+public class BatchValidator {
+
+    private final Validator validator;
+
+    @Autowired
+    public BatchValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Checks the batch size and runs bean validation on every item.
+     *
+     * @return the field errors of each item by position, null entries for
+     *         valid items
+     */
+    public <R> List<Map<String, String>> validate(List<R> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ApiException("Batch must contain at least one item", HttpStatus.BAD_REQUEST);
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new ApiException("Batch must not contain more than " + MAX_BATCH_SIZE + " items",
+                    HttpStatus.BAD_REQUEST);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String>[] errors = new Map[requests.size()];
+        for (int i = 0; i < errors.length; i++) {
+            R request = requests.get(i);
+            if (request == null) {
+                errors[i] = Map.of("item", "Item must not be null");
+                continue;
+            }
+            Set<ConstraintViolation<R>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                Map<String, String> itemErrors = new LinkedHashMap<>();
+                for (ConstraintViolation<R> violation : violations) {
+                    itemErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+                }
+                errors[i] = itemErrors;
+            }
+        }
+        return Arrays.asList(errors);
+    }
+
+    /**
+     * Merges the created items back with the rejected ones.
+     *
+     * @param errors the errors per position, null for the positions that were created
+     * @param created the created items, in request order
+     */
+    public static <T> BatchResultDto<T> result(List<Map<String, String>> errors, List<T> created) {
+        List<BatchItemDto<T>> results = new ArrayList<>(errors.size());
+        Iterator<T> items = created.iterator();
+        for (int i = 0; i < errors.size(); i++) {
+            Map<String, String> itemErrors = errors.get(i);
+            results.add(itemErrors == null
+                    ? new BatchItemDto<>(i, items.next(), null)
+                    : new BatchItemDto<>(i, null, itemErrors));
+        }
+        return new BatchResultDto<>(created.size(), errors.size() - created.size(), results);
+    }
+}
@@ -0,0 +1,39 @@
+package com.epam.springcore.util;
+
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Bridges the async services to Spring MVC: the request thread is released
+ * as soon as the handler returns and the response is written once the
+ * future completes. Failures are unwrapped, so the usual exception handlers
+ * map them to the same responses as the blocking endpoints.
+ */
+public class DeferredResults {
+
+    private DeferredResults() {
+    }
+
+    public static <T> DeferredResult<T> of(CompletableFuture<T> future) {
+        DeferredResult<T> result = new DeferredResult<>();
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                result.setErrorResult(unwrap(error));
+            } else {
+                result.setResult(value);
+            }
+        });
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,69 @@
+package com.epam.springcore.util;
+
+import com.epam.springcore.exception.ApiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Entity tags of versioned resources: the entity version in quotes, e.g.
+ * {@code "3"}. Collections are tagged with their revision.
+ */
+public class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String of(String revision) {
+        return "\"" + revision + "\"";
+    }
+
+    /**
+     * Answers a GET that may be conditional: 304 without calling {@code body}
+     * if {@code If-None-Match} or {@code If-Modified-Since} show the client's
+     * copy is current, otherwise 200 with the body, tagged for the next poll.
+     *
+     * @param lastModified epoch milliseconds, or -1 if unknown
+     */
+    public static <T> ResponseEntity<T> conditional(WebRequest request, String etag, long lastModified,
+                                                    Supplier<T> body) {
+        if (request.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (lastModified >= 0) {
+            response.lastModified(lastModified);
+        }
+        return response.body(body.get());
+    }
+
+    /**
+     * Parses an {@code If-Match} header into the version it requires.
+     *
+     * @return the version, or null if the header is absent or {@code *}
+     * @throws ApiException with 400 if the header is not a single tag issued by {@link #of}
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // fall through to the error below
+            }
+        }
+        throw new ApiException("Invalid If-Match header: " + ifMatch, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,180 @@
+package com.epam.springcore.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out numeric entity IDs without a global lock. IDs are served from a
+ * fixed number of blocks, each taken from a shared atomic high-water mark;
+ * a thread uses the block its thread ID maps to, so threads rarely contend
+ * and the high-water mark only moves once per block. The blocks outlive the
+ * threads, so short-lived ones such as the virtual threads of a request do
+ * not each reserve, and waste, a block of their own.
+ * <p>
+ * When a state file is configured the high-water mark is written before a
+ * block is handed out, so IDs never repeat across restarts (a restart may
+ * skip the unused rest of a block).
+ */
+@Component
+public class IdGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGenerator.class);
+
+    // blocks per sequence: the smallest power of two not below the number of processors
+    static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+    public enum Sequence {
+        USER,
+        TRAINING
+    }
+
+    private final int blockSize;
+    private final Path stateFile;
+    private final Map<Sequence, SequenceState> sequences = new EnumMap<>(Sequence.class);
+
+    @Autowired
+    public IdGenerator(@Value("${id.generator.block-size:1000}") int blockSize,
+                       @Value("${id.generator.state-file:}") String stateFile) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("id.generator.block-size must be positive");
+        }
+        this.blockSize = blockSize;
+        this.stateFile = stateFile == null || stateFile.isBlank() ? null : Paths.get(stateFile);
+        for (Sequence sequence : Sequence.values()) {
+            sequences.put(sequence, new SequenceState());
+        }
+        load();
+    }
+
+    public IdGenerator() {
+        this(1000, null);
+    }
+
+    public String nextId(Sequence sequence) {
+        SequenceState state = sequences.get(sequence);
+        Block block = state.blocks[(int) Thread.currentThread().getId() & (STRIPES - 1)];
+        block.lock.lock();
+        try {
+            if (block.next >= block.end || block.next <= state.observedMax.get()) {
+                block.next = reserve(state, blockSize);
+                block.end = block.next + blockSize;
+            }
+            return String.valueOf(block.next++);
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    /**
+     * Reserves {@code count} consecutive IDs in one step, for bulk inserts.
+     *
+     * @return the first reserved ID
+     */
+    public long reserveRange(Sequence sequence, int count) {
+        return reserve(sequences.get(sequence), count);
+    }
+
+    /**
+     * Moves the sequence past an ID that was assigned elsewhere (seed data,
+     * recovery), so generated IDs never collide with it. Blocks that overlap
+     * an observed ID are abandoned. Non-numeric IDs are ignored.
+     */
+    public void observe(Sequence sequence, String id) {
+        if (id == null || id.isEmpty() || id.length() > 18) {
+            return;
+        }
+        long value = 0;
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return;
+            }
+            value = value * 10 + (c - '0');
+        }
+        SequenceState state = sequences.get(sequence);
+        state.observedMax.accumulateAndGet(value, Math::max);
+        state.highWater.accumulateAndGet(value + 1, Math::max);
+    }
+
+    private long reserve(SequenceState state, int count) {
+        long start = state.highWater.getAndAdd(count);
+        if (stateFile != null) {
+            persist();
+        }
+        return start;
+    }
+
+    private synchronized void persist() {
+        Properties properties = new Properties();
+        sequences.forEach((sequence, state) ->
+                properties.setProperty(sequence.name(), String.valueOf(state.highWater.get())));
+        try {
+            Path parent = stateFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "id generator high-water marks");
+            }
+            Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not persist id generator state to " + stateFile, e);
+        }
+    }
+
+    private void load() {
+        if (stateFile == null || !Files.exists(stateFile)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(stateFile)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read id generator state from " + stateFile, e);
+        }
+        sequences.forEach((sequence, state) -> {
+            String value = properties.getProperty(sequence.name());
+            if (value != null) {
+                state.highWater.set(Long.parseLong(value.trim()));
+            }
+        });
+        log.info("Restored id generator state from {}", stateFile);
+    }
+
+    private static final class SequenceState {
+        private final AtomicLong highWater = new AtomicLong(1);
+        private final AtomicLong observedMax = new AtomicLong();
+        private final Block[] blocks = new Block[STRIPES];
+
+        private SequenceState() {
+            for (int i = 0; i < blocks.length; i++) {
+                blocks[i] = new Block();
+            }
+        }
+    }
+
+    // IDs next until end are reserved for this block and not handed out yet
+    private static final class Block {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long end;
+    }
+}
@@ -0,0 +1,46 @@
+package com.epam.springcore.util;
+
+import com.epam.springcore.dto.PageDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.epam.springcore.constants.Constant.DEFAULT_PAGE_SIZE;
+import static com.epam.springcore.constants.Constant.MAX_PAGE_SIZE;
+
+public class Pagination {
+
+    private Pagination() {
+    }
+
+    /**
+     * Normalizes a requested page size: non-positive sizes fall back to the
+     * default, large ones are capped.
+     */
+    public static int limit(int requested) {
+        if (requested <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Builds a page from the ids of one storage page, skipping ids without a
+     * view (written but not yet published, or deleted meanwhile). The cursor
+     * depends on the ids, not on the items that survived: a full page of ids
+     * points at its last id even if the page has fewer items, and only a
+     * short page of ids is the last one.
+     */
+    public static <T> PageDto<T> of(List<String> ids, int limit, Function<String, T> viewOf) {
+        List<T> items = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            T item = viewOf.apply(id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        String nextCursor = ids.size() == limit ? ids.get(ids.size() - 1) : null;
+        return new PageDto<>(items, nextCursor);
+    }
+}
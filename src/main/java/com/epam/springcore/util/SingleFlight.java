@@ -0,0 +1,87 @@
+package com.epam.springcore.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs concurrent calls with the same key once: the first caller (the
+ * leader) does the work, callers arriving while it runs wait for its result
+ * instead. Nothing is cached; once the leader finishes, the next call starts
+ * a new flight. A waiting caller therefore gets a result computed since the
+ * leader started, which may be from before the caller itself arrived.
+ *
+ * <p>A waiting caller does the work itself if the leader fails, returns no
+ * result or takes longer than the maximum wait, so coalescing never turns
+ * into an error or an unbounded delay.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final long maxWaitMillis;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public SingleFlight(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * Returns the result of {@code work} for this key, run by this caller or
+     * by a concurrent one.
+     */
+    public Outcome<V> execute(K key, Callable<V> work) throws Exception {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = flights.putIfAbsent(key, flight);
+        if (leader != null) {
+            V result = await(leader);
+            if (result != null) {
+                shared.increment();
+                return new Outcome<>(result, true);
+            }
+            return new Outcome<>(run(work), false);
+        }
+        try {
+            V result = run(work);
+            flight.complete(result);
+            return new Outcome<>(result, false);
+        } catch (Exception | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    public long executionCount() {
+        return executions.sum();
+    }
+
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    private V run(Callable<V> work) throws Exception {
+        executions.increment();
+        return work.call();
+    }
+
+    private V await(CompletableFuture<V> leader) throws InterruptedException {
+        try {
+            return leader.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param shared whether the value came from another caller's work
+     */
+    public record Outcome<V>(V value, boolean shared) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.epam.springcore.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Trainings store their start as minutes since the epoch; this class converts
+ * between that and the ISO strings of the API.
+ */
+public class TrainingTimes {
+
+    public static final long MINUTES_PER_DAY = 24 * 60;
+
+    private TrainingTimes() {
+    }
+
+    /**
+     * Parses a training date into minutes since the epoch. Accepts an ISO
+     * date ({@code 2025-01-01}, starting at midnight) or an ISO local
+     * date-time ({@code 2025-01-01T18:30}). Times are local to the gym, the
+     * offset is only used to get a comparable number.
+     *
+     * @throws DateTimeParseException if the value is neither
+     */
+    public static long startMinute(String date) {
+        if (date == null) {
+            throw new DateTimeParseException("Training date is missing", "", 0);
+        }
+        LocalDateTime start = isDateTime(date)
+                ? LocalDateTime.parse(date)
+                : LocalDate.parse(date).atStartOfDay();
+        return start.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    /**
+     * Length in minutes of the period a filter value stands for: the whole
+     * day for an ISO date, a single minute for a date-time.
+     */
+    public static long periodMinutes(String date) {
+        return isDateTime(date) ? 1 : MINUTES_PER_DAY;
+    }
+
+    /**
+     * Formats minutes since the epoch as an ISO local date-time, the inverse
+     * of {@link #startMinute(String)}.
+     */
+    public static String format(long startMinute) {
+        return LocalDateTime.ofEpochSecond(startMinute * 60, 0, ZoneOffset.UTC).toString();
+    }
+
+    private static boolean isDateTime(String date) {
+        return date.indexOf('T') >= 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.epam.springcore.util;
+
+import com.epam.springcore.exception.ApiException;
+import com.epam.springcore.model.enums.TrainingType;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Parses the training type names of the API, case-insensitively, so every
+ * endpoint rejects an unknown type the same way.
+ */
+public class TrainingTypes {
+
+    private TrainingTypes() {
+    }
+
+    /**
+     * Returns the training type with that name, or null if there is none.
+     */
+    public static TrainingType parse(String type) {
+        for (TrainingType candidate : TrainingType.values()) {
+            if (candidate.name().equalsIgnoreCase(type)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the training type with that name.
+     *
+     * @throws ApiException with 400 if there is none
+     */
+    public static TrainingType require(String type) {
+        TrainingType trainingType = parse(type);
+        if (trainingType == null) {
+            throw new ApiException("Unknown training type: " + type, HttpStatus.BAD_REQUEST);
+        }
+        return trainingType;
+    }
+}
@@ -0,0 +1,39 @@
+package com.epam.springcore.util;
+
+import com.epam.springcore.exception.ApiException;
+import com.epam.springcore.exception.StaleVersionException;
+import org.springframework.http.HttpStatus;
+
+public class Versions {
+
+    private Versions() {
+    }
+
+    /**
+     * Checks that the client based its update on the current version.
+     *
+     * @param expectedVersion the version the client based its update on, or null for any
+     * @throws StaleVersionException if the client's version is not the current one
+     */
+    public static void check(long currentVersion, Long expectedVersion, String resource) {
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            throw stale(resource, currentVersion);
+        }
+    }
+
+    /**
+     * The error for an update that lost a race with another write between
+     * reading and saving: 412 if the client asked for a specific version,
+     * 409 otherwise, since the client did nothing wrong and may retry.
+     */
+    public static ApiException concurrentUpdate(String resource, Long expectedVersion) {
+        if (expectedVersion != null) {
+            return new StaleVersionException(resource + " has been modified since version " + expectedVersion);
+        }
+        return new ApiException(resource + " was modified concurrently, retry the update", HttpStatus.CONFLICT);
+    }
+
+    private static StaleVersionException stale(String resource, long currentVersion) {
+        return new StaleVersionException(resource + " has been modified, current version is " + currentVersion);
+    }
+}
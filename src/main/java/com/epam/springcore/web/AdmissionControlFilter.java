@@ -0,0 +1,229 @@
+package com.epam.springcore.web;
+
+import com.epam.springcore.cache.TinyLfuCache;
+import com.epam.springcore.response.ErrorResponse;
+import com.epam.springcore.util.AimdLimiter;
+import com.epam.springcore.util.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sheds load before it queues up: requests to the configured endpoints are
+ * answered at once with 429 or 503 and {@code Retry-After} instead of waiting
+ * for a busy server, so latency stays bounded under overload.
+ *
+ * <p>Each client (by remote address) has a token bucket of
+ * {@code admission.client.rate-per-second} requests with bursts of up to
+ * {@code admission.client.burst}; a client over its rate gets 429 and the
+ * time until its next token. Each endpoint pattern has an {@link AimdLimiter}
+ * on concurrent requests; when it is full, requests get 503. The limit grows
+ * while responses are faster than {@code admission.limit.target-latency-ms}
+ * and shrinks when they are slower or shed further down, such as by the
+ * virtual thread filter. Buckets of the most active clients are kept, up to
+ * {@code admission.client.maximum-clients}.
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlFilter.class);
+    private static final long OVERLOAD_RETRY_AFTER_SECONDS = 1;
+
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, AimdLimiter> endpoints = new LinkedHashMap<>();
+    private final TinyLfuCache<String, TokenBucket> clients;
+    private final double clientRate;
+    private final int clientBurst;
+    private final LongAdder throttled = new LongAdder();
+
+    @Autowired
+    public AdmissionControlFilter(ObjectMapper objectMapper,
+                                  @Value("${admission.enabled:true}") boolean enabled,
+                                  @Value("${admission.endpoints:}") String[] patterns,
+                                  @Value("${admission.limit.initial:100}") int initialLimit,
+                                  @Value("${admission.limit.min:10}") int minLimit,
+                                  @Value("${admission.limit.max:1000}") int maxLimit,
+                                  @Value("${admission.limit.target-latency-ms:200}") long targetLatencyMillis,
+                                  @Value("${admission.limit.backoff-ratio:0.9}") double backoffRatio,
+                                  @Value("${admission.client.rate-per-second:100}") double clientRate,
+                                  @Value("${admission.client.burst:200}") int clientBurst,
+                                  @Value("${admission.client.maximum-clients:10000}") long maximumClients) {
+        this.objectMapper = objectMapper;
+        this.clientRate = clientRate;
+        this.clientBurst = clientBurst;
+        if (enabled) {
+            for (String pattern : patterns) {
+                if (!pattern.isBlank()) {
+                    endpoints.put(pattern.trim(), new AimdLimiter(initialLimit, minLimit, maxLimit,
+                            TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis), backoffRatio));
+                }
+            }
+        }
+        this.clients = enabled && clientRate > 0 ? new TinyLfuCache<>(maximumClients) : null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return endpoints.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AimdLimiter limiter = limiterFor(request);
+        if (limiter == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (clients != null) {
+            long now = System.nanoTime();
+            long waitNanos = clients.get(request.getRemoteAddr(), client -> new TokenBucket(clientRate, clientBurst, now))
+                    .tryTake(now);
+            if (waitNanos > 0) {
+                throttled.increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, seconds(waitNanos), "Request rate limit exceeded");
+                return;
+            }
+        }
+        if (!limiter.tryAcquire()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, OVERLOAD_RETRY_AFTER_SECONDS,
+                    "Server is at its concurrency limit");
+            return;
+        }
+
+        Release release = new Release(limiter, response);
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(release);
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                release.run();
+            }
+        }
+    }
+
+    public Map<String, AdmissionStats> stats() {
+        Map<String, AdmissionStats> stats = new LinkedHashMap<>();
+        endpoints.forEach((pattern, limiter) -> stats.put(pattern, new AdmissionStats(pattern, limiter.limit(),
+                limiter.inFlight(), limiter.acceptedCount(), limiter.rejectedCount())));
+        return stats;
+    }
+
+    public long throttledCount() {
+        return throttled.sum();
+    }
+
+    @PreDestroy
+    public void logStats() {
+        stats().values().forEach(stats -> {
+            if (stats.rejectedCount() > 0) {
+                log.info("Admission {}: {} admitted, {} shed ({}% shed), limit {}", stats.endpoint(),
+                        stats.acceptedCount(), stats.rejectedCount(), Math.round(stats.rejectionRatio() * 100),
+                        stats.limit());
+            }
+        });
+        if (throttled.sum() > 0) {
+            log.info("Admission: {} requests over their client's rate limit", throttled.sum());
+        }
+    }
+
+    private AimdLimiter limiterFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, AimdLimiter> endpoint : endpoints.entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        ErrorResponse error = new ErrorResponse();
+        error.setMessage(message);
+        error.setExceptionType("AdmissionRejected");
+        error.setStatusCode(status.value());
+        error.setErrorTime(LocalDateTime.now());
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static long seconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Returns the slot of an admitted request once it has completed,
+     * synchronously or after its asynchronous processing.
+     */
+    private static final class Release implements AsyncListener, Runnable {
+
+        private final AimdLimiter limiter;
+        private final HttpServletResponse response;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Release(AimdLimiter limiter, HttpServletResponse response) {
+            this.limiter = limiter;
+            this.response = response;
+        }
+
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(startNanos, System.nanoTime(),
+                        response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.epam.springcore.web;
+
+/**
+ * Point-in-time state of one admission-controlled endpoint: its current
+ * concurrency limit, requests in flight, and requests admitted or shed
+ * because the limit was reached.
+ */
+public record AdmissionStats(String endpoint, int limit, int inFlight, long acceptedCount, long rejectedCount) {
+
+    public double rejectionRatio() {
+        long requests = acceptedCount + rejectedCount;
+        return requests == 0 ? 0.0 : (double) rejectedCount / requests;
+    }
+}
@@ -0,0 +1,179 @@
+package com.epam.springcore.web;
+
+import com.epam.springcore.util.SingleFlight;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coalesces identical concurrent GET requests to the configured endpoints:
+ * while one request runs the handler, requests with the same URL and
+ * conditional and content negotiation headers wait and receive a copy of its
+ * status, headers and serialized body. Requests arriving after it finished
+ * run the handler again, so a response is no older than the oldest
+ * concurrent identical request. It may miss a write that completed after
+ * that request started but before the waiting one arrived, so a client does
+ * not always read its own write back on these endpoints.
+ *
+ * <p>Endpoints are Ant-style path patterns from {@code coalescing.endpoints};
+ * each pattern keeps its own flights and counters. They should only match
+ * plain reads such as {@code GET /trainer/{id}}: a handler that goes
+ * asynchronous, like the NDJSON exports, is not shared, and its body is
+ * buffered until the asynchronous dispatch finishes, which defeats streaming.
+ */
+@Component
+public class CoalescingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescingFilter.class);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, SingleFlight<String, CapturedResponse>> endpoints = new LinkedHashMap<>();
+
+    public CoalescingFilter(@Value("${coalescing.enabled:true}") boolean enabled,
+                            @Value("${coalescing.endpoints:}") String[] patterns,
+                            @Value("${coalescing.max-wait-ms:1000}") long maxWaitMillis) {
+        if (enabled) {
+            for (String pattern : patterns) {
+                if (!pattern.isBlank()) {
+                    endpoints.put(pattern.trim(), new SingleFlight<>(maxWaitMillis));
+                }
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return endpoints.isEmpty() || !"GET".equals(request.getMethod());
+    }
+
+    // the body of a request that went asynchronous is written to the caching wrapper until its dispatch ends
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            chain.doFilter(request, response);
+            ContentCachingResponseWrapper wrapper =
+                    WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+            if (wrapper != null && !request.isAsyncStarted()) {
+                wrapper.copyBodyToResponse();
+            }
+            return;
+        }
+        SingleFlight<String, CapturedResponse> flights = flightsFor(request);
+        if (flights == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        SingleFlight.Outcome<CapturedResponse> outcome;
+        try {
+            outcome = flights.execute(key(request), () -> capture(request, response, chain));
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+        if (outcome.shared()) {
+            outcome.value().writeTo(response);
+        }
+    }
+
+    public Map<String, CoalescingStats> stats() {
+        Map<String, CoalescingStats> stats = new LinkedHashMap<>();
+        endpoints.forEach((pattern, flights) ->
+                stats.put(pattern, new CoalescingStats(pattern, flights.executionCount(), flights.sharedCount())));
+        return stats;
+    }
+
+    @PreDestroy
+    public void logStats() {
+        stats().values().forEach(stats -> {
+            if (stats.executionCount() + stats.sharedCount() > 0) {
+                log.info("Coalescing {}: {} executions, {} shared ({}% coalesced)", stats.endpoint(),
+                        stats.executionCount(), stats.sharedCount(), Math.round(stats.coalescingRatio() * 100));
+            }
+        });
+    }
+
+    private SingleFlight<String, CapturedResponse> flightsFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, SingleFlight<String, CapturedResponse>> endpoint : endpoints.entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return null;
+    }
+
+    // everything the response may depend on; the API has no sessions or per-user data
+    private static String key(HttpServletRequest request) {
+        return request.getRequestURI() + '?' + request.getQueryString()
+                + '\n' + request.getHeader(HttpHeaders.ACCEPT)
+                + '\n' + request.getHeader(HttpHeaders.IF_NONE_MATCH)
+                + '\n' + request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    /**
+     * Runs the handler for this request and returns a copy of its response
+     * for the waiting ones, or null if it cannot be shared. The body of an
+     * asynchronous response is copied to the client once its asynchronous
+     * dispatch has finished.
+     */
+    private CapturedResponse capture(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        if (request.isAsyncStarted()) {
+            return null;
+        }
+        CapturedResponse captured = CapturedResponse.of(wrapper);
+        wrapper.copyBodyToResponse();
+        return captured;
+    }
+
+    private record CapturedResponse(int status, Map<String, List<String>> headers, byte[] body) {
+
+        static CapturedResponse of(ContentCachingResponseWrapper response) {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : response.getHeaderNames()) {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                    headers.put(name, new ArrayList<>(response.getHeaders(name)));
+                }
+            }
+            if (response.getContentType() != null) {
+                headers.put(HttpHeaders.CONTENT_TYPE, List.of(response.getContentType()));
+            }
+            return new CapturedResponse(response.getStatus(), headers, response.getContentAsByteArray());
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            if (body.length > 0) {
+                response.setContentLength(body.length);
+                response.getOutputStream().write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.epam.springcore.web;
+
+/**
+ * Point-in-time counters of one coalesced endpoint: requests that ran the
+ * handler and requests served with the response of a concurrent identical one.
+ */
+public record CoalescingStats(String endpoint, long executionCount, long sharedCount) {
+
+    public double coalescingRatio() {
+        long requests = executionCount + sharedCount;
+        return requests == 0 ? 0.0 : (double) sharedCount / requests;
+    }
+}
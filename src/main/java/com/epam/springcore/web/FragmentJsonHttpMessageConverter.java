@@ -0,0 +1,88 @@
+package com.epam.springcore.web;
+
+import com.epam.springcore.cache.JsonFragmentCache;
+import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.dto.TrainingDto;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Jackson converter that serves trainee, trainer and training DTOs from a
+ * {@link JsonFragmentCache}, so unchanged entities are never serialized
+ * twice. A DTO on its own is written straight from its cached UTF-8 bytes.
+ * Anything containing DTOs, such as lists and pages, is serialized by
+ * Jackson as usual, except that each DTO is written as its cached fragment,
+ * so the envelope always has the shape Jackson gives it.
+ */
+public class FragmentJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final JsonFragmentCache fragments;
+
+    public FragmentJsonHttpMessageConverter(ObjectMapper objectMapper, long maximumSize) {
+        this(objectMapper, new JsonFragmentCache(objectMapper.writer(), maximumSize));
+    }
+
+    private FragmentJsonHttpMessageConverter(ObjectMapper objectMapper, JsonFragmentCache fragments) {
+        super(objectMapper.copy().registerModule(new SimpleModule("json-fragments")
+                .addSerializer(TraineeDto.class, new FragmentSerializer<>(TraineeDto.class, fragments, objectMapper))
+                .addSerializer(TrainerDto.class, new FragmentSerializer<>(TrainerDto.class, fragments, objectMapper))
+                .addSerializer(TrainingDto.class, new FragmentSerializer<>(TrainingDto.class, fragments, objectMapper))));
+        this.fragments = fragments;
+    }
+
+    public JsonFragmentCache fragments() {
+        return fragments;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (fragments.isCacheable(object)
+                && getJsonEncoding(outputMessage.getHeaders().getContentType()) == JsonEncoding.UTF8) {
+            OutputStream body = outputMessage.getBody();
+            body.write(fragments.get(object));
+            body.flush();
+            return;
+        }
+        super.writeInternal(object, type, outputMessage);
+    }
+
+    /**
+     * Writes a DTO nested in a larger response as its cached fragment, or
+     * with the plain mapper while the cache is disabled.
+     */
+    private static final class FragmentSerializer<T> extends StdSerializer<T> {
+
+        private final JsonFragmentCache fragments;
+        private final ObjectWriter writer;
+
+        private FragmentSerializer(Class<T> type, JsonFragmentCache fragments, ObjectMapper objectMapper) {
+            super(type);
+            this.fragments = fragments;
+            this.writer = objectMapper.writer();
+        }
+
+        @Override
+        public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            if (fragments.isCacheable(value)) {
+                generator.writeRawValue(new String(fragments.get(value), StandardCharsets.UTF_8));
+            } else {
+                writer.writeValue(generator, value);
+            }
+        }
+    }
+}
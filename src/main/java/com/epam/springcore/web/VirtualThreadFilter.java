@@ -0,0 +1,176 @@
+package com.epam.springcore.web;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the rest of the filter chain, and so the controller, on a virtual
+ * thread when {@code mvc.virtual-threads.enabled} is set (Java 21 or later).
+ * The container thread only starts asynchronous processing and returns, so
+ * requests blocked on I/O such as WAL fsyncs no longer hold a container
+ * thread each.
+ *
+ * <p>At most {@code max-concurrency} requests run at once; the others wait on
+ * their own virtual thread and get 503 with {@code Retry-After} if no slot
+ * frees up within {@code acquire-timeout-ms}.
+ *
+ * <p>Handlers that go asynchronous themselves, like the NDJSON exports, take
+ * over the asynchronous context this filter started and complete it through
+ * Spring MVC's own async dispatch.
+ */
+@Component
+public class VirtualThreadFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadFilter.class);
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final Executor executor;
+    private final Semaphore slots;
+    private final long acquireTimeoutMillis;
+    private final LongAdder handled = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public VirtualThreadFilter(@Value("${mvc.virtual-threads.enabled:false}") boolean enabled,
+                               @Value("${mvc.virtual-threads.max-concurrency:1000}") int maxConcurrency,
+                               @Value("${mvc.virtual-threads.acquire-timeout-ms:1000}") long acquireTimeoutMillis) {
+        this(enabled ? virtualThreads() : null, maxConcurrency, acquireTimeoutMillis);
+    }
+
+    VirtualThreadFilter(Executor executor, int maxConcurrency, long acquireTimeoutMillis) {
+        this.executor = executor;
+        this.slots = new Semaphore(maxConcurrency);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /**
+     * Returns an executor starting a virtual thread per task.
+     *
+     * @throws IllegalStateException on Java versions without virtual threads
+     */
+    public static VirtualThreadTaskExecutor virtualThreads() {
+        try {
+            return new VirtualThreadTaskExecutor("vt-request-");
+        } catch (UnsupportedOperationException e) {
+            throw new IllegalStateException("mvc.virtual-threads.enabled requires Java 21 or later", e);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return executor == null || !request.isAsyncSupported();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) {
+        AsyncContext asyncContext = request.startAsync(request, response);
+        // like a blocking request, one on a virtual thread may take as long as its handler
+        asyncContext.setTimeout(0);
+        HandOffRequest handOff = new HandOffRequest(request, asyncContext);
+        executor.execute(() -> {
+            try {
+                run(handOff, response, chain);
+            } finally {
+                if (!handOff.handedOff) {
+                    asyncContext.complete();
+                }
+            }
+        });
+    }
+
+    private void run(HandOffRequest request, HttpServletResponse response, FilterChain chain) {
+        boolean acquired = false;
+        try {
+            acquired = slots.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                rejected.increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            }
+            handled.increment();
+            chain.doFilter(request, response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | ServletException | RuntimeException e) {
+            log.error("Request {} {} failed", request.getMethod(), request.getRequestURI(), e);
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
+        } finally {
+            if (acquired) {
+                slots.release();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void logStats() {
+        if (handled.sum() + rejected.sum() > 0) {
+            log.info("Virtual threads: {} requests handled, {} rejected", handled.sum(), rejected.sum());
+        }
+    }
+
+    /**
+     * Hides the asynchronous context started by the filter from the handler
+     * until the handler starts asynchronous processing itself, which then
+     * gets that same context and the duty to complete it.
+     */
+    private static final class HandOffRequest extends HttpServletRequestWrapper {
+
+        private final AsyncContext asyncContext;
+        private volatile boolean handedOff;
+
+        private HandOffRequest(HttpServletRequest request, AsyncContext asyncContext) {
+            super(request);
+            this.asyncContext = asyncContext;
+        }
+
+        @Override
+        public AsyncContext startAsync() {
+            handedOff = true;
+            return asyncContext;
+        }
+
+        @Override
+        public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+            handedOff = true;
+            return asyncContext;
+        }
+
+        @Override
+        public boolean isAsyncStarted() {
+            return handedOff && super.isAsyncStarted();
+        }
+
+        @Override
+        public AsyncContext getAsyncContext() {
+            if (!handedOff) {
+                throw new IllegalStateException("Asynchronous processing not started");
+            }
+            return asyncContext;
+        }
+    }
+}
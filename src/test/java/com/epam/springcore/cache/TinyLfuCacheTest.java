@@ -0,0 +1,79 @@
+package com.epam.springcore.cache;
+
+import com.epam.springcore.model.User;
+import com.epam.springcore.storage.UserStorage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for TinyLfuCache")
+class TinyLfuCacheTest {
+
+    @Test
+    @DisplayName("Should load on a miss and serve later reads from the cache")
+    void shouldReadThrough() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(100);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("a", key -> key + loads.incrementAndGet())).isEqualTo("a1");
+        assertThat(cache.get("a", key -> key + loads.incrementAndGet())).isEqualTo("a1");
+        assertThat(cache.get("missing", key -> null)).isNull();
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stay within its maximum size and keep frequently used entries")
+    void shouldEvictByFrequency() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+        for (int round = 0; round < 10; round++) {
+            for (int key = 0; key < 50; key++) {
+                cache.get(key, k -> k);
+            }
+        }
+
+        IntStream.range(1000, 11000).forEach(key -> cache.get(key, k -> k));
+
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(100);
+        assertThat(cache.stats().evictionCount()).isGreaterThan(0);
+        long retained = IntStream.range(0, 50).filter(key -> cache.getIfPresent(key) != null).count();
+        assertThat(retained).isGreaterThanOrEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Should not cache a value loaded while the key was invalidated")
+    void shouldDropLoadRacingWithInvalidation() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(100);
+
+        String loaded = cache.get("a", key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.getIfPresent("a")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should invalidate entity entries on every storage write")
+    void shouldInvalidateOnStorageWrites() {
+        UserStorage storage = new UserStorage();
+        EntityCache<User> cache = new EntityCache<>(storage, 100);
+        storage.put("1", new User("Ali", "Kaya", "Ali.Kaya"));
+        assertThat(cache.get("1").getFirstName()).isEqualTo("Ali");
+
+        storage.put("1", new User("Veli", "Kaya", "Veli.Kaya"));
+        assertThat(cache.get("1").getFirstName()).isEqualTo("Veli");
+
+        storage.remove("1");
+        assertThat(cache.get("1")).isNull();
+        assertThat(cache.stats().hitCount()).isZero();
+    }
+}
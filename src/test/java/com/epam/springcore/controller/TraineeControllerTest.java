@@ -1,10 +1,14 @@
 package com.epam.springcore.controller;
 
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
 import com.epam.springcore.dto.TraineeDto;
 import com.epam.springcore.exception.GymNotFoundException;
+import com.epam.springcore.exception.StaleVersionException;
 import com.epam.springcore.exception.handler.GlobalExceptionHandler;
 import com.epam.springcore.request.create.CreateTraineeRequest;
 import com.epam.springcore.service.ITraineeService;
+import com.epam.springcore.service.impl.TraineeAsyncServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -15,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDate;
@@ -23,6 +28,8 @@ import java.util.Collections;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,6 +51,7 @@ public class TraineeControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(traineeService.getTraineesRevision()).thenReturn(new RevisionDto("r1", 1_700_000_000_000L));
         TraineeController traineeController = new TraineeController(traineeService);
         mockMvc = MockMvcBuilders.standaloneSetup(traineeController).build();
 
@@ -85,8 +93,11 @@ public class TraineeControllerTest {
     void testGetTraineeById_Positive() throws Exception {
         when(traineeService.getTrainee("1")).thenReturn(mockTrainee);
 
+        mockTrainee.setVersion(2);
+
         mockMvc.perform(get(BASE_URL + "/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
                 .andExpect(jsonPath("$.lastName").value("Dilsiz"));
     }
 
@@ -101,16 +112,127 @@ public class TraineeControllerTest {
     }
 
     @Test
-    @DisplayName("PUT /trainee/{id} - Positive: update trainee successfully")
+    @DisplayName("GET /trainee - Positive: unchanged collection should return 304 without building the list")
+    void testGetAllTrainees_NotModified() throws Exception {
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"r1\""))
+                .andExpect(header().exists("Last-Modified"));
+
+        mockMvc.perform(get(BASE_URL).header("If-None-Match", "\"r1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get(BASE_URL).header("If-None-Match", "\"r0\""))
+                .andExpect(status().isOk());
+
+        verify(traineeService, times(2)).getAllTrainees();
+    }
+
+    @Test
+    @DisplayName("GET /trainee/{id} - Positive: unchanged trainee should return 304")
+    void testGetTraineeById_NotModified() throws Exception {
+        mockTrainee.setVersion(2);
+        when(traineeService.getTrainee("1")).thenReturn(mockTrainee);
+
+        mockMvc.perform(get(BASE_URL + "/1").header("If-None-Match", "W/\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /trainee/page - Positive: return a page with the next cursor")
+    void testGetTraineePage_Positive() throws Exception {
+        when(traineeService.getTraineePage("0", 1))
+                .thenReturn(new PageDto<>(Collections.singletonList(mockTrainee), "1"));
+
+        mockMvc.perform(get(BASE_URL + "/page").param("after", "0").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("1"));
+    }
+
+    @Test
+    @DisplayName("PUT /trainee/{id} - Positive: update trainee at the version given in If-Match")
     void testUpdateTrainee_Positive() throws Exception {
-        when(traineeService.updateTrainee(eq("1"), any(CreateTraineeRequest.class)))
+        mockTrainee.setVersion(4);
+        when(traineeService.updateTrainee(eq("1"), any(CreateTraineeRequest.class), eq(3L)))
                 .thenReturn(mockTrainee);
 
         mockMvc.perform(put(BASE_URL + "/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.address").value("Mersin"))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    @DisplayName("PUT /trainee/{id} - Negative: stale If-Match should return 412")
+    void testUpdateTrainee_StaleVersion() throws Exception {
+        when(traineeService.updateTrainee(eq("1"), any(CreateTraineeRequest.class), eq(2L)))
+                .thenThrow(new StaleVersionException("Trainee 1 has been modified, current version is 3"));
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TraineeController(traineeService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(put(BASE_URL + "/1")
+                        .header("If-Match", "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.statusCode").value(412));
+
+        mockMvc.perform(put(BASE_URL + "/1")
+                        .header("If-Match", "version-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST and GET /trainee/async - Positive: answered once the async service completes")
+    void testAsyncEndpoints_Positive() throws Exception {
+        when(traineeService.createTrainee(any(CreateTraineeRequest.class))).thenReturn(mockTrainee);
+        when(traineeService.getTrainee("1")).thenReturn(mockTrainee);
+        mockMvc = asyncMockMvc();
+
+        MvcResult created = mockMvc.perform(post(BASE_URL + "/async")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(created))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.firstName").value("Cihan"));
+
+        MvcResult found = mockMvc.perform(get(BASE_URL + "/async/1")).andReturn();
+        mockMvc.perform(asyncDispatch(found))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.address").value("Mersin"));
+                .andExpect(header().string("ETag", "\"0\""));
+    }
+
+    @Test
+    @DisplayName("GET /trainee/async/{id} - Negative: service failures map to the usual error response")
+    void testGetTraineeAsync_NotFound() throws Exception {
+        when(traineeService.getTrainee("2")).thenThrow(new GymNotFoundException("Trainee not found"));
+        mockMvc = asyncMockMvc();
+
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/async/2")).andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    // the async service runs on the calling thread, so results are ready when the handler returns
+    private MockMvc asyncMockMvc() {
+        TraineeController controller = new TraineeController(traineeService);
+        controller.setTraineeAsyncService(new TraineeAsyncServiceImpl(traineeService, Runnable::run));
+        return MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.epam.springcore.controller;
 
+import com.epam.springcore.dto.RevisionDto;
 import com.epam.springcore.dto.TrainerDto;
 import com.epam.springcore.exception.GymNotFoundException;
 import com.epam.springcore.exception.handler.GlobalExceptionHandler;
@@ -21,6 +22,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,6 +47,7 @@ public class TrainerControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(trainerService.getTrainersRevision()).thenReturn(new RevisionDto("r1", 1_700_000_000_000L));
 
         trainerController = new TrainerController(trainerService);
         mockMvc = MockMvcBuilders.standaloneSetup(trainerController).build();
@@ -101,7 +104,7 @@ public class TrainerControllerTest {
     @Test
     @DisplayName("PUT /trainers/{id} - update")
     void testUpdateTrainer() throws Exception {
-        when(trainerService.updateTrainer(eq("1"), any(CreateTrainerRequest.class)))
+        when(trainerService.updateTrainer(eq("1"), any(CreateTrainerRequest.class), isNull()))
                 .thenReturn(mockTrainer);
 
         mockMvc.perform(put(BASE_URL + "/1")
@@ -163,7 +166,7 @@ public class TrainerControllerTest {
         request.setLastName("Yılmaz");
         request.setSpecialty(TrainingType.YOGA);
 
-        when(trainerService.updateTrainer(eq("999"), any(CreateTrainerRequest.class)))
+        when(trainerService.updateTrainer(eq("999"), any(CreateTrainerRequest.class), isNull()))
                 .thenThrow(new GymNotFoundException("Trainer not found"));
 
         mockMvc = MockMvcBuilders
@@ -1,10 +1,18 @@
 package com.epam.springcore.controller;
 
+import com.epam.springcore.dao.TrainingDao;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.RevisionDto;
 import com.epam.springcore.dto.TrainingDto;
+import com.epam.springcore.exception.ApiException;
 import com.epam.springcore.exception.GymNotFoundException;
 import com.epam.springcore.exception.handler.GlobalExceptionHandler;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.enums.TrainingType;
 import com.epam.springcore.request.create.CreateTrainingRequest;
 import com.epam.springcore.service.ITrainingService;
+import com.epam.springcore.service.impl.TrainingServiceImpl;
+import com.epam.springcore.util.NdjsonWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,15 +20,21 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,8 +59,10 @@ public class TrainingControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(trainingService.getTrainingsRevision()).thenReturn(new RevisionDto("r1", 1_700_000_000_000L));
 
         trainingController = new TrainingController(trainingService);
+        trainingController.setNdjsonWriter(new NdjsonWriter(objectMapper));
         mockMvc = MockMvcBuilders.standaloneSetup(trainingController).build();
 
         request = new CreateTrainingRequest();
@@ -99,10 +115,87 @@ public class TrainingControllerTest {
                 .andExpect(jsonPath("$.length()").value(1));
     }
 
+    @Test
+    @DisplayName("GET /training/page - first page with the default size")
+    void testGetTrainingPage() throws Exception {
+        when(trainingService.getTrainingPage(null, 50)).thenReturn(new PageDto<>(List.of(mockTraining), null));
+
+        mockMvc.perform(get(BASE_URL + "/page"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value("1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /training/export - stream trainings as NDJSON")
+    void testExportTrainings() throws Exception {
+        when(trainingService.streamTrainings()).thenReturn(Stream.of(mockTraining, mockTraining));
+
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(startsWith("{\"id\":\"1\"")));
+        assertEquals(2, result.getResponse().getContentAsString().split("\n").length);
+    }
+
+    @Test
+    @DisplayName("GET /training/search - search trainings by trainer")
+    void testSearchTrainings() throws Exception {
+        when(trainingService.searchTrainings(null, "20", null, null)).thenReturn(List.of(mockTraining));
+
+        mockMvc.perform(get(BASE_URL + "/search").param("trainerId", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].trainerId").value("20"));
+    }
+
+    @Test
+    @DisplayName("GET /training/search - Negative: unknown type should return 400")
+    void testSearchTrainings_UnknownType() throws Exception {
+        when(trainingService.searchTrainings(null, null, null, "karate"))
+                .thenThrow(new ApiException("Unknown training type: karate", HttpStatus.BAD_REQUEST));
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(trainingController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(get(BASE_URL + "/search").param("type", "karate"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown training type: karate"))
+                .andExpect(jsonPath("$.statusCode").value(400));
+    }
+
+    @Test
+    @DisplayName("POST and PUT /training - Negative: unknown type should return 400")
+    void testCreateAndUpdateTraining_UnknownType() throws Exception {
+        TrainingDao trainingDao = Mockito.mock(TrainingDao.class);
+        when(trainingDao.findById("1")).thenReturn(new Training("10", "20", 0, TrainingType.CROSSFIT, 60));
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TrainingController(new TrainingServiceImpl(trainingDao, null)))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        request.setType("karate");
+        String body = objectMapper.writeValueAsString(request);
+
+        mockMvc.perform(post(BASE_URL).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown training type: karate"));
+        mockMvc.perform(put(BASE_URL + "/1").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown training type: karate"));
+        Mockito.verify(trainingDao, Mockito.never()).saveIfNoConflict(any());
+        Mockito.verify(trainingDao, Mockito.never()).saveIfVersion(any(), Mockito.anyLong());
+    }
+
     @Test
     @DisplayName("PUT /training/{id} - update training")
     void testUpdateTraining() throws Exception {
-        when(trainingService.updateTraining(eq("1"), any(CreateTrainingRequest.class)))
+        when(trainingService.updateTraining(eq("1"), any(CreateTrainingRequest.class), isNull()))
                 .thenReturn(mockTraining);
 
         mockMvc.perform(put(BASE_URL + "/1")
@@ -145,7 +238,7 @@ public class TrainingControllerTest {
         request.setType("CROSSFIT");
         request.setDurationMinutes(60);
 
-        when(trainingService.updateTraining(eq("999"), any(CreateTrainingRequest.class)))
+        when(trainingService.updateTraining(eq("999"), any(CreateTrainingRequest.class), isNull()))
                 .thenThrow(new GymNotFoundException("Training not found"));
 
         mockMvc = MockMvcBuilders
@@ -0,0 +1,245 @@
+package com.epam.springcore.dao;
+
+import com.epam.springcore.cache.EntityCaches;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import com.epam.springcore.util.IdGenerator;
+import com.epam.springcore.util.TrainingTimes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for TrainingDao indexes")
+class TrainingDaoTest {
+
+    private TrainingDao trainingDao;
+
+    @BeforeEach
+    void setUp() {
+        TrainingStorage trainingStorage = new TrainingStorage();
+        trainingDao = new TrainingDao();
+        trainingDao.setTrainingStorage(trainingStorage);
+        trainingDao.setEntityCaches(new EntityCaches(true, 0, 0, 0, 100,
+                new UserStorage(), new TraineeStorage(), new TrainerStorage(), trainingStorage));
+        trainingDao.setIdGenerator(new IdGenerator());
+    }
+
+    private Training training(String id, String traineeId, String trainerId, String date, TrainingType type) {
+        Training training = new Training(traineeId, trainerId, TrainingTimes.startMinute(date), type, 60);
+        training.setId(id);
+        return training;
+    }
+
+    private static long day(String date) {
+        return TrainingTimes.startMinute(date);
+    }
+
+    @Test
+    @DisplayName("Should find trainings by each indexed attribute")
+    void shouldFindByIndexedAttributes() {
+        trainingDao.save(training("1", "t1", "r1", "2025-01-01", TrainingType.YOGA));
+        trainingDao.save(training("2", "t1", "r2", "2025-01-02", TrainingType.BOXING));
+        trainingDao.save(training("3", "t2", "r1", "2025-01-01", TrainingType.YOGA));
+
+        assertThat(trainingDao.findByTraineeId("t1")).extracting(Training::getId).containsExactlyInAnyOrder("1", "2");
+        assertThat(trainingDao.findByTrainerId("r1")).extracting(Training::getId).containsExactlyInAnyOrder("1", "3");
+        assertThat(trainingDao.findByStartBetween(day("2025-01-02"), day("2025-01-03")))
+                .extracting(Training::getId).containsExactly("2");
+        assertThat(trainingDao.findByType(TrainingType.YOGA)).extracting(Training::getId).containsExactlyInAnyOrder("1", "3");
+        assertThat(trainingDao.findByCriteria("t1", "r1", null, null, TrainingType.YOGA))
+                .extracting(Training::getId).containsExactly("1");
+        assertThat(trainingDao.findByCriteria(null, null, day("2025-01-01"), day("2025-01-02"), TrainingType.YOGA))
+                .extracting(Training::getId).containsExactly("1", "3");
+    }
+
+    @Test
+    @DisplayName("Should return trainings of a start range in start order")
+    void shouldFindByStartRangeInOrder() {
+        trainingDao.save(training("1", "t1", "r1", "2025-01-03T09:00", TrainingType.YOGA));
+        trainingDao.save(training("2", "t2", "r2", "2025-01-01T18:30", TrainingType.BOXING));
+        trainingDao.save(training("3", "t3", "r3", "2025-01-02", TrainingType.YOGA));
+        trainingDao.save(training("4", "t4", "r4", "2025-01-05", TrainingType.YOGA));
+
+        assertThat(trainingDao.findByStartBetween(day("2025-01-01"), day("2025-01-04")))
+                .extracting(Training::getId).containsExactly("2", "3", "1");
+        assertThat(trainingDao.findByStartBetween(day("2025-01-03"), TrainingTimes.startMinute("2025-01-03T09:00")))
+                .isEmpty();
+
+        Training moved = trainingDao.findById("4");
+        moved.setStartMinute(day("2024-12-31"));
+        trainingDao.save(moved);
+        assertThat(trainingDao.findByStartBetween(day("2024-12-31"), day("2025-01-02")))
+                .extracting(Training::getId).containsExactly("4", "2");
+    }
+
+    @Test
+    @DisplayName("Should keep monthly trainer minutes up to date on save, update and delete")
+    void shouldAggregateTrainerMinutesPerMonth() {
+        YearMonth january = YearMonth.of(2025, 1);
+        trainingDao.save(training("1", "t1", "r1", "2025-01-03T09:00", TrainingType.YOGA));
+        trainingDao.save(training("2", "t2", "r1", "2025-01-31T23:00", TrainingType.YOGA));
+        trainingDao.save(training("3", "t3", "r1", "2025-02-01", TrainingType.YOGA));
+        trainingDao.save(training("4", "t4", "r2", "2025-01-10", TrainingType.YOGA));
+        assertThat(trainingDao.sumTrainerMinutes("r1", january)).isEqualTo(120);
+
+        Training moved = training("2", "t2", "r2", "2025-01-31T23:00", TrainingType.YOGA);
+        moved.setDurationMinutes(90);
+        trainingDao.save(moved);
+        trainingDao.delete("4");
+
+        assertThat(trainingDao.sumTrainerMinutes("r1", january)).isEqualTo(60);
+        assertThat(trainingDao.sumTrainerMinutes("r2", january)).isEqualTo(90);
+        assertThat(trainingDao.sumTrainerMinutes("r1", YearMonth.of(2025, 2))).isEqualTo(60);
+        assertThat(trainingDao.sumTrainerMinutes("r3", january)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should move a training between buckets when it is updated in place")
+    void shouldReindexOnUpdate() {
+        Training training = training("1", "t1", "r1", "2025-01-01", TrainingType.YOGA);
+        trainingDao.save(training);
+
+        training.setTrainerId("r2");
+        training.setType(TrainingType.CARDIO);
+        trainingDao.save(training);
+
+        assertThat(trainingDao.findByTrainerId("r1")).isEmpty();
+        assertThat(trainingDao.findByType(TrainingType.YOGA)).isEmpty();
+        assertThat(trainingDao.findByTrainerId("r2")).extracting(Training::getId).containsExactly("1");
+        assertThat(trainingDao.findByType(TrainingType.CARDIO)).extracting(Training::getId).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Should drop deleted trainings from every index")
+    void shouldUnindexOnDelete() {
+        trainingDao.save(training("1", "t1", "r1", "2025-01-01", TrainingType.YOGA));
+
+        trainingDao.delete("1");
+
+        List<Training> byTrainee = trainingDao.findByTraineeId("t1");
+        assertThat(byTrainee).isEmpty();
+        assertThat(trainingDao.findByStartBetween(day("2025-01-01"), day("2025-01-02"))).isEmpty();
+        assertThat(trainingDao.findByType(TrainingType.YOGA)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page through trainings in numeric id order")
+    void shouldPageInIdOrder() {
+        for (int i = 1; i <= 12; i++) {
+            trainingDao.save(training(String.valueOf(i), "t1", "r1", "2025-01-01", TrainingType.YOGA));
+        }
+        trainingDao.delete("3");
+
+        assertThat(trainingDao.findPage(null, 5)).extracting(Training::getId).containsExactly("1", "2", "4", "5", "6");
+        assertThat(trainingDao.findPage("6", 5)).extracting(Training::getId).containsExactly("7", "8", "9", "10", "11");
+        assertThat(trainingDao.findPage("11", 5)).extracting(Training::getId).containsExactly("12");
+    }
+
+    @Test
+    @DisplayName("Should reject bookings overlapping the trainer's or the trainee's schedule")
+    void shouldRejectOverlappingBookings() {
+        assertThat(trainingDao.saveIfNoConflict(training("1", "t1", "r1", "2025-01-01T10:00", TrainingType.YOGA))).isEmpty();
+
+        assertThat(trainingDao.saveIfNoConflict(training("2", "t2", "r1", "2025-01-01T10:30", TrainingType.YOGA)))
+                .containsExactly("1");
+        assertThat(trainingDao.saveIfNoConflict(training("3", "t1", "r2", "2025-01-01T09:30", TrainingType.YOGA)))
+                .containsExactly("1");
+        assertThat(trainingDao.saveIfNoConflict(training("4", "t1", "r1", "2025-01-01T11:00", TrainingType.YOGA))).isEmpty();
+        assertThat(trainingDao.findById("2")).isNull();
+        assertThat(trainingDao.findById("3")).isNull();
+
+        // moving a training only conflicts with the others
+        assertThat(trainingDao.saveIfNoConflict(training("1", "t1", "r1", "2025-01-01T09:30", TrainingType.YOGA))).isEmpty();
+        assertThat(trainingDao.saveIfNoConflict(training("1", "t1", "r1", "2025-01-01T10:30", TrainingType.YOGA)))
+                .containsExactly("4");
+        trainingDao.delete("4");
+        assertThat(trainingDao.saveIfNoConflict(training("5", "t3", "r1", "2025-01-01T11:00", TrainingType.YOGA))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should give ids only to accepted bookings")
+    void shouldNotUseIdsForRejectedBookings() {
+        assertThat(trainingDao.saveIfNoConflict(training(null, "t1", "r1", "2025-01-01T10:00", TrainingType.YOGA))).isEmpty();
+        for (int i = 0; i < 50; i++) {
+            Training rejected = training(null, "t" + (i + 2), "r1", "2025-01-01T10:30", TrainingType.YOGA);
+            assertThat(trainingDao.saveIfNoConflict(rejected)).containsExactly("1");
+            assertThat(rejected.getId()).isNull();
+        }
+        List<List<String>> batch = trainingDao.saveAllIfNoConflict(List.of(
+                training(null, "t2", "r1", "2025-01-01T10:30", TrainingType.YOGA),
+                training(null, "t2", "r2", "2025-01-01T12:00", TrainingType.YOGA)));
+
+        assertThat(batch).containsExactly(List.of("1"), List.of());
+        assertThat(trainingDao.findByTrainerId("r2")).extracting(Training::getId).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent overlapping bookings through")
+    void shouldSerializeConcurrentBookings() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> attempts = IntStream.range(0, 200)
+                    .mapToObj(i -> executor.submit(() -> trainingDao.saveIfNoConflict(
+                            training(null, "t" + i, "r1", "2025-01-01T10:" + String.format("%02d", i % 60), TrainingType.YOGA))))
+                    .toList();
+            int booked = 0;
+            for (Future<List<String>> attempt : attempts) {
+                if (attempt.get().isEmpty()) {
+                    booked++;
+                }
+            }
+            assertThat(booked).isEqualTo(1);
+            assertThat(trainingDao.findByTrainerId("r1")).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should save a training only at the expected version, once per version under contention")
+    void shouldSaveOnlyAtExpectedVersion() throws Exception {
+        trainingDao.save(training("1", "t1", "r1", "2025-01-01T09:00", TrainingType.YOGA));
+        trainingDao.save(training("2", "t2", "r1", "2025-01-01T12:00", TrainingType.YOGA));
+
+        assertThat(trainingDao.saveIfVersion(training("1", "t1", "r1", "2025-01-01T10:00", TrainingType.YOGA), 0))
+                .isEmpty();
+        assertThat(trainingDao.findById("1").getVersion()).isEqualTo(1);
+        assertThat(trainingDao.saveIfVersion(training("1", "t1", "r1", "2025-01-01T11:00", TrainingType.YOGA), 0))
+                .isNull();
+        assertThat(trainingDao.saveIfVersion(training("1", "t1", "r1", "2025-01-01T11:30", TrainingType.YOGA), 1))
+                .containsExactly("2");
+        assertThat(trainingDao.saveIfVersion(training("9", "t1", "r1", "2025-01-02", TrainingType.YOGA), 0)).isNull();
+        assertThat(trainingDao.findById("1").getStartMinute()).isEqualTo(TrainingTimes.startMinute("2025-01-01T10:00"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> attempts = IntStream.range(0, 100)
+                    .mapToObj(i -> executor.submit(() -> trainingDao.saveIfVersion(
+                            training("1", "t1", "r1", "2025-01-03T" + String.format("%02d", i % 24) + ":00", TrainingType.YOGA), 1)))
+                    .toList();
+            int saved = 0;
+            for (Future<List<String>> attempt : attempts) {
+                if (attempt.get() != null) {
+                    saved++;
+                }
+            }
+            assertThat(saved).isEqualTo(1);
+            assertThat(trainingDao.findById("1").getVersion()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
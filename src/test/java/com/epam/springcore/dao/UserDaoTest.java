@@ -0,0 +1,67 @@
+package com.epam.springcore.dao;
+
+import com.epam.springcore.cache.EntityCaches;
+import com.epam.springcore.model.User;
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import com.epam.springcore.util.IdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for UserDao reads through the entity cache")
+class UserDaoTest {
+
+    private UserStorage userStorage;
+    private EntityCaches entityCaches;
+    private UserDao userDao;
+
+    @BeforeEach
+    void setUp() {
+        userStorage = new UserStorage();
+        entityCaches = new EntityCaches(true, 100, 0, 0, 0,
+                userStorage, new TraineeStorage(), new TrainerStorage(), new TrainingStorage());
+        userDao = new UserDao();
+        userDao.setUserStorage(userStorage);
+        userDao.setEntityCaches(entityCaches);
+        userDao.setIdGenerator(new IdGenerator());
+        userDao.save(user("1", "John", "John.Doe"));
+    }
+
+    private static User user(String id, String firstName, String username) {
+        User user = new User(firstName, "Doe", username);
+        user.setId(id);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should return the new value after an update of a cached user")
+    void shouldNotServeStaleUserAfterUpdate() {
+        assertThat(userDao.findById("1").getFirstName()).isEqualTo("John");
+        assertThat(userDao.findById("1").getFirstName()).isEqualTo("John");
+        assertThat(entityCaches.users().stats().hitCount()).isEqualTo(1);
+
+        userStorage.put("1", user("1", "Jack", "Jack.Doe"));
+        assertThat(userDao.findById("1").getFirstName()).isEqualTo("Jack");
+
+        User renamed = user("1", "Jim", "Jim.Doe");
+        assertThat(userDao.saveIfVersion(renamed, 0)).isTrue();
+        assertThat(userDao.findById("1").getFirstName()).isEqualTo("Jim");
+        assertThat(userDao.findById("1").getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return null after a cached user is deleted")
+    void shouldNotServeDeletedUser() {
+        assertThat(userDao.findById("1")).isNotNull();
+
+        userDao.delete("1");
+
+        assertThat(userDao.findById("1")).isNull();
+        assertThat(userStorage.isUsernameTaken("John.Doe")).isFalse();
+    }
+}
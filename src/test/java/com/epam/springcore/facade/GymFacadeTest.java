@@ -0,0 +1,137 @@
+package com.epam.springcore.facade;
+
+import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.dto.TrainingDto;
+import com.epam.springcore.exception.ScheduleConflictException;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.request.create.CreateTraineeRequest;
+import com.epam.springcore.request.create.CreateTrainerRequest;
+import com.epam.springcore.request.create.CreateTrainingRequest;
+import com.epam.springcore.service.ITraineeService;
+import com.epam.springcore.service.ITrainerService;
+import com.epam.springcore.service.ITrainingService;
+import com.epam.springcore.service.impl.TraineeAsyncServiceImpl;
+import com.epam.springcore.service.impl.TrainerAsyncServiceImpl;
+import com.epam.springcore.service.impl.TrainingAsyncServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Unit Tests for GymFacade")
+class GymFacadeTest {
+
+    @Mock
+    private ITraineeService traineeService;
+    @Mock
+    private ITrainerService trainerService;
+    @Mock
+    private ITrainingService trainingService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private GymFacade facade;
+
+    private final CreateTraineeRequest traineeRequest =
+            new CreateTraineeRequest("Ali", "Yilmaz", LocalDate.of(2000, 5, 15), "Istanbul");
+    private final CreateTrainerRequest trainerRequest = new CreateTrainerRequest("Ahmet", "Kaya", TrainingType.YOGA);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        facade = new GymFacade(trainerService, traineeService, trainingService,
+                new TrainerAsyncServiceImpl(trainerService, executor),
+                new TraineeAsyncServiceImpl(traineeService, executor),
+                new TrainingAsyncServiceImpl(trainingService, executor));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should register trainee and trainer in parallel, then schedule their training")
+    void shouldEnrollInParallel() {
+        // each registration waits for the other to start, so running them one after another times out
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(traineeService.createTrainee(any())).thenAnswer(invocation -> {
+            awaitOther(bothStarted);
+            return new TraineeDto("1", "Ali", "Yilmaz", LocalDate.of(2000, 5, 15), "Istanbul", "Ali.Yilmaz");
+        });
+        when(trainerService.createTrainer(any())).thenAnswer(invocation -> {
+            awaitOther(bothStarted);
+            TrainerDto trainer = new TrainerDto();
+            trainer.setId("2");
+            trainer.setSpecialization("YOGA");
+            return trainer;
+        });
+        TrainingDto scheduled = new TrainingDto("3", "1", "2", "2025-08-01", "YOGA", 45);
+        when(trainingService.createTraining(any())).thenReturn(scheduled);
+
+        TrainingDto training = facade.enroll(traineeRequest, trainerRequest, "2025-08-01", 45).join();
+
+        assertThat(training).isSameAs(scheduled);
+        ArgumentCaptor<CreateTrainingRequest> request = ArgumentCaptor.forClass(CreateTrainingRequest.class);
+        verify(trainingService).createTraining(request.capture());
+        assertThat(request.getValue().getTraineeId()).isEqualTo("1");
+        assertThat(request.getValue().getTrainerId()).isEqualTo("2");
+        assertThat(request.getValue().getType()).isEqualTo("YOGA");
+        assertThat(request.getValue().getDurationMinutes()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Should fail the enrollment with the exception of the failed step")
+    void shouldPropagateFailures() {
+        when(traineeService.createTrainee(any()))
+                .thenReturn(new TraineeDto("1", "Ali", "Yilmaz", LocalDate.of(2000, 5, 15), "Istanbul", "Ali.Yilmaz"));
+        TrainerDto trainer = new TrainerDto();
+        trainer.setId("2");
+        trainer.setSpecialization("YOGA");
+        when(trainerService.createTrainer(any())).thenReturn(trainer);
+        when(trainingService.createTraining(any())).thenThrow(new ScheduleConflictException("Overlaps 7"));
+
+        assertThatThrownBy(() -> facade.enroll(traineeRequest, trainerRequest, "2025-08-01", 45).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ScheduleConflictException.class);
+        verify(traineeService).deleteTrainee("1");
+        verify(trainerService).deleteTrainer("2");
+    }
+
+    @Test
+    @DisplayName("Should delete the registered trainee when the trainer registration fails")
+    void shouldDeleteRegisteredProfilesOnFailure() {
+        when(traineeService.createTrainee(any()))
+                .thenReturn(new TraineeDto("1", "Ali", "Yilmaz", LocalDate.of(2000, 5, 15), "Istanbul", "Ali.Yilmaz"));
+        when(trainerService.createTrainer(any())).thenThrow(new IllegalStateException("Storage unavailable"));
+
+        assertThatThrownBy(() -> facade.enroll(traineeRequest, trainerRequest, "2025-08-01", 45).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(traineeService).deleteTrainee("1");
+        verify(trainerService, never()).deleteTrainer(any());
+        verify(trainingService, never()).createTraining(any());
+    }
+
+    private static void awaitOther(CountDownLatch bothStarted) throws InterruptedException {
+        bothStarted.countDown();
+        assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,46 @@
+package com.epam.springcore.init;
+
+import com.epam.springcore.persistence.StorageRecovery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.Mockito.*;
+
+public class SeedDataLoaderTest {
+
+    @Test
+    @DisplayName("Should load trainings only after trainers and trainees")
+    void testLoad_ShouldLoadTrainingsLast() {
+        TrainerInitializer trainerInitializer = mock(TrainerInitializer.class);
+        TraineeInitializer traineeInitializer = mock(TraineeInitializer.class);
+        TrainingInitializer trainingInitializer = mock(TrainingInitializer.class);
+        when(trainerInitializer.init()).thenReturn(SeedLoadResult.success("trainers", 5, 1_000));
+        when(traineeInitializer.init()).thenReturn(SeedLoadResult.success("trainees", 5, 1_000));
+        when(trainingInitializer.init()).thenReturn(SeedLoadResult.success("trainings", 5, 1_000));
+
+        new SeedDataLoader(trainerInitializer, traineeInitializer, trainingInitializer,
+                mock(StorageRecovery.class)).load();
+
+        InOrder afterTrainers = inOrder(trainerInitializer, trainingInitializer);
+        afterTrainers.verify(trainerInitializer).init();
+        afterTrainers.verify(trainingInitializer).init();
+        InOrder afterTrainees = inOrder(traineeInitializer, trainingInitializer);
+        afterTrainees.verify(traineeInitializer).init();
+        afterTrainees.verify(trainingInitializer).init();
+    }
+
+    @Test
+    @DisplayName("Should skip seeding when storages were recovered")
+    void testLoad_ShouldSkipWhenRecovered() {
+        TrainerInitializer trainerInitializer = mock(TrainerInitializer.class);
+        TraineeInitializer traineeInitializer = mock(TraineeInitializer.class);
+        TrainingInitializer trainingInitializer = mock(TrainingInitializer.class);
+        StorageRecovery storageRecovery = mock(StorageRecovery.class);
+        when(storageRecovery.hasRecoveredData()).thenReturn(true);
+
+        new SeedDataLoader(trainerInitializer, traineeInitializer, trainingInitializer, storageRecovery).load();
+
+        verifyNoInteractions(trainerInitializer, traineeInitializer, trainingInitializer);
+    }
+}
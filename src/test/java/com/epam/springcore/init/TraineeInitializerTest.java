@@ -4,52 +4,43 @@ import com.epam.springcore.dao.TraineeDao;
 import com.epam.springcore.dao.UserDao;
 import com.epam.springcore.model.Trainee;
 import com.epam.springcore.model.User;
-import com.epam.springcore.request.init.TraineeInitializeRequest;
-import com.epam.springcore.service.ITraineeService;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.core.io.Resource;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 public class TraineeInitializerTest {
 
-    @Mock
-    private ITraineeService traineeService;
-
     @Mock
     private UserDao userDao;
 
-    @Mock
-    private ObjectMapper objectMapper;
-
     @Mock
     private Resource traineeDataFile;
 
     @Mock
     private TraineeDao traineeDao;
 
-    @InjectMocks
     private TraineeInitializer traineeInitializer;
 
     private final String mockJson = """
         [
           {
+            "id": "1",
             "firstName": "Ali",
             "lastName": "Yılmaz",
             "dateOfBirth": "1995-05-10",
@@ -61,9 +52,11 @@ public class TraineeInitializerTest {
     @BeforeEach
     void setUp() throws Exception {
         openMocks(this);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        traineeInitializer = new TraineeInitializer(traineeDao, userDao, objectMapper);
 
-        InputStream mockInputStream = new ByteArrayInputStream(mockJson.getBytes(StandardCharsets.UTF_8));
-        when(traineeDataFile.getInputStream()).thenReturn(mockInputStream);
+        when(traineeDataFile.getInputStream())
+                .thenReturn(new ByteArrayInputStream(mockJson.getBytes(StandardCharsets.UTF_8)));
 
         Field field = TraineeInitializer.class.getDeclaredField("traineeDataFile");
         field.setAccessible(true);
@@ -71,34 +64,37 @@ public class TraineeInitializerTest {
     }
 
     @Test
-    @DisplayName("Success - Should parse JSON and call DAO methods")
-    void testInit_Success_ShouldCallDaoMethods() throws Exception {
-        TraineeInitializeRequest expectedRequest = new TraineeInitializeRequest(
-                "Ali", "Yılmaz", LocalDate.of(1995, 5, 10), "Ankara"
-        );
-
-        when(objectMapper.readValue(any(InputStream.class), ArgumentMatchers.<TypeReference<List<TraineeInitializeRequest>>>any()))
-                .thenReturn(List.of(expectedRequest));
-
-        when(traineeDao.findAll()).thenReturn(List.of());
-
-        traineeInitializer.init();
-
-        verify(userDao, times(1)).save(any(User.class));
-        verify(traineeDao, times(1)).save(any(Trainee.class));
+    @DisplayName("Success - Should stream JSON and save users and trainees in batches")
+    @SuppressWarnings("unchecked")
+    void testInit_Success_ShouldCallDaoMethods() {
+        when(userDao.generateUsername("Ali", "Yılmaz")).thenReturn("Ali.Yılmaz");
+
+        SeedLoadResult result = traineeInitializer.init();
+
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Trainee>> trainees = ArgumentCaptor.forClass(List.class);
+        verify(userDao, times(1)).saveAll(users.capture());
+        verify(traineeDao, times(1)).saveAll(trainees.capture());
+
+        assertThat(result.successful()).isTrue();
+        assertThat(result.records()).isEqualTo(1);
+        assertThat(users.getValue().get(0).getId()).isEqualTo("1");
+        assertThat(users.getValue().get(0).getUsername()).isEqualTo("Ali.Yılmaz");
+        assertThat(trainees.getValue().get(0).getUserId()).isEqualTo("1");
+        assertThat(trainees.getValue().get(0).getDateOfBirth()).isEqualTo(LocalDate.of(1995, 5, 10));
     }
 
     @Test
     @DisplayName("Negative - JSON parsing fails")
     void testInit_WhenJsonParseFails_ShouldNotCallServices() throws Exception {
-        when(objectMapper.readValue(any(InputStream.class), ArgumentMatchers.<TypeReference<List<TraineeInitializeRequest>>>any()))
-                .thenThrow(new IOException("Invalid JSON"));
+        when(traineeDataFile.getInputStream())
+                .thenReturn(new ByteArrayInputStream("INVALID_JSON".getBytes(StandardCharsets.UTF_8)));
 
-        traineeInitializer.init();
+        SeedLoadResult result = traineeInitializer.init();
 
-        verify(userDao, never()).save(any());
-        verify(traineeService, never()).createTrainee(any());
-        verify(traineeDao, never()).save(any());
+        assertThat(result.successful()).isFalse();
+        verify(userDao, never()).saveAll(any());
+        verify(traineeDao, never()).saveAll(any());
     }
 
     @Test
@@ -107,23 +103,24 @@ public class TraineeInitializerTest {
         when(traineeDataFile.getInputStream())
                 .thenThrow(new IOException("File not found"));
 
-        traineeInitializer.init();
+        SeedLoadResult result = traineeInitializer.init();
 
-        verify(userDao, never()).save(any());
-        verify(traineeService, never()).createTrainee(any());
-        verify(traineeDao, never()).save(any());
+        assertThat(result.successful()).isFalse();
+        verify(userDao, never()).saveAll(any());
+        verify(traineeDao, never()).saveAll(any());
     }
 
     @Test
     @DisplayName("Edge Case - Empty JSON list")
     void testInit_WhenJsonListEmpty_ShouldNotCallServices() throws Exception {
-        when(objectMapper.readValue(any(InputStream.class), ArgumentMatchers.<TypeReference<List<TraineeInitializeRequest>>>any()))
-                .thenReturn(List.of());
+        when(traineeDataFile.getInputStream())
+                .thenReturn(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)));
 
-        traineeInitializer.init();
+        SeedLoadResult result = traineeInitializer.init();
 
-        verify(userDao, never()).save(any());
-        verify(traineeService, never()).createTrainee(any());
-        verify(traineeDao, never()).save(any());
+        assertThat(result.successful()).isTrue();
+        assertThat(result.records()).isZero();
+        verify(userDao, never()).saveAll(any());
+        verify(traineeDao, never()).saveAll(any());
     }
 }
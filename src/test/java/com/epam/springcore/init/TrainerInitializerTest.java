@@ -2,24 +2,22 @@ package com.epam.springcore.init;
 
 import com.epam.springcore.dao.TrainerDao;
 import com.epam.springcore.dao.UserDao;
+import com.epam.springcore.model.Trainer;
 import com.epam.springcore.model.enums.TrainingType;
-import com.epam.springcore.request.init.TrainerInitializeRequest;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.ArgumentMatchers;
 import org.springframework.core.io.Resource;
 
 import java.io.ByteArrayInputStream;
-import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -31,57 +29,56 @@ public class TrainerInitializerTest {
     @Mock
     private UserDao userDao;
 
-    @Mock
-    private ObjectMapper objectMapper;
-
     @Mock
     private Resource trainerDataFile;
 
-    @InjectMocks
     private TrainerInitializer trainerInitializer;
 
-    private final String mockJson = "[{\"firstName\":\"Ahmet\",\"lastName\":\"Kaya\",\"specialty\":\"CROSSFIT\"}]";
+    private final String mockJson = "[{\"id\":\"6\",\"firstName\":\"Ahmet\",\"lastName\":\"Kaya\",\"specialty\":\"CROSSFIT\"},"
+            + "{\"id\":\"7\",\"firstName\":\"Cihan\",\"lastName\":\"Dilsiz\",\"specialty\":\"BOXING\"}]";
 
     @BeforeEach
     void setUp() throws Exception {
         openMocks(this);
+        trainerInitializer = new TrainerInitializer(trainerDao, userDao, new ObjectMapper());
 
-        InputStream mockInputStream = new ByteArrayInputStream(mockJson.getBytes(StandardCharsets.UTF_8));
-        when(trainerDataFile.getInputStream()).thenReturn(mockInputStream);
+        when(trainerDataFile.getInputStream())
+                .thenReturn(new ByteArrayInputStream(mockJson.getBytes(StandardCharsets.UTF_8)));
 
         Field field = TrainerInitializer.class.getDeclaredField("trainerDataFile");
         field.setAccessible(true);
         field.set(trainerInitializer, trainerDataFile);
 
-        when(trainerDao.findAll()).thenReturn(List.of());
+        when(userDao.generateUsername(anyString(), anyString())).thenAnswer(inv -> inv.getArgument(0) + "." + inv.getArgument(1));
     }
 
     @Test
-    @DisplayName(" Success - JSON parsed and trainers initialized")
-    void testInit_Success_ShouldCallDaoMethods() throws Exception {
-        List<TrainerInitializeRequest> mockList = List.of(
-                new TrainerInitializeRequest("Ahmet", "Kaya", TrainingType.CROSSFIT),
-                new TrainerInitializeRequest("Cihan", "Dilsiz", TrainingType.BOXING)
-        );
-
-        when(objectMapper.readValue(any(InputStream.class), ArgumentMatchers.<TypeReference<List<TrainerInitializeRequest>>>any()))
-                .thenReturn(mockList);
-
-        trainerInitializer.init();
-        verify(userDao, times(2)).save(any());
-        verify(trainerDao, times(2)).save(any());
+    @DisplayName(" Success - JSON streamed and trainers initialized")
+    @SuppressWarnings("unchecked")
+    void testInit_Success_ShouldCallDaoMethods() {
+        SeedLoadResult result = trainerInitializer.init();
+
+        ArgumentCaptor<List<Trainer>> trainers = ArgumentCaptor.forClass(List.class);
+        verify(userDao, times(1)).saveAll(argThat(users -> users.size() == 2));
+        verify(trainerDao, times(1)).saveAll(trainers.capture());
+
+        assertThat(result.records()).isEqualTo(2);
+        assertThat(trainers.getValue()).extracting(Trainer::getUserId).containsExactly("6", "7");
+        assertThat(trainers.getValue()).extracting(Trainer::getSpecialization)
+                .containsExactly(TrainingType.CROSSFIT, TrainingType.BOXING);
     }
 
     @Test
     @DisplayName(" JSON parsing throws exception")
     void testInit_WhenJsonParseFails_ShouldNotCallDaos() throws Exception {
-        when(objectMapper.readValue(any(InputStream.class), ArgumentMatchers.<TypeReference<List<TrainerInitializeRequest>>>any()))
-                .thenThrow(new RuntimeException("Failed to parse"));
+        when(trainerDataFile.getInputStream())
+                .thenReturn(new ByteArrayInputStream("{broken".getBytes(StandardCharsets.UTF_8)));
 
-        trainerInitializer.init();
+        SeedLoadResult result = trainerInitializer.init();
 
-        verify(userDao, never()).save(any());
-        verify(trainerDao, never()).save(any());
+        assertThat(result.successful()).isFalse();
+        verify(userDao, never()).saveAll(any());
+        verify(trainerDao, never()).saveAll(any());
     }
 
     @Test
@@ -91,19 +88,32 @@ public class TrainerInitializerTest {
 
         trainerInitializer.init();
 
-        verify(userDao, never()).save(any());
-        verify(trainerDao, never()).save(any());
+        verify(userDao, never()).saveAll(any());
+        verify(trainerDao, never()).saveAll(any());
     }
 
     @Test
     @DisplayName(" Empty list - Should not call save")
     void testInit_WhenJsonListEmpty_ShouldNotCallDaos() throws Exception {
-        when(objectMapper.readValue(any(InputStream.class), ArgumentMatchers.<TypeReference<List<TrainerInitializeRequest>>>any()))
-                .thenReturn(List.of());
+        when(trainerDataFile.getInputStream())
+                .thenReturn(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)));
+
+        trainerInitializer.init();
+
+        verify(userDao, never()).saveAll(any());
+        verify(trainerDao, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName(" Batches - Should flush every seed.batch-size records")
+    void testInit_ShouldSaveInBatches() throws Exception {
+        Field batchSize = SeedInitializer.class.getDeclaredField("batchSize");
+        batchSize.setAccessible(true);
+        batchSize.set(trainerInitializer, 1);
 
         trainerInitializer.init();
 
-        verify(userDao, never()).save(any());
-        verify(trainerDao, never()).save(any());
+        verify(userDao, times(2)).saveAll(argThat(users -> users.size() == 1));
+        verify(trainerDao, times(2)).saveAll(any());
     }
 }
@@ -3,18 +3,14 @@ package com.epam.springcore.init;
 import com.epam.springcore.dao.TrainingDao;
 import com.epam.springcore.model.Training;
 import com.epam.springcore.model.enums.TrainingType;
-import com.epam.springcore.request.init.TrainingInitializeRequest;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.mockito.ArgumentMatchers;
 import org.springframework.core.io.Resource;
 
 import java.io.ByteArrayInputStream;
-import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -24,17 +20,15 @@ import static org.mockito.Mockito.*;
 
 public class TrainingInitializerTest {
 
-    private ObjectMapper objectMapper;
     private TrainingDao trainingDao;
     private Resource trainingDataFile;
     private TrainingInitializer trainingInitializer;
 
     @BeforeEach
     void setUp() throws Exception {
-        objectMapper = mock(ObjectMapper.class);
         trainingDao = mock(TrainingDao.class);
         trainingDataFile = mock(Resource.class);
-        trainingInitializer = new TrainingInitializer(objectMapper, trainingDao);
+        trainingInitializer = new TrainingInitializer(new ObjectMapper(), trainingDao);
 
         Field field = TrainingInitializer.class.getDeclaredField("trainingDataFile");
         field.setAccessible(true);
@@ -43,10 +37,12 @@ public class TrainingInitializerTest {
 
     @Test
     @DisplayName("Success - Should read and save training data")
+    @SuppressWarnings("unchecked")
     void testInit_Success() throws Exception {
         String json = """
             [
               {
+                "id": "1",
                 "traineeId": "1",
                 "trainerId": "6",
                 "date": "2025-08-01",
@@ -55,23 +51,16 @@ public class TrainingInitializerTest {
               }
             ]
         """;
-
-        InputStream inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
-        when(trainingDataFile.getInputStream()).thenReturn(inputStream);
-
-        List<TrainingInitializeRequest> mockList = List.of(
-                new TrainingInitializeRequest("1", "6", "2025-08-01", "CROSSFIT", 60)
-        );
-        when(objectMapper.readValue(any(InputStream.class),
-                ArgumentMatchers.<TypeReference<List<TrainingInitializeRequest>>>any()))
-                .thenReturn(mockList);
+        when(trainingDataFile.getInputStream())
+                .thenReturn(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
 
         trainingInitializer.init();
 
-        ArgumentCaptor<Training> captor = ArgumentCaptor.forClass(Training.class);
-        verify(trainingDao, times(1)).save(captor.capture());
+        ArgumentCaptor<List<Training>> captor = ArgumentCaptor.forClass(List.class);
+        verify(trainingDao, times(1)).saveAll(captor.capture());
 
-        Training saved = captor.getValue();
+        Training saved = captor.getValue().get(0);
+        assertThat(saved.getId()).isEqualTo("1");
         assertThat(saved.getTraineeId()).isEqualTo("1");
         assertThat(saved.getTrainerId()).isEqualTo("6");
         assertThat(saved.getType()).isEqualTo(TrainingType.CROSSFIT);
@@ -85,14 +74,10 @@ public class TrainingInitializerTest {
                 new ByteArrayInputStream("INVALID_JSON".getBytes(StandardCharsets.UTF_8))
         );
 
-        when(objectMapper.readValue(any(InputStream.class),
-                ArgumentMatchers.<TypeReference<List<TrainingInitializeRequest>>>any()))
-                .thenThrow(new RuntimeException("Parse error"));
-
         assertThatCode(() -> trainingInitializer.init())
                 .doesNotThrowAnyException();
 
-        verify(trainingDao, never()).save(any());
+        verify(trainingDao, never()).saveAll(any());
     }
 
     @Test
@@ -102,12 +87,8 @@ public class TrainingInitializerTest {
                 new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))
         );
 
-        when(objectMapper.readValue(any(InputStream.class),
-                ArgumentMatchers.<TypeReference<List<TrainingInitializeRequest>>>any()))
-                .thenReturn(List.of());
-
         trainingInitializer.init();
 
-        verify(trainingDao, never()).save(any());
+        verify(trainingDao, never()).saveAll(any());
     }
 }
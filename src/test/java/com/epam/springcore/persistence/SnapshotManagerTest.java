@@ -0,0 +1,135 @@
+package com.epam.springcore.persistence;
+
+import com.epam.springcore.model.Trainee;
+import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.User;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import com.epam.springcore.util.IdGenerator;
+import com.epam.springcore.util.TrainingTimes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit Tests for SnapshotManager")
+class SnapshotManagerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<Node> nodes = new ArrayList<>();
+
+    @TempDir
+    Path dataDirectory;
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(node -> node.wal.close());
+    }
+
+    @Test
+    @DisplayName("Should restore a snapshot and replay the log written after it")
+    void shouldRestoreSnapshotAndLogTail() throws Exception {
+        Node first = start();
+        User user = new User("John", "Doe", "John.Doe");
+        user.setId("1");
+        user.setVersion(2);
+        first.users.put("1", user);
+        first.trainees.put("1", new Trainee(LocalDate.of(1990, 1, 1), null, "1"));
+        first.trainers.put("2", new Trainer(TrainingType.BOXING, "2"));
+        Training training = new Training("1", "2", TrainingTimes.startMinute("2024-01-10"), TrainingType.BOXING, 45);
+        training.setId("3");
+        training.setVersion(5);
+        first.trainings.put("3", training);
+        first.snapshots.takeSnapshot();
+        first.trainers.remove("2");
+        Training later = new Training("1", "2", TrainingTimes.startMinute("2024-02-01"), TrainingType.YOGA, 30);
+        later.setId("4");
+        first.trainings.put("4", later);
+        first.wal.close();
+
+        Node second = start();
+
+        assertThat(second.recovery.hasRecoveredData()).isTrue();
+        assertThat(second.users.get("1").getUsername()).isEqualTo("John.Doe");
+        assertThat(second.users.get("1").isActive()).isTrue();
+        assertThat(second.users.get("1").getVersion()).isEqualTo(2);
+        assertThat(second.trainees.get("1").getAddress()).isNull();
+        assertThat(second.trainers.get("2")).isNull();
+        assertThat(second.trainings.get("3").getDurationMinutes()).isEqualTo(45);
+        assertThat(second.trainings.get("3").getVersion()).isEqualTo(5);
+        assertThat(second.trainings.findIdsByType(TrainingType.YOGA)).containsExactly("4");
+        assertThat(second.idGenerator.nextId(IdGenerator.Sequence.TRAINING)).isEqualTo("5");
+    }
+
+    @Test
+    @DisplayName("Should keep only the latest snapshot and the log it may still need")
+    void shouldDropCoveredSegmentsAndSnapshots() throws Exception {
+        Node node = start();
+        node.trainers.put("2", new Trainer(TrainingType.YOGA, "2"));
+        node.snapshots.takeSnapshot();
+        node.trainers.put("3", new Trainer(TrainingType.YOGA, "3"));
+        Path latest = node.snapshots.takeSnapshot();
+
+        assertThat(list(dataDirectory.resolve("snapshot"))).containsExactly(latest);
+        assertThat(list(dataDirectory.resolve("wal"))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should refuse a corrupt snapshot")
+    void shouldRejectCorruptSnapshot() throws Exception {
+        Node node = start();
+        node.trainers.put("2", new Trainer(TrainingType.YOGA, "2"));
+        Path snapshot = node.snapshots.takeSnapshot();
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[20] ^= 1;
+        Files.write(snapshot, bytes);
+
+        assertThatThrownBy(() -> new Node().snapshots.restoreLatest())
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    private Node start() throws Exception {
+        Node node = new Node();
+        node.recovery.recover();
+        nodes.add(node);
+        return node;
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private class Node {
+        private final WriteAheadLog wal = new WriteAheadLog(true, dataDirectory.resolve("wal").toString(),
+                16, 0, true, 1 << 20, objectMapper);
+        private final UserStorage users = new UserStorage();
+        private final TraineeStorage trainees = new TraineeStorage();
+        private final TrainerStorage trainers = new TrainerStorage();
+        private final TrainingStorage trainings = new TrainingStorage();
+        private final IdGenerator idGenerator = new IdGenerator(10, "");
+        private final SnapshotManager snapshots = new SnapshotManager(true,
+                dataDirectory.resolve("snapshot").toString(), 0, wal, users, trainees, trainers, trainings, idGenerator);
+        private final StorageRecovery recovery = new StorageRecovery(wal, snapshots, objectMapper,
+                users, trainees, trainers, trainings, idGenerator);
+    }
+}
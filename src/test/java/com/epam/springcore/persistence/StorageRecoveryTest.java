@@ -0,0 +1,151 @@
+package com.epam.springcore.persistence;
+
+import com.epam.springcore.model.Trainee;
+import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.User;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import com.epam.springcore.util.IdGenerator;
+import com.epam.springcore.util.TrainingTimes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for StorageRecovery")
+class StorageRecoveryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<Node> nodes = new ArrayList<>();
+
+    @TempDir
+    Path walDirectory;
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(node -> node.wal.close());
+    }
+
+    @Test
+    @DisplayName("Should restore the last state of every entity after restart")
+    void shouldReplayWritesAfterRestart() throws Exception {
+        Node first = start();
+        User user = new User("John", "Doe", "John.Doe");
+        user.setId("1");
+        first.users.put("1", user);
+        first.trainees.put("1", new Trainee(LocalDate.of(1990, 1, 1), "Istanbul", "1"));
+        first.trainers.put("2", new Trainer(TrainingType.YOGA, "2"));
+        Training training = new Training("1", "2", TrainingTimes.startMinute("2024-01-10"), TrainingType.YOGA, 60);
+        training.setId("7");
+        first.trainings.put("7", training);
+        user.setLastName("Smith");
+        first.users.put("1", user);
+        first.trainers.remove("2");
+        first.wal.close();
+
+        Node second = start();
+
+        assertThat(second.recovery.hasRecoveredData()).isTrue();
+        assertThat(second.users.get("1").getLastName()).isEqualTo("Smith");
+        assertThat(second.users.isUsernameTaken("John.Doe")).isTrue();
+        assertThat(second.trainees.get("1").getDateOfBirth()).isEqualTo(LocalDate.of(1990, 1, 1));
+        assertThat(second.trainers.get("2")).isNull();
+        assertThat(second.trainings.findIdsByTraineeId("1")).containsExactly("7");
+        assertThat(second.idGenerator.nextId(IdGenerator.Sequence.TRAINING)).isEqualTo("8");
+    }
+
+    @Test
+    @DisplayName("Should ignore a torn record at the end of the log")
+    void shouldIgnoreTornTail() throws Exception {
+        Node first = start();
+        first.trainers.put("2", new Trainer(TrainingType.YOGA, "2"));
+        first.wal.close();
+        try (Stream<Path> segments = Files.list(walDirectory)) {
+            Path segment = segments.findFirst().orElseThrow();
+            Files.write(segment, new byte[]{0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+        }
+
+        Node second = start();
+
+        assertThat(second.trainers.get("2").getSpecialization()).isEqualTo(TrainingType.YOGA);
+        assertThat(second.wal.lastLsn()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should move on to a new segment once one is full and replay them all")
+    void shouldRotateFullSegments() throws Exception {
+        // one record per group commit, so the log can rotate between any two
+        Node first = start(1, 256);
+        for (int i = 1; i <= 20; i++) {
+            first.trainers.put(String.valueOf(i), new Trainer(TrainingType.YOGA, String.valueOf(i)));
+        }
+        first.wal.close();
+        assertThat(first.wal.segments()).hasSizeGreaterThan(2);
+
+        Node second = start(1, 256);
+
+        assertThat(second.trainers.size()).isEqualTo(20);
+        assertThat(second.wal.lastLsn()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should leave storages empty when the log is disabled")
+    void shouldDoNothingWhenDisabled() throws Exception {
+        WriteAheadLog wal = new WriteAheadLog(false, walDirectory.toString(), 16, 0, false, 1 << 20, objectMapper);
+        Node node = new Node(wal);
+        node.recovery.recover();
+        node.trainers.put("2", new Trainer(TrainingType.YOGA, "2"));
+
+        assertThat(node.recovery.hasRecoveredData()).isFalse();
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private Node start() throws Exception {
+        return start(16, 1 << 20);
+    }
+
+    private Node start(int batchSize, long segmentSize) throws Exception {
+        Node node = new Node(new WriteAheadLog(true, walDirectory.toString(), batchSize, 0, true, segmentSize,
+                objectMapper));
+        node.recovery.recover();
+        nodes.add(node);
+        return node;
+    }
+
+    private class Node {
+        private final WriteAheadLog wal;
+        private final UserStorage users = new UserStorage();
+        private final TraineeStorage trainees = new TraineeStorage();
+        private final TrainerStorage trainers = new TrainerStorage();
+        private final TrainingStorage trainings = new TrainingStorage();
+        private final IdGenerator idGenerator = new IdGenerator(10, "");
+        private final SnapshotManager snapshots;
+        private final StorageRecovery recovery;
+
+        private Node(WriteAheadLog wal) {
+            this.wal = wal;
+            this.snapshots = new SnapshotManager(false, walDirectory.resolve("snapshot").toString(), 0,
+                    wal, users, trainees, trainers, trainings, idGenerator);
+            this.recovery = new StorageRecovery(wal, snapshots, objectMapper,
+                    users, trainees, trainers, trainings, idGenerator);
+        }
+    }
+}
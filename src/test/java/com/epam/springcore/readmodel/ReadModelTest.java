@@ -0,0 +1,112 @@
+package com.epam.springcore.readmodel;
+
+import com.epam.springcore.dto.RevisionDto;
+import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.model.Trainee;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.User;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import com.epam.springcore.util.TrainingTimes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for ReadModel")
+class ReadModelTest {
+
+    private UserStorage userStorage;
+    private TraineeStorage traineeStorage;
+    private TrainingStorage trainingStorage;
+    private ReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        userStorage = new UserStorage();
+        traineeStorage = new TraineeStorage();
+        trainingStorage = new TrainingStorage();
+        readModel = new ReadModel(userStorage, traineeStorage, new TrainerStorage(), trainingStorage);
+    }
+
+    @Test
+    @DisplayName("Should build views for entities stored before the read model")
+    void shouldBuildViewsForExistingEntities() {
+        UserStorage users = new UserStorage();
+        TraineeStorage trainees = new TraineeStorage();
+        putUser(users, "1", "Ali", "Kaya");
+        trainees.put("1", new Trainee(LocalDate.of(2000, 1, 1), "ankara", "1"));
+
+        ReadModel restored = new ReadModel(users, trainees, new TrainerStorage(), new TrainingStorage());
+
+        assertThat(restored.trainee("1").getUsername()).isEqualTo("Ali.Kaya");
+    }
+
+    @Test
+    @DisplayName("Should join the user into the trainee view and follow renames")
+    void shouldRefreshTraineeViewWhenUserChanges() {
+        putUser(userStorage, "1", "Ali", "Kaya");
+        traineeStorage.put("1", new Trainee(LocalDate.of(2000, 1, 1), "ankara", "1"));
+
+        TraineeDto view = readModel.trainee("1");
+        assertThat(view.getFirstName()).isEqualTo("Ali");
+        assertThat(view.getUsername()).isEqualTo("Ali.Kaya");
+        assertThat(view.getAddress()).isEqualTo("ankara");
+
+        putUser(userStorage, "1", "Veli", "Kaya");
+
+        assertThat(readModel.trainee("1").getFirstName()).isEqualTo("Veli");
+        assertThat(readModel.trainee("1").getUsername()).isEqualTo("Veli.Kaya");
+    }
+
+    @Test
+    @DisplayName("Should drop views when the entity or its user is removed")
+    void shouldRemoveViews() {
+        putUser(userStorage, "1", "Ali", "Kaya");
+        traineeStorage.put("1", new Trainee(LocalDate.of(2000, 1, 1), "ankara", "1"));
+        Training training = new Training("1", "2", TrainingTimes.startMinute("2025-01-01"), TrainingType.YOGA, 30);
+        training.setId("7");
+        trainingStorage.put("7", training);
+        assertThat(readModel.trainees().size()).isEqualTo(1);
+        assertThat(readModel.training("7").getType()).isEqualTo("YOGA");
+
+        userStorage.remove("1");
+        trainingStorage.remove("7");
+
+        assertThat(readModel.trainee("1")).isNull();
+        assertThat(readModel.trainees().values()).isEmpty();
+        assertThat(readModel.training("7")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should move the collection revision and view version on every change")
+    void shouldTrackRevisions() {
+        String empty = readModel.trainees().revision().getRevision();
+        putUser(userStorage, "1", "Ali", "Kaya");
+        traineeStorage.put("1", new Trainee(LocalDate.of(2000, 1, 1), "ankara", "1"));
+        RevisionDto created = readModel.trainees().revision();
+        long version = readModel.trainee("1").getVersion();
+
+        User renamed = new User(userStorage.get("1"));
+        renamed.setFirstName("Veli");
+        renamed.setVersion(renamed.getVersion() + 1);
+        userStorage.put("1", renamed);
+
+        assertThat(created.getRevision()).isNotEqualTo(empty);
+        assertThat(readModel.trainees().revision().getRevision()).isNotEqualTo(created.getRevision());
+        assertThat(readModel.trainees().revision().getLastModified()).isGreaterThanOrEqualTo(created.getLastModified());
+        assertThat(readModel.trainee("1").getVersion()).isEqualTo(version + 1);
+    }
+
+    private static void putUser(UserStorage storage, String id, String firstName, String lastName) {
+        User user = new User(firstName, lastName, firstName + "." + lastName);
+        user.setId(id);
+        storage.put(id, user);
+    }
+}
@@ -0,0 +1,133 @@
+package com.epam.springcore.service.impl;
+
+import com.epam.springcore.cache.EntityCaches;
+import com.epam.springcore.dao.TrainingDao;
+import com.epam.springcore.exception.GymNotFoundException;
+import com.epam.springcore.model.Trainee;
+import com.epam.springcore.model.Trainer;
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.storage.TraineeStorage;
+import com.epam.springcore.storage.TrainerStorage;
+import com.epam.springcore.storage.TrainingStorage;
+import com.epam.springcore.storage.UserStorage;
+import com.epam.springcore.util.IdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit Tests for CascadeDeleter")
+class CascadeDeleterTest {
+
+    private final TraineeStorage traineeStorage = new TraineeStorage();
+    private final TrainerStorage trainerStorage = new TrainerStorage();
+    private TrainingDao trainingDao;
+
+    @BeforeEach
+    void setUp() {
+        TrainingStorage trainingStorage = new TrainingStorage();
+        trainingStorage.setParticipantStorages(traineeStorage, trainerStorage);
+        traineeStorage.put("trainee-1", new Trainee(LocalDate.of(1990, 1, 1), "Istanbul", "trainee-1"));
+        trainerStorage.put("trainer-1", new Trainer(TrainingType.YOGA, "trainer-1"));
+        trainingDao = new TrainingDao();
+        trainingDao.setTrainingStorage(trainingStorage);
+        trainingDao.setEntityCaches(new EntityCaches(true, 0, 0, 0, 100,
+                new UserStorage(), traineeStorage, trainerStorage, trainingStorage));
+        trainingDao.setIdGenerator(new IdGenerator());
+        for (int i = 0; i < 5; i++) {
+            trainingDao.save(new Training("trainee-1", "trainer-" + (i % 2), i * 60L, TrainingType.YOGA, 30));
+        }
+        trainingDao.save(new Training("trainee-2", "trainer-1", 0, TrainingType.YOGA, 30));
+    }
+
+    @Test
+    @DisplayName("Should delete only the trainings of the given trainee or trainer")
+    void shouldDeleteDependentsInline() {
+        CascadeDeleter deleter = new CascadeDeleter(trainingDao, Runnable::run, 100);
+
+        assertThat(deleter.deleteTrainingsOfTrainee("trainee-1")).isEqualTo(5);
+
+        assertThat(trainingDao.findAll()).extracting(Training::getTraineeId).containsExactly("trainee-2");
+        assertThat(deleter.deleteTrainingsOfTrainer("trainer-1")).isEqualTo(1);
+        assertThat(trainingDao.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should delete long histories in the background")
+    void shouldDeleteLongHistoriesAsynchronously() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        // a busy service executor, so the delete is still pending when the request returns
+        Executor serviceExecutor = task -> new Thread(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            task.run();
+        }).start();
+        CascadeDeleter deleter = new CascadeDeleter(trainingDao, serviceExecutor, 2);
+
+        assertThat(deleter.deleteTrainingsOfTrainee("trainee-1")).isEqualTo(5);
+        assertThat(trainingDao.findByTraineeId("trainee-1")).hasSize(5);
+        release.countDown();
+        deleter.shutdown();
+
+        assertThat(trainingDao.findByTraineeId("trainee-1")).isEmpty();
+        assertThat(trainingDao.findByTraineeId("trainee-2")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject bookings for a deleted trainee")
+    void shouldRejectBookingsForDeletedTrainee() {
+        traineeStorage.remove("trainee-1");
+        new CascadeDeleter(trainingDao, Runnable::run, 100).deleteTrainingsOfTrainee("trainee-1");
+
+        assertThatThrownBy(() -> trainingDao.saveIfNoConflict(
+                new Training("trainee-1", "trainer-1", 10_000, TrainingType.YOGA, 30)))
+                .isInstanceOf(GymNotFoundException.class);
+        assertThat(trainingDao.findByTraineeId("trainee-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should leave no trainings of a trainee deleted while bookings for it race in")
+    void shouldNotLeaveTrainingsBookedDuringCascade() throws Exception {
+        CascadeDeleter deleter = new CascadeDeleter(trainingDao, Runnable::run, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch started = new CountDownLatch(100);
+        try {
+            List<Future<?>> bookings = IntStream.range(0, 2000)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        started.countDown();
+                        try {
+                            trainingDao.saveIfNoConflict(
+                                    new Training("trainee-1", "trainer-1", 1_000 + i * 60L, TrainingType.YOGA, 30));
+                        } catch (GymNotFoundException e) {
+                            // booked after the trainee was deleted
+                        }
+                    }))
+                    .toList();
+            started.await();
+            traineeStorage.remove("trainee-1");
+            deleter.deleteTrainingsOfTrainee("trainee-1");
+            for (Future<?> booking : bookings) {
+                booking.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(trainingDao.findByTraineeId("trainee-1")).isEmpty();
+    }
+}
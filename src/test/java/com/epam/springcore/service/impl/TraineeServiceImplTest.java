@@ -2,19 +2,27 @@ package com.epam.springcore.service.impl;
 
 import com.epam.springcore.dao.TraineeDao;
 import com.epam.springcore.dao.UserDao;
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.PageDto;
 import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.exception.ApiException;
 import com.epam.springcore.exception.GymNotFoundException;
+import com.epam.springcore.exception.StaleVersionException;
+import com.epam.springcore.mapper.DtoMapper;
 import com.epam.springcore.model.Trainee;
 import com.epam.springcore.model.User;
 import com.epam.springcore.request.create.CreateTraineeRequest;
+import com.epam.springcore.util.BatchValidator;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.http.HttpStatus;
 
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,6 +36,12 @@ class TraineeServiceImplTest {
     @Mock
     private UserDao userDao;
 
+    @Spy
+    private BatchValidator batchValidator = new BatchValidator(Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Mock
+    private CascadeDeleter cascadeDeleter;
+
     @InjectMocks
     private TraineeServiceImpl traineeService;
 
@@ -40,10 +54,10 @@ class TraineeServiceImplTest {
     @DisplayName("Should call create methods when creating a trainee")
     void shouldCallCreateMethods() {
         CreateTraineeRequest request = new CreateTraineeRequest("ali", "yılmaz", LocalDate.of(2000, 1, 1), "istanbul");
-        User user = new User("ali", "yılmaz", Collections.emptyList());
+        User user = new User("ali", "yılmaz", "ali.yılmaz");
         Trainee trainee = new Trainee(request.getDateOfBirth(), request.getAddress(), user.getId());
 
-        when(traineeDao.findAll()).thenReturn(Collections.emptyList());
+        when(userDao.generateUsername("ali", "yılmaz")).thenReturn("ali.yılmaz");
         doNothing().when(userDao).save(any(User.class));
         when(traineeDao.save(any(Trainee.class))).thenReturn(trainee);
         when(userDao.findById(user.getId())).thenReturn(user);
@@ -56,27 +70,45 @@ class TraineeServiceImplTest {
 
 
 
+    @Test
+    @DisplayName("Should create valid trainees in bulk and report invalid ones per item")
+    void createTrainees_shouldReportInvalidItems() {
+        CreateTraineeRequest valid = new CreateTraineeRequest("ali", "yılmaz", LocalDate.of(2000, 1, 1), "istanbul");
+        CreateTraineeRequest invalid = new CreateTraineeRequest("", "kaya", LocalDate.of(2000, 1, 1), "ankara");
+        when(userDao.generateUsername("ali", "yılmaz")).thenReturn("ali.yılmaz");
+
+        BatchResultDto<TraineeDto> result = traineeService.createTrainees(List.of(invalid, valid));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertTrue(result.getResults().get(0).getErrors().containsKey("firstName"));
+        assertEquals("ali.yılmaz", result.getResults().get(1).getItem().getUsername());
+        verify(userDao, times(1)).generateUsername(anyString(), anyString());
+        verify(userDao).saveAll(argThat(users -> users.size() == 1));
+        verify(traineeDao).saveAll(argThat(trainees -> trainees.size() == 1));
+    }
+
     @Test
     @DisplayName("Should return trainee DTO when ID is found")
     void getTrainee_shouldReturnDto() {
         String traineeId = "1";
         Trainee trainee = new Trainee(LocalDate.of(2000, 1, 1), "istanbul", "5");
-        User user = new User("ali", "yılmaz", Collections.emptyList());
+        User user = new User("ali", "yılmaz", "ali.yılmaz");
 
-        when(traineeDao.findById(traineeId)).thenReturn(trainee);
-        when(userDao.findById("5")).thenReturn(user);
+        when(traineeDao.findViewById(traineeId)).thenReturn(DtoMapper.toTraineeDto(trainee, user));
 
         TraineeDto result = traineeService.getTrainee(traineeId);
 
         assertNotNull(result);
         assertEquals("ali", result.getFirstName());
+        assertEquals("ali.yılmaz", result.getUsername());
         assertEquals("istanbul", result.getAddress());
     }
 
     @Test
     @DisplayName("Should throw GymNotFoundException when trainee ID is not found")
     void getTrainee_shouldThrowNotFoundException() {
-        when(traineeDao.findById("1")).thenReturn(null);
+        when(traineeDao.findViewById("1")).thenReturn(null);
 
         assertThrows(GymNotFoundException.class, () -> traineeService.getTrainee("1"));
     }
@@ -85,10 +117,9 @@ class TraineeServiceImplTest {
     @DisplayName("Should return all trainees as DTO list")
     void getAllTrainees_shouldReturnList() {
         Trainee trainee = new Trainee(LocalDate.of(2000, 1, 1), "ankara", "10");
-        User user = new User("veli", "demir", Collections.emptyList());
+        User user = new User("veli", "demir", "veli.demir");
 
-        when(traineeDao.findAll()).thenReturn(List.of(trainee));
-        when(userDao.findById("10")).thenReturn(user);
+        when(traineeDao.findAllViews()).thenReturn(List.of(DtoMapper.toTraineeDto(trainee, user)));
 
         List<TraineeDto> result = traineeService.getAllTrainees();
 
@@ -98,28 +129,134 @@ class TraineeServiceImplTest {
     }
 
     @Test
-    @DisplayName("Should call update methods when updating a trainee")
+    @DisplayName("Should return the page of the normalized size from the DAO")
+    void getTraineePage_shouldReturnCursorForFullPage() {
+        Trainee first = new Trainee(LocalDate.of(2000, 1, 1), "ankara", "10");
+        Trainee second = new Trainee(LocalDate.of(2001, 1, 1), "izmir", "11");
+        User user = new User("veli", "demir", "veli.demir");
+        when(traineeDao.findViewPage("9", 2)).thenReturn(new PageDto<>(List.of(
+                DtoMapper.toTraineeDto(first, user), DtoMapper.toTraineeDto(second, user)), "11"));
+
+        PageDto<TraineeDto> page = traineeService.getTraineePage("9", 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals("11", page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should normalize the page size and end on a short page")
+    void getTraineePage_shouldEndOnShortPage() {
+        when(traineeDao.findViewPage(null, 50)).thenReturn(new PageDto<>(List.of(), null));
+
+        PageDto<TraineeDto> page = traineeService.getTraineePage(null, 0);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should stream trainees from the read model")
+    void streamTrainees_shouldStreamViews() {
+        Trainee trainee = new Trainee(LocalDate.of(2000, 1, 1), "ankara", "10");
+        User user = new User("veli", "demir", "veli.demir");
+        when(traineeDao.streamViews()).thenReturn(Stream.of(DtoMapper.toTraineeDto(trainee, user)));
+
+        List<TraineeDto> result = traineeService.streamTrainees().toList();
+
+        assertEquals(1, result.size());
+        assertEquals("10", result.get(0).getId());
+        verifyNoInteractions(userDao);
+    }
+
+    @Test
+    @DisplayName("Should save a copy of the trainee at the next version when updating")
     void shouldCallUpdateMethods() {
         String traineeId = "1";
         CreateTraineeRequest request = new CreateTraineeRequest("ahmet", "kaya", LocalDate.of(1999, 1, 1), "izmir");
 
         Trainee existingTrainee = new Trainee(LocalDate.of(2000, 1, 1), "eski", "20");
-        User existingUser = new User("old", "user", Collections.emptyList());
+        existingTrainee.setVersion(3);
+        User existingUser = new User("old", "user", "old.user");
         existingUser.setId("20");
 
         when(traineeDao.findById(traineeId)).thenReturn(existingTrainee);
         when(userDao.findById("20")).thenReturn(existingUser);
-        doNothing().when(userDao).save(any(User.class));
-        when(traineeDao.save(any(Trainee.class))).thenReturn(existingTrainee);
+        when(traineeDao.saveIfVersion(any(Trainee.class), eq(3L))).thenAnswer(invocation -> {
+            invocation.<Trainee>getArgument(0).setVersion(4);
+            return true;
+        });
+        when(userDao.saveIfVersion(any(User.class), eq(0L))).thenAnswer(invocation -> {
+            invocation.<User>getArgument(0).setVersion(1);
+            return true;
+        });
+
+        TraineeDto result = traineeService.updateTrainee(traineeId, request, 3L);
+
+        // trainee at 4 plus the user's first rename
+        assertEquals(5, result.getVersion());
+        assertEquals("izmir", result.getAddress());
+        assertEquals("eski", existingTrainee.getAddress());
+        assertEquals("old", existingUser.getFirstName());
+        verify(userDao).saveIfVersion(argThat(user -> "ahmet".equals(user.getFirstName())), eq(0L));
+    }
 
-        traineeService.updateTrainee(traineeId, request);
+    @Test
+    @DisplayName("Should reject an update based on a stale version")
+    void updateTrainee_shouldRejectStaleVersion() {
+        Trainee existingTrainee = new Trainee(LocalDate.of(2000, 1, 1), "eski", "20");
+        existingTrainee.setVersion(5);
+        when(traineeDao.findById("1")).thenReturn(existingTrainee);
+        when(userDao.findById("20")).thenReturn(new User("old", "user", "old.user"));
+        CreateTraineeRequest request = new CreateTraineeRequest("ahmet", "kaya", LocalDate.of(1999, 1, 1), "izmir");
 
-        verify(userDao).save(any(User.class));
-        verify(traineeDao).save(any(Trainee.class));
+        assertThrows(StaleVersionException.class, () -> traineeService.updateTrainee("1", request, 4L));
+        verify(traineeDao, never()).saveIfVersion(any(), anyLong());
+        verify(userDao, never()).saveIfVersion(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should report a conflict when a concurrent write wins the race")
+    void updateTrainee_shouldReportLostRace() {
+        Trainee existingTrainee = new Trainee(LocalDate.of(2000, 1, 1), "eski", "20");
+        when(traineeDao.findById("1")).thenReturn(existingTrainee);
+        when(userDao.findById("20")).thenReturn(new User("old", "user", "old.user"));
+        when(traineeDao.saveIfVersion(any(Trainee.class), eq(0L))).thenReturn(false);
+        CreateTraineeRequest request = new CreateTraineeRequest("ahmet", "kaya", LocalDate.of(1999, 1, 1), "izmir");
+
+        ApiException exception = assertThrows(ApiException.class, () -> traineeService.updateTrainee("1", request, null));
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+        verify(userDao, never()).saveIfVersion(any(), anyLong());
     }
 
+    @Test
+    @DisplayName("Should put the old trainee back when a concurrent write changes its user")
+    void updateTrainee_shouldRestoreTraineeWhenUserRaceIsLost() {
+        Trainee existingTrainee = new Trainee(LocalDate.of(2000, 1, 1), "eski", "20");
+        User existingUser = new User("old", "user", "old.user");
+        existingUser.setId("20");
+        existingUser.setVersion(2);
+        when(traineeDao.findById("1")).thenReturn(existingTrainee);
+        when(userDao.findById("20")).thenReturn(existingUser);
+        when(traineeDao.saveIfVersion(any(Trainee.class), anyLong())).thenReturn(true);
+        when(userDao.generateUsername("ahmet", "kaya")).thenReturn("ahmet.kaya");
+        when(userDao.saveIfVersion(any(User.class), eq(2L))).thenReturn(false);
+        CreateTraineeRequest request = new CreateTraineeRequest("ahmet", "kaya", LocalDate.of(1999, 1, 1), "izmir");
 
+        ApiException exception = assertThrows(ApiException.class, () -> traineeService.updateTrainee("1", request, null));
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+        verify(traineeDao).saveIfVersion(argThat(trainee -> "eski".equals(trainee.getAddress())), eq(1L));
+        verify(userDao).releaseUsername("ahmet.kaya");
+    }
 
+    @Test
+    @DisplayName("Should report a trainee whose user is gone as not found")
+    void updateTrainee_shouldThrowWhenUserIsMissing() {
+        when(traineeDao.findById("1")).thenReturn(new Trainee(LocalDate.of(2000, 1, 1), "eski", "20"));
+        CreateTraineeRequest request = new CreateTraineeRequest("ahmet", "kaya", LocalDate.of(1999, 1, 1), "izmir");
+
+        assertThrows(GymNotFoundException.class, () -> traineeService.updateTrainee("1", request, null));
+        verify(traineeDao, never()).saveIfVersion(any(), anyLong());
+    }
 
     @Test
     @DisplayName("Should delete trainee successfully")
@@ -129,6 +266,8 @@ class TraineeServiceImplTest {
 
         assertDoesNotThrow(() -> traineeService.deleteTrainee("1"));
         verify(traineeDao, times(1)).delete("1");
+        verify(userDao).delete("1");
+        verify(cascadeDeleter).deleteTrainingsOfTrainee("1");
     }
 
     @Test
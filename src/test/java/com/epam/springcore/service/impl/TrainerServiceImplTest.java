@@ -1,9 +1,13 @@
 package com.epam.springcore.service.impl;
 
 import com.epam.springcore.dao.TrainerDao;
+import com.epam.springcore.dao.TrainingDao;
 import com.epam.springcore.dao.UserDao;
 import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.exception.ApiException;
 import com.epam.springcore.exception.GymNotFoundException;
+import com.epam.springcore.exception.StaleVersionException;
+import com.epam.springcore.mapper.DtoMapper;
 import com.epam.springcore.model.Trainer;
 import com.epam.springcore.model.User;
 import com.epam.springcore.model.enums.TrainingType;
@@ -12,9 +16,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.http.HttpStatus;
 
-import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,6 +34,12 @@ class TrainerServiceImplTest {
     @Mock
     private UserDao userDao;
 
+    @Mock
+    private TrainingDao trainingDao;
+
+    @Mock
+    private CascadeDeleter cascadeDeleter;
+
     @InjectMocks
     private TrainerServiceImpl trainerService;
 
@@ -40,10 +52,10 @@ class TrainerServiceImplTest {
     @DisplayName("Should create a new trainer and call save methods")
     void shouldCallCreateMethods() {
         CreateTrainerRequest request = new CreateTrainerRequest("ali", "yılmaz", TrainingType.CROSSFIT);
-        User user = new User("ali", "yılmaz", Collections.emptyList());
+        User user = new User("ali", "yılmaz", "ali.yılmaz");
         Trainer trainer = new Trainer(TrainingType.CROSSFIT, user.getId());
 
-        when(trainerDao.findAll()).thenReturn(Collections.emptyList());
+        when(userDao.generateUsername("ali", "yılmaz")).thenReturn("ali.yılmaz");
         doNothing().when(userDao).save(any(User.class));
         when(trainerDao.save(any(Trainer.class))).thenReturn(trainer);
         when(userDao.findById(user.getId())).thenReturn(user);
@@ -59,10 +71,9 @@ class TrainerServiceImplTest {
     void shouldReturnTrainerById() {
         String trainerId = "1";
         Trainer trainer = new Trainer(TrainingType.YOGA, "5");
-        User user = new User("mehmet", "arslan", Collections.emptyList());
+        User user = new User("mehmet", "arslan", "mehmet.arslan");
 
-        when(trainerDao.findById(trainerId)).thenReturn(trainer);
-        when(userDao.findById("5")).thenReturn(user);
+        when(trainerDao.findViewById(trainerId)).thenReturn(DtoMapper.toTrainerDto(trainer, user));
 
         TrainerDto result = trainerService.getTrainer(trainerId);
 
@@ -74,7 +85,7 @@ class TrainerServiceImplTest {
     @Test
     @DisplayName("Should throw GymNotFoundException when trainer ID not found")
     void shouldThrowWhenTrainerNotFound() {
-        when(trainerDao.findById("1")).thenReturn(null);
+        when(trainerDao.findViewById("1")).thenReturn(null);
 
         assertThrows(GymNotFoundException.class, () -> trainerService.getTrainer("1"));
     }
@@ -83,10 +94,9 @@ class TrainerServiceImplTest {
     @DisplayName("Should return all trainers as DTO list")
     void shouldReturnAllTrainers() {
         Trainer trainer = new Trainer(TrainingType.STRENGTH, "10");
-        User user = new User("veli", "kar", Collections.emptyList());
+        User user = new User("veli", "kar", "veli.kar");
 
-        when(trainerDao.findAll()).thenReturn(List.of(trainer));
-        when(userDao.findById("10")).thenReturn(user);
+        when(trainerDao.findAllViews()).thenReturn(List.of(DtoMapper.toTrainerDto(trainer, user)));
 
         List<TrainerDto> result = trainerService.getAllTrainers();
 
@@ -96,13 +106,41 @@ class TrainerServiceImplTest {
     }
 
     @Test
-    @DisplayName("Should call update methods when updating a trainer")
+    @DisplayName("Should return only the trainers of the specialization that are free in the slot")
+    void shouldFindAvailableTrainers() {
+        when(trainerDao.findIdsBySpecialization(TrainingType.YOGA)).thenReturn(new LinkedHashSet<>(List.of("3", "7", "12")));
+        when(trainingDao.findBookedTrainerIds(anyLong(), anyLong())).thenReturn(Set.of("7", "40"));
+        for (String id : List.of("3", "12")) {
+            Trainer trainer = new Trainer(TrainingType.YOGA, id);
+            when(trainerDao.findViewById(id)).thenReturn(DtoMapper.toTrainerDto(trainer, new User("a", "b", "a.b" + id)));
+        }
+
+        List<TrainerDto> result = trainerService.findAvailableTrainers("yoga", "2025-01-04T10:00", "2025-01-04T11:00");
+
+        assertEquals(List.of("3", "12"), result.stream().map(TrainerDto::getId).toList());
+        long saturday = 28_932_480L;
+        verify(trainingDao).findBookedTrainerIds(saturday + 600, saturday + 660);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty or unparsable availability slot")
+    void shouldRejectInvalidSlot() {
+        assertThrows(ApiException.class,
+                () -> trainerService.findAvailableTrainers("YOGA", "2025-01-04T11:00", "2025-01-04T10:00"));
+        assertThrows(ApiException.class,
+                () -> trainerService.findAvailableTrainers("YOGA", "saturday", "2025-01-04T10:00"));
+        assertThrows(ApiException.class,
+                () -> trainerService.findAvailableTrainers("POLO", "2025-01-04T10:00", "2025-01-04T11:00"));
+    }
+
+    @Test
+    @DisplayName("Should save a copy of the trainer at the next version when updating")
     void shouldCallUpdateMethods() {
         String trainerId = "1";
         String userId = "99";
         CreateTrainerRequest request = new CreateTrainerRequest("ahmet", "kaya", TrainingType.YOGA);
         Trainer existingTrainer = new Trainer(TrainingType.CROSSFIT, userId);
-        User existingUser = new User("old", "user", Collections.emptyList());
+        User existingUser = new User("old", "user", "old.user");
         existingUser.setId(userId);
         existingUser.setFirstName("ahmet");
         existingUser.setLastName("kaya");
@@ -110,14 +148,60 @@ class TrainerServiceImplTest {
 
         when(trainerDao.findById(trainerId)).thenReturn(existingTrainer);
         when(userDao.findById(userId)).thenReturn(existingUser);
-        doNothing().when(userDao).save(any(User.class));
-        when(trainerDao.save(existingTrainer)).thenReturn(existingTrainer);
-        when(userDao.findById(userId)).thenReturn(existingUser);
+        when(trainerDao.saveIfVersion(any(Trainer.class), eq(0L))).thenReturn(true);
+        when(userDao.saveIfVersion(any(User.class), eq(0L))).thenReturn(true);
 
-        trainerService.updateTrainer(trainerId, request);
+        trainerService.updateTrainer(trainerId, request, null);
 
-        verify(userDao).save(any(User.class));
-        verify(trainerDao).save(any(Trainer.class));
+        assertEquals(TrainingType.CROSSFIT, existingTrainer.getSpecialization());
+        verify(userDao).saveIfVersion(argThat(user -> user != existingUser && "ahmet.kaya".equals(user.getUsername())),
+                eq(0L));
+        verify(trainerDao).saveIfVersion(argThat(trainer -> trainer.getSpecialization() == TrainingType.YOGA), eq(0L));
+        verify(userDao, never()).generateUsername(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a trainer update based on a stale version")
+    void shouldRejectStaleUpdate() {
+        Trainer existingTrainer = new Trainer(TrainingType.CROSSFIT, "99");
+        existingTrainer.setVersion(2);
+        User existingUser = new User("old", "user", "old.user");
+        existingUser.setVersion(1);
+        when(trainerDao.findById("1")).thenReturn(existingTrainer);
+        when(userDao.findById("99")).thenReturn(existingUser);
+        CreateTrainerRequest request = new CreateTrainerRequest("ahmet", "kaya", TrainingType.YOGA);
+
+        // the view version counts the trainer and its user: 2 + 1
+        assertThrows(StaleVersionException.class, () -> trainerService.updateTrainer("1", request, 2L));
+        verify(trainerDao, never()).saveIfVersion(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should report a conflict and put the old trainer back when its user changes concurrently")
+    void shouldRestoreTrainerWhenUserRaceIsLost() {
+        Trainer existingTrainer = new Trainer(TrainingType.CROSSFIT, "99");
+        User existingUser = new User("ahmet", "kaya", "ahmet.kaya");
+        existingUser.setId("99");
+        when(trainerDao.findById("1")).thenReturn(existingTrainer);
+        when(userDao.findById("99")).thenReturn(existingUser);
+        when(trainerDao.saveIfVersion(any(Trainer.class), anyLong())).thenReturn(true);
+        when(userDao.saveIfVersion(any(User.class), eq(0L))).thenReturn(false);
+        CreateTrainerRequest request = new CreateTrainerRequest("ahmet", "kaya", TrainingType.YOGA);
+
+        ApiException exception = assertThrows(ApiException.class, () -> trainerService.updateTrainer("1", request, null));
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+        verify(trainerDao).saveIfVersion(argThat(trainer -> trainer.getSpecialization() == TrainingType.CROSSFIT),
+                eq(1L));
+    }
+
+    @Test
+    @DisplayName("Should throw GymNotFoundException when the trainer's user is gone")
+    void shouldThrowWhenUpdatingTrainerWithoutUser() {
+        when(trainerDao.findById("1")).thenReturn(new Trainer(TrainingType.CROSSFIT, "99"));
+        CreateTrainerRequest request = new CreateTrainerRequest("ahmet", "kaya", TrainingType.YOGA);
+
+        assertThrows(GymNotFoundException.class, () -> trainerService.updateTrainer("1", request, null));
+        verify(trainerDao, never()).saveIfVersion(any(), anyLong());
     }
 
     @Test
@@ -128,6 +212,8 @@ class TrainerServiceImplTest {
 
         assertDoesNotThrow(() -> trainerService.deleteTrainer("1"));
         verify(trainerDao).delete("1");
+        verify(userDao).delete("1");
+        verify(cascadeDeleter).deleteTrainingsOfTrainer("1");
     }
 
     @Test
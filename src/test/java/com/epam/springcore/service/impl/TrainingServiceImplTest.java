@@ -1,19 +1,27 @@
 package com.epam.springcore.service.impl;
 
 import com.epam.springcore.dao.TrainingDao;
-import com.epam.springcore.dao.UserDao;
+import com.epam.springcore.dto.BatchResultDto;
+import com.epam.springcore.dto.TrainerMinutesDto;
 import com.epam.springcore.dto.TrainingDto;
+import com.epam.springcore.exception.ApiException;
 import com.epam.springcore.exception.GymNotFoundException;
+import com.epam.springcore.exception.ScheduleConflictException;
+import com.epam.springcore.exception.StaleVersionException;
+import com.epam.springcore.mapper.DtoMapper;
 import com.epam.springcore.model.Training;
-import com.epam.springcore.model.User;
 import com.epam.springcore.model.enums.TrainingType;
 import com.epam.springcore.request.create.CreateTrainingRequest;
+import com.epam.springcore.util.BatchValidator;
+import com.epam.springcore.util.TrainingTimes;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.http.HttpStatus;
 
-import java.util.Collections;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,8 +33,8 @@ public class TrainingServiceImplTest {
     @Mock
     private TrainingDao trainingDao;
 
-    @Mock
-    private UserDao userDao;
+    @Spy
+    private BatchValidator batchValidator = new BatchValidator(Validation.buildDefaultValidatorFactory().getValidator());
 
     @InjectMocks
     private TrainingServiceImpl trainingService;
@@ -40,24 +48,7 @@ public class TrainingServiceImplTest {
     @DisplayName("Should create training and call save method")
     void shouldCallCreateTraining() {
         CreateTrainingRequest request = new CreateTrainingRequest("trainee-1", "trainer-1", "2025-01-01", "CROSSFIT", 60);
-        Training training = new Training(
-                request.getTraineeId(),
-                request.getTrainerId(),
-                request.getDate(),
-                TrainingType.CROSSFIT,
-                request.getDurationMinutes()
-        );
-        training.setId("training-123");
-
-        User trainee = new User("ali", "trainee", Collections.emptyList());
-        trainee.setId("trainee-1");
-
-        User trainer = new User("veli", "trainer", Collections.emptyList());
-        trainer.setId("trainer-1");
-
-        when(trainingDao.save(any(Training.class))).thenReturn(training);
-        when(userDao.findById("trainee-1")).thenReturn(trainee);
-        when(userDao.findById("trainer-1")).thenReturn(trainer);
+        when(trainingDao.saveIfNoConflict(any(Training.class))).thenReturn(List.of());
 
         TrainingDto result = trainingService.createTraining(request);
 
@@ -66,24 +57,55 @@ public class TrainingServiceImplTest {
         assertEquals("trainer-1", result.getTrainerId());
         assertEquals("CROSSFIT", result.getType());
 
-        verify(trainingDao).save(any(Training.class));
+        verify(trainingDao).saveIfNoConflict(any(Training.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a training that overlaps another booking")
+    void shouldRejectOverlappingTraining() {
+        CreateTrainingRequest request = new CreateTrainingRequest("trainee-1", "trainer-1", "2025-01-01T10:00", "YOGA", 60);
+        when(trainingDao.saveIfNoConflict(any(Training.class))).thenReturn(List.of("7"));
+
+        ScheduleConflictException exception = assertThrows(ScheduleConflictException.class,
+                () -> trainingService.createTraining(request));
+
+        assertTrue(exception.getMessage().contains("7"));
+    }
+
+    @Test
+    @DisplayName("Should reject an unparsable training date")
+    void shouldRejectInvalidDate() {
+        CreateTrainingRequest request = new CreateTrainingRequest("trainee-1", "trainer-1", "01/01/2025", "YOGA", 60);
+
+        ApiException exception = assertThrows(ApiException.class, () -> trainingService.createTraining(request));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verify(trainingDao, never()).saveIfNoConflict(any(Training.class));
+    }
+
+    @Test
+    @DisplayName("Should reject bulk items with an unknown training type")
+    void shouldRejectUnknownTypeInBulk() {
+        CreateTrainingRequest valid = new CreateTrainingRequest("trainee-1", "trainer-1", "2025-01-01", "yoga", 60);
+        CreateTrainingRequest unknown = new CreateTrainingRequest("trainee-1", "trainer-1", "2025-01-01", "polo", 60);
+
+        when(trainingDao.saveAllIfNoConflict(anyList())).thenReturn(List.of(List.of()));
+
+        BatchResultDto<TrainingDto> result = trainingService.createTrainings(List.of(valid, unknown));
+
+        assertEquals(1, result.getCreated());
+        assertEquals("YOGA", result.getResults().get(0).getItem().getType());
+        assertEquals("Unknown training type: polo", result.getResults().get(1).getErrors().get("type"));
+        verify(trainingDao).saveAllIfNoConflict(argThat(trainings -> trainings.size() == 1));
     }
 
     @Test
     @DisplayName("Should return training DTO by ID")
     void shouldReturnTrainingById() {
-        Training training = new Training("trainee-1", "trainer-1", "2025-01-01", TrainingType.BOXING, 45);
+        Training training = new Training("trainee-1", "trainer-1", TrainingTimes.startMinute("2025-01-01"), TrainingType.BOXING, 45);
         training.setId("10");
 
-        User trainee = new User("ali", "trainee", Collections.emptyList());
-        trainee.setId("trainee-1");
-
-        User trainer = new User("veli", "trainer", Collections.emptyList());
-        trainer.setId("trainer-1");
-
-        when(trainingDao.findById("10")).thenReturn(training);
-        when(userDao.findById("trainee-1")).thenReturn(trainee);
-        when(userDao.findById("trainer-1")).thenReturn(trainer);
+        when(trainingDao.findViewById("10")).thenReturn(DtoMapper.toTrainingDto(training));
 
         TrainingDto result = trainingService.getTraining("10");
 
@@ -97,19 +119,17 @@ public class TrainingServiceImplTest {
     @Test
     @DisplayName("Should throw GymGymNotFoundException when training ID not found")
     void shouldThrowIfTrainingNotFound() {
-        when(trainingDao.findById("99")).thenReturn(null);
+        when(trainingDao.findViewById("99")).thenReturn(null);
         assertThrows(GymNotFoundException.class, () -> trainingService.getTraining("99"));
     }
 
     @Test
     @DisplayName("Should return list of all trainings")
     void shouldReturnAllTrainings() {
-        Training training = new Training("trainee-1", "trainer-1", "2025-01-01", TrainingType.YOGA, 30);
+        Training training = new Training("trainee-1", "trainer-1", TrainingTimes.startMinute("2025-01-01"), TrainingType.YOGA, 30);
         training.setId("1");
 
-        when(trainingDao.findAll()).thenReturn(List.of(training));
-        when(userDao.findById("trainee-1")).thenReturn(new User("ali", "trainee", Collections.emptyList()));
-        when(userDao.findById("trainer-1")).thenReturn(new User("veli", "trainer", Collections.emptyList()));
+        when(trainingDao.findAllViews()).thenReturn(List.of(DtoMapper.toTrainingDto(training)));
 
         List<TrainingDto> result = trainingService.getAllTrainings();
 
@@ -118,38 +138,111 @@ public class TrainingServiceImplTest {
         assertEquals("YOGA", result.get(0).getType());
     }
 
+    @Test
+    @DisplayName("Should search trainings through the DAO indexes")
+    void shouldSearchTrainings() {
+        Training training = new Training("trainee-1", "trainer-1", TrainingTimes.startMinute("2025-01-01"), TrainingType.YOGA, 30);
+        training.setId("1");
+
+        when(trainingDao.findByCriteria("trainee-1", null, null, null, TrainingType.YOGA)).thenReturn(List.of(training));
+
+        List<TrainingDto> result = trainingService.searchTrainings("trainee-1", null, null, "yoga");
+
+        assertEquals(1, result.size());
+        assertEquals("1", result.get(0).getId());
+        assertEquals("2025-01-01T00:00", result.get(0).getDate());
+        verify(trainingDao, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should search a date as its whole day and a date-time as its minute")
+    void shouldSearchByDatePeriod() {
+        long day = TrainingTimes.startMinute("2025-01-01");
+
+        trainingService.searchTrainings(null, null, "2025-01-01", null);
+        trainingService.searchTrainings(null, null, "2025-01-01T10:30", null);
+
+        verify(trainingDao).findByCriteria(null, null, day, day + 24 * 60, null);
+        verify(trainingDao).findByCriteria(null, null, day + 630, day + 631, null);
+        assertThrows(ApiException.class, () -> trainingService.searchTrainings(null, null, "01/01/2025", null));
+    }
+
+    @Test
+    @DisplayName("Should reject a search for an unknown training type with 400")
+    void shouldRejectUnknownSearchType() {
+        ApiException exception = assertThrows(ApiException.class,
+                () -> trainingService.searchTrainings(null, null, null, "karate"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verifyNoInteractions(trainingDao);
+    }
+
+    @Test
+    @DisplayName("Should read a start range from the date index and reject an empty one")
+    void shouldReturnTrainingsInRange() {
+        long from = TrainingTimes.startMinute("2025-01-01");
+        long to = TrainingTimes.startMinute("2025-01-08T12:00");
+        when(trainingDao.findViewsByStartBetween(from, to)).thenReturn(List.of(new TrainingDto()));
+
+        assertEquals(1, trainingService.getTrainingsInRange("2025-01-01", "2025-01-08T12:00").size());
+        assertThrows(ApiException.class, () -> trainingService.getTrainingsInRange("2025-01-08", "2025-01-01"));
+        assertThrows(ApiException.class, () -> trainingService.getTrainingsInRange("yesterday", "2025-01-01"));
+    }
+
+    @Test
+    @DisplayName("Should return monthly trainer minutes from the aggregate")
+    void shouldReturnTrainerMinutes() {
+        when(trainingDao.sumTrainerMinutes("7", YearMonth.of(2025, 3))).thenReturn(240L);
+
+        TrainerMinutesDto result = trainingService.getTrainerMinutes("7", "2025-03");
+
+        assertEquals("2025-03", result.getMonth());
+        assertEquals(240, result.getMinutes());
+        assertThrows(ApiException.class, () -> trainingService.getTrainerMinutes("7", "March"));
+    }
+
     @Test
     @DisplayName("Should update training and call save")
     void shouldCallUpdateTraining() {
         String trainingId = "1";
         CreateTrainingRequest request = new CreateTrainingRequest("trainee-new", "trainer-new", "2025-05-01", "CROSSFIT", 75);
-        Training existing = new Training("trainee-old", "trainer-old", "2024-01-01", TrainingType.YOGA, 45);
+        Training existing = new Training("trainee-old", "trainer-old", TrainingTimes.startMinute("2024-01-01"), TrainingType.YOGA, 45);
         existing.setId(trainingId);
 
-        User trainee = new User("ali", "trainee", Collections.emptyList());
-        trainee.setId("trainee-new");
-
-        User trainer = new User("veli", "trainer", Collections.emptyList());
-        trainer.setId("trainer-new");
-
         when(trainingDao.findById(trainingId)).thenReturn(existing);
-        when(trainingDao.save(existing)).thenReturn(existing);
-        when(userDao.findById("trainee-new")).thenReturn(trainee);
-        when(userDao.findById("trainer-new")).thenReturn(trainer);
+        when(trainingDao.saveIfVersion(any(Training.class), eq(0L))).thenReturn(List.of());
 
-        TrainingDto result = trainingService.updateTraining(trainingId, request);
+        TrainingDto result = trainingService.updateTraining(trainingId, request, 0L);
 
+        assertEquals(trainingId, result.getId());
         assertEquals("CROSSFIT", result.getType());
         assertEquals(75, result.getDurationMinutes());
         assertEquals("trainee-new", result.getTraineeId());
+        assertEquals("trainee-old", existing.getTraineeId());
 
-        verify(trainingDao).save(existing);
+        verify(trainingDao).saveIfVersion(argThat(training -> trainingId.equals(training.getId())), eq(0L));
+    }
+
+    @Test
+    @DisplayName("Should reject a training update that lost the race with another write")
+    void shouldRejectConcurrentlyModifiedTraining() {
+        Training existing = new Training("trainee", "trainer", TrainingTimes.startMinute("2024-01-01"), TrainingType.YOGA, 45);
+        existing.setId("1");
+        existing.setVersion(7);
+        CreateTrainingRequest request = new CreateTrainingRequest("trainee", "trainer", "2025-05-01", "YOGA", 45);
+
+        when(trainingDao.findById("1")).thenReturn(existing);
+        when(trainingDao.saveIfVersion(any(Training.class), eq(7L))).thenReturn(null);
+
+        assertThrows(StaleVersionException.class, () -> trainingService.updateTraining("1", request, 7L));
+        assertThrows(StaleVersionException.class, () -> trainingService.updateTraining("1", request, 6L));
+        verify(trainingDao, times(1)).saveIfVersion(any(Training.class), anyLong());
     }
 
     @Test
     @DisplayName("Should delete training when exists")
     void shouldDeleteTraining() {
-        Training training = new Training("trainee", "trainer", "2025-01-01", TrainingType.YOGA, 50);
+        Training training = new Training("trainee", "trainer", TrainingTimes.startMinute("2025-01-01"), TrainingType.YOGA, 50);
         training.setId("5");
 
         when(trainingDao.findById("5")).thenReturn(training);
@@ -0,0 +1,164 @@
+package com.epam.springcore.storage;
+
+import com.epam.springcore.storage.engine.ConcurrentStorageEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for EntityStorage writes, listeners and paging")
+class EntityStorageTest {
+
+    private TestStorage storage;
+    private List<String> events;
+
+    @BeforeEach
+    void setUp() {
+        storage = new TestStorage();
+        events = Collections.synchronizedList(new ArrayList<>());
+        storage.addListener(new RecordingListener("first"));
+        storage.addListener(new RecordingListener("second"));
+    }
+
+    @Test
+    @DisplayName("Should notify listeners in registration order, after-write callbacks last")
+    void shouldNotifyListenersInOrder() {
+        storage.put("1", "a");
+        storage.remove("1");
+
+        assertThat(events).containsExactly(
+                "first put 1=a", "second put 1=a", "first after", "second after",
+                "first remove 1=a", "second remove 1=a", "first after", "second after");
+    }
+
+    @Test
+    @DisplayName("Should report concurrent writes to a key in the order they were applied")
+    void shouldSerializeListenerCallsPerKey() throws Exception {
+        List<String> lastPut = new ArrayList<>(List.of(""));
+        storage.addListener(new StorageListener<>() {
+            @Override
+            public void onPut(String id, String value) {
+                lastPut.set(0, value);
+            }
+
+            @Override
+            public void onRemove(String id, String removed) {
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = IntStream.range(0, 8)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        for (int n = 0; n < 1000; n++) {
+                            storage.put("1", i + ":" + n);
+                        }
+                    }))
+                    .toList();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(lastPut.get(0)).isEqualTo(storage.get("1"));
+    }
+
+    @Test
+    @DisplayName("Should replace a value only when one is stored and the predicate accepts it")
+    void shouldReplaceOnlyWhenExpected() {
+        assertThat(storage.replaceIf("1", current -> true, "a")).isFalse();
+        assertThat(storage.contains("1")).isFalse();
+
+        storage.put("1", "a");
+        events.clear();
+        assertThat(storage.replaceIf("1", "b"::equals, "c")).isFalse();
+        assertThat(storage.get("1")).isEqualTo("a");
+        assertThat(events).containsExactly("first after", "second after");
+
+        assertThat(storage.replaceIf("1", "a"::equals, "c")).isTrue();
+        assertThat(storage.get("1")).isEqualTo("c");
+        assertThat(events).contains("first put 1=c", "second put 1=c");
+    }
+
+    @Test
+    @DisplayName("Should treat a null compute result as a removal")
+    void shouldComputeAndRemove() {
+        assertThat(storage.compute("1", (id, current) -> null)).isNull();
+        assertThat(events).containsExactly("first after", "second after");
+
+        assertThat(storage.compute("1", (id, current) -> current == null ? "a" : current + "a")).isEqualTo("a");
+        assertThat(storage.compute("1", (id, current) -> current == null ? "a" : current + "a")).isEqualTo("aa");
+        assertThat(storage.compute("1", (id, current) -> null)).isNull();
+
+        assertThat(storage.contains("1")).isFalse();
+        assertThat(events).contains("first put 1=a", "first put 1=aa", "first remove 1=aa");
+    }
+
+    @Test
+    @DisplayName("Should keep the existing value on putIfAbsent without notifying a put")
+    void shouldPutOnlyIfAbsent() {
+        assertThat(storage.putIfAbsent("1", "a")).isNull();
+        events.clear();
+
+        assertThat(storage.putIfAbsent("1", "b")).isEqualTo("a");
+        assertThat(storage.get("1")).isEqualTo("a");
+        assertThat(events).containsExactly("first after", "second after");
+        assertThat(storage.remove("2")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should page ids in numeric order and skip removed values")
+    void shouldPageInIdOrder() {
+        for (int i = 12; i >= 1; i--) {
+            storage.put(String.valueOf(i), "v" + i);
+        }
+        storage.remove("3");
+
+        assertThat(storage.pageIds(null, 5)).containsExactly("1", "2", "4", "5", "6");
+        assertThat(storage.pageIds("9", 5)).containsExactly("10", "11", "12");
+        assertThat(storage.pageIds("12", 5)).isEmpty();
+        assertThat(storage.page("2", 3)).containsExactly("v4", "v5", "v6");
+        assertThat(storage.size()).isEqualTo(11);
+    }
+
+    private static class TestStorage extends EntityStorage<String> {
+
+        private TestStorage() {
+            super(new ConcurrentStorageEngine<>());
+        }
+    }
+
+    private class RecordingListener implements StorageListener<String> {
+
+        private final String name;
+
+        private RecordingListener(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void onPut(String id, String value) {
+            events.add(name + " put " + id + "=" + value);
+        }
+
+        @Override
+        public void onRemove(String id, String removed) {
+            events.add(name + " remove " + id + "=" + removed);
+        }
+
+        @Override
+        public void afterWrite() {
+            events.add(name + " after");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.epam.springcore.storage;
+
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.util.TrainingTimes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for TrainingStorage bookings")
+class TrainingStorageTest {
+
+    private static Training training(String id, String traineeId, String trainerId, String date) {
+        Training training = new Training(traineeId, trainerId, TrainingTimes.startMinute(date), TrainingType.YOGA, 60);
+        training.setId(id);
+        return training;
+    }
+
+    private static List<String> book(TrainingStorage storage, Training training) {
+        long start = training.getStartMinute();
+        return storage.putIfNoConflict(training, start, start + training.getDurationMinutes(), () -> "new");
+    }
+
+    @Test
+    @DisplayName("Should wait for durability after releasing the booking locks")
+    void shouldNotHoldBookingLocksWhileCommitting() throws Exception {
+        TrainingStorage storage = new TrainingStorage();
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        // stands in for the WAL listener waiting for a group commit of the first booking
+        storage.addListener(new StorageListener<>() {
+            @Override
+            public void onPut(String id, Training value) {
+            }
+
+            @Override
+            public void onRemove(String id, Training removed) {
+            }
+
+            @Override
+            public void afterWrite() {
+                if (committing.getCount() > 0) {
+                    committing.countDown();
+                    try {
+                        committed.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<String>> first = executor.submit(() -> book(storage, training("1", "t1", "r1", "2025-01-01T10:00")));
+            assertThat(committing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // same trainer and trainee, so the same lock stripes
+            assertThat(book(storage, training("2", "t1", "r1", "2025-01-01T10:30"))).containsExactly("1");
+            assertThat(book(storage, training("3", "t1", "r1", "2025-01-01T12:00"))).isEmpty();
+            assertThat(first.isDone()).isFalse();
+
+            committed.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+        } finally {
+            committed.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.epam.springcore.storage;
+
+import com.epam.springcore.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for UserStorage username registry and search")
+class UserStorageTest {
+
+    private UserStorage userStorage;
+
+    @BeforeEach
+    void setUp() {
+        userStorage = new UserStorage();
+    }
+
+    @Test
+    @DisplayName("Should append a numeric suffix for repeated names, ignoring case")
+    void shouldAllocateSuffixedUsernames() {
+        assertThat(userStorage.allocateUsername("John.Smith")).isEqualTo("John.Smith");
+        assertThat(userStorage.allocateUsername("john.smith")).isEqualTo("john.smith1");
+        assertThat(userStorage.allocateUsername("John.Smith")).isEqualTo("John.Smith2");
+    }
+
+    @Test
+    @DisplayName("Should skip names already claimed by a saved user")
+    void shouldSkipSavedUsernames() {
+        User user = new User("John", "Smith1", "John.Smith1");
+        user.setId("1");
+        userStorage.put(user.getId(), user);
+
+        assertThat(userStorage.allocateUsername("John.Smith")).isEqualTo("John.Smith");
+        assertThat(userStorage.allocateUsername("John.Smith")).isEqualTo("John.Smith2");
+    }
+
+    @Test
+    @DisplayName("Should free the old username when a user is renamed or deleted")
+    void shouldFreeUsernamesOnRenameAndDelete() {
+        User user = new User("Ali", "Kaya", "Ali.Kaya");
+        user.setId("1");
+        userStorage.put(user.getId(), user);
+
+        user.setUsername("Ali.Demir");
+        userStorage.put(user.getId(), user);
+        assertThat(userStorage.isUsernameTaken("Ali.Kaya")).isFalse();
+        assertThat(userStorage.isUsernameTaken("ali.demir")).isTrue();
+
+        userStorage.remove(user.getId());
+        assertThat(userStorage.isUsernameTaken("Ali.Demir")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should never hand out the same username to concurrent callers")
+    void shouldAllocateUniqueUsernamesConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = IntStream.range(0, 2000)
+                    .mapToObj(i -> executor.submit(() -> userStorage.allocateUsername("Jane.Doe")))
+                    .toList();
+            Set<String> usernames = ConcurrentHashMap.newKeySet();
+            for (Future<String> future : futures) {
+                usernames.add(future.get());
+            }
+            assertThat(usernames).hasSize(2000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void save(String id, String firstName, String lastName, String username) {
+        User user = new User(firstName, lastName, username);
+        user.setId(id);
+        userStorage.put(id, user);
+    }
+
+    @Test
+    @DisplayName("Should find users by name and username prefix, exact names first")
+    void shouldSearchByPrefix() {
+        save("1", "Ali", "Kaya", "Ali.Kaya");
+        save("2", "Alihan", "Demir", "Alihan.Demir");
+        save("3", "Veli", "Alkan", "Veli.Alkan");
+        save("4", "Ayse", "Yilmaz", "Ayse.Yilmaz");
+
+        assertThat(userStorage.searchIds("ali", 10, id -> true)).containsExactly("1", "2");
+        assertThat(userStorage.searchIds("AL", 10, id -> true)).containsExactly("1", "2", "3");
+        assertThat(userStorage.searchIds("al", 2, id -> true)).hasSize(2);
+        assertThat(userStorage.searchIds("veli.al", 10, id -> true)).containsExactly("3");
+        assertThat(userStorage.searchIds("kaya ali", 10, id -> true)).containsExactly("1");
+        assertThat(userStorage.searchIds("al", 10, id -> !id.equals("1"))).containsExactly("2", "3");
+    }
+
+    @Test
+    @DisplayName("Should fall back to similar names for misspelled queries")
+    void shouldSearchBySimilarNames() {
+        save("1", "Mehmet", "Kaya", "Mehmet.Kaya");
+        save("2", "Ahmet", "Demir", "Ahmet.Demir");
+        save("3", "Zeynep", "Ak", "Zeynep.Ak");
+
+        assertThat(userStorage.searchIds("mehmte", 10, id -> true)).first().isEqualTo("1");
+        assertThat(userStorage.searchIds("zeynap", 10, id -> true)).containsExactly("3");
+        assertThat(userStorage.searchIds("qqq", 10, id -> true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count a trigram repeated in the query only once")
+    void shouldIgnoreRepeatedQueryTrigrams() {
+        save("1", "Xnanx", "Ozturk", "Xnanx.Ozturk");
+
+        // shares only "nan" with the query, which repeats it five times
+        assertThat(userStorage.searchIds("nananananana", 10, id -> true)).isEmpty();
+        assertThat(userStorage.searchIds("xnan", 10, id -> true)).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Should follow renames and deletes in the search index")
+    void shouldReindexSearchTermsOnChange() {
+        save("1", "Ali", "Kaya", "Ali.Kaya");
+        save("1", "Veli", "Kaya", "Veli.Kaya");
+
+        assertThat(userStorage.searchIds("ali", 10, id -> true)).isEmpty();
+        assertThat(userStorage.searchIds("veli", 10, id -> true)).containsExactly("1");
+
+        userStorage.remove("1");
+        assertThat(userStorage.searchIds("kaya", 10, id -> true)).isEmpty();
+    }
+}
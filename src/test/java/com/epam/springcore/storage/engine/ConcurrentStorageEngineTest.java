@@ -0,0 +1,71 @@
+package com.epam.springcore.storage.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit Tests for ConcurrentStorageEngine")
+class ConcurrentStorageEngineTest {
+
+    private ConcurrentStorageEngine<String, Integer> engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ConcurrentStorageEngine<>(16);
+    }
+
+    @Test
+    @DisplayName("Should store, replace and remove mappings through compute")
+    void shouldApplyComputeResults() {
+        assertThat(engine.compute("a", (key, current) -> current == null ? 1 : current + 1)).isEqualTo(1);
+        assertThat(engine.compute("a", (key, current) -> current == null ? 1 : current + 1)).isEqualTo(2);
+        assertThat(engine.get("a")).isEqualTo(2);
+        assertThat(engine.size()).isEqualTo(1);
+
+        assertThat(engine.compute("a", (key, current) -> null)).isNull();
+        assertThat(engine.get("a")).isNull();
+        assertThat(engine.compute("b", (key, current) -> null)).isNull();
+        assertThat(engine.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expose the values as a read-only view")
+    void shouldExposeReadOnlyValues() {
+        engine.compute("a", (key, current) -> 1);
+        engine.compute("b", (key, current) -> 2);
+
+        assertThat(engine.values()).containsExactlyInAnyOrder(1, 2);
+        assertThatThrownBy(() -> engine.values().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should apply concurrent computes on one key atomically")
+    void shouldComputeAtomically() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = IntStream.range(0, 8)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        for (int n = 0; n < 10_000; n++) {
+                            engine.compute("counter", (key, current) -> current == null ? 1 : current + 1);
+                        }
+                    }))
+                    .toList();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(engine.get("counter")).isEqualTo(80_000);
+    }
+}
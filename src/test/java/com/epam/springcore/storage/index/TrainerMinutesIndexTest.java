@@ -0,0 +1,79 @@
+package com.epam.springcore.storage.index;
+
+import com.epam.springcore.model.Training;
+import com.epam.springcore.model.enums.TrainingType;
+import com.epam.springcore.util.TrainingTimes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for TrainerMinutesIndex")
+class TrainerMinutesIndexTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+
+    private final TrainerMinutesIndex index = new TrainerMinutesIndex();
+
+    private static Training training(String trainerId, String date, int minutes) {
+        return new Training("t1", trainerId, TrainingTimes.startMinute(date), TrainingType.YOGA, minutes);
+    }
+
+    @Test
+    @DisplayName("Should drop trainer-months whose total falls back to zero")
+    void shouldDropEmptyTotals() {
+        index.onPut("1", training("r1", "2025-01-03", 60));
+        index.onPut("2", training("r1", "2025-01-04", 30));
+        index.onPut("3", training("r2", "2025-01-04", 45));
+        assertThat(index.size()).isEqualTo(2);
+
+        // moving to another month empties January
+        index.onPut("1", training("r1", "2025-02-03", 60));
+        index.onRemove("2", training("r1", "2025-01-04", 30));
+        index.onRemove("3", training("r2", "2025-01-04", 45));
+
+        assertThat(index.minutes("r1", JANUARY)).isZero();
+        assertThat(index.minutes("r1", YearMonth.of(2025, 2))).isEqualTo(60);
+        assertThat(index.size()).isEqualTo(1);
+
+        index.onRemove("1", training("r1", "2025-02-03", 60));
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not lose minutes added while a total is dropped")
+    void shouldKeepConcurrentUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        String id = thread + "-" + i;
+                        Training training = training("r1", "2025-01-10", 30);
+                        index.onPut(id, training);
+                        if (i % 100 != 0) {
+                            index.onRemove(id, training);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(index.minutes("r1", JANUARY)).isEqualTo(8 * 50 * 30);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
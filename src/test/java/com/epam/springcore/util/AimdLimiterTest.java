@@ -0,0 +1,55 @@
+package com.epam.springcore.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for AimdLimiter")
+class AimdLimiterTest {
+
+    private static final long TARGET = 100;
+
+    @Test
+    @DisplayName("Should admit up to the limit and grow it while fast requests keep it busy")
+    void shouldGrowWhileBusyAndFast() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 3, TARGET, 0.5);
+        long start = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(start, start + 10, false);
+        assertThat(limiter.limit()).isEqualTo(3);
+        limiter.release(start, start + 10, false);
+        // one request in flight out of three is not enough load to justify a higher limit
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(start, start + 10, false);
+        assertThat(limiter.limit()).isEqualTo(3);
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cut the limit once per round of slow or overloaded requests, not below the minimum")
+    void shouldBackOffOncePerRound() {
+        AimdLimiter limiter = new AimdLimiter(8, 2, 8, TARGET, 0.5);
+        long start = System.nanoTime() + 1;
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire();
+        }
+
+        limiter.release(start, start + 2 * TARGET, false);
+        limiter.release(start, start + 2 * TARGET, false);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        long nextRound = start + 3 * TARGET;
+        limiter.release(nextRound, nextRound + 10, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        long lastRound = nextRound + 2 * TARGET;
+        limiter.release(lastRound, lastRound + 2 * TARGET, false);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,95 @@
+package com.epam.springcore.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for IdGenerator")
+class IdGeneratorTest {
+
+    @Test
+    @DisplayName("Should start at 1 and count up within a thread")
+    void shouldGenerateSequentialIdsInOneThread() {
+        IdGenerator idGenerator = new IdGenerator(10, "");
+
+        assertThat(idGenerator.nextId(IdGenerator.Sequence.USER)).isEqualTo("1");
+        assertThat(idGenerator.nextId(IdGenerator.Sequence.USER)).isEqualTo("2");
+        assertThat(idGenerator.nextId(IdGenerator.Sequence.TRAINING)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Should generate unique ids across threads")
+    void shouldGenerateUniqueIdsConcurrently() throws Exception {
+        IdGenerator idGenerator = new IdGenerator(16, "");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            IntStream.range(0, 8).forEach(t -> futures.add(executor.submit(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    ids.add(idGenerator.nextId(IdGenerator.Sequence.USER));
+                }
+            })));
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertThat(ids).hasSize(40000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should share blocks between short-lived threads instead of reserving one per thread")
+    void shouldNotReserveBlockPerThread() throws Exception {
+        IdGenerator idGenerator = new IdGenerator(100, "");
+        int threads = 2000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < threads; i++) {
+            Thread thread = new Thread(() -> ids.add(idGenerator.nextId(IdGenerator.Sequence.USER)));
+            thread.start();
+            thread.join();
+        }
+
+        long highWater = idGenerator.reserveRange(IdGenerator.Sequence.USER, 1);
+        assertThat(ids).hasSize(threads);
+        // each block is reserved once, not once per thread (which would be threads * 100)
+        assertThat(highWater).isLessThanOrEqualTo(1 + threads + IdGenerator.STRIPES * 100L);
+    }
+
+    @Test
+    @DisplayName("Should never generate an id that was observed from explicit data")
+    void shouldSkipObservedIds() {
+        IdGenerator idGenerator = new IdGenerator(100, "");
+        assertThat(idGenerator.nextId(IdGenerator.Sequence.USER)).isEqualTo("1");
+
+        idGenerator.observe(IdGenerator.Sequence.USER, "5");
+        idGenerator.observe(IdGenerator.Sequence.USER, "trainee-1");
+
+        assertThat(Long.parseLong(idGenerator.nextId(IdGenerator.Sequence.USER))).isGreaterThan(5);
+    }
+
+    @Test
+    @DisplayName("Should continue after the persisted high-water mark on restart")
+    void shouldResumeFromStateFile(@TempDir Path dir) {
+        String stateFile = dir.resolve("ids.properties").toString();
+        IdGenerator first = new IdGenerator(50, stateFile);
+        first.nextId(IdGenerator.Sequence.TRAINING);
+
+        IdGenerator restarted = new IdGenerator(50, stateFile);
+
+        assertThat(Long.parseLong(restarted.nextId(IdGenerator.Sequence.TRAINING))).isEqualTo(51);
+    }
+}
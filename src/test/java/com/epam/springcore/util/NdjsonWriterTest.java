@@ -0,0 +1,49 @@
+package com.epam.springcore.util;
+
+import com.epam.springcore.dto.TrainingDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for NdjsonWriter")
+class NdjsonWriterTest {
+
+    private final NdjsonWriter ndjsonWriter = new NdjsonWriter(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    @DisplayName("Should write one JSON object per line and close the source stream")
+    void shouldWriteOneObjectPerLine() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<TrainingDto> items = Stream.of(
+                        new TrainingDto("1", "10", "20", "2025-01-01", "YOGA", 60),
+                        new TrainingDto("2", "11", "20", "2025-01-02", "CARDIO", 30))
+                .onClose(() -> closed.set(true));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = ndjsonWriter.write(items, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":\"1\"");
+        assertThat(lines[1]).contains("\"type\":\"CARDIO\"");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write nothing for an empty stream")
+    void shouldWriteNothingForEmptyStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(ndjsonWriter.write(Stream.empty(), out)).isZero();
+        assertThat(out.size()).isZero();
+    }
+}
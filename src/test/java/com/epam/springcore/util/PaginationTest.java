@@ -0,0 +1,42 @@
+package com.epam.springcore.util;
+
+import com.epam.springcore.dto.PageDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for Pagination")
+class PaginationTest {
+
+    private final Map<String, String> views = Map.of("1", "one", "3", "three", "4", "four");
+
+    @Test
+    @DisplayName("Should keep the cursor of a full page of ids when an id in the middle has no view")
+    void shouldContinueAfterIdsWithoutView() {
+        PageDto<String> page = Pagination.of(List.of("1", "2", "3"), 3, views::get);
+
+        assertThat(page.getItems()).containsExactly("one", "three");
+        assertThat(page.getNextCursor()).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("Should end on a short page of ids")
+    void shouldEndOnShortPage() {
+        PageDto<String> page = Pagination.of(List.of("4"), 3, views::get);
+
+        assertThat(page.getItems()).containsExactly("four");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should normalize requested page sizes")
+    void shouldNormalizeLimit() {
+        assertThat(Pagination.limit(0)).isEqualTo(50);
+        assertThat(Pagination.limit(10)).isEqualTo(10);
+        assertThat(Pagination.limit(5000)).isEqualTo(1000);
+    }
+}
@@ -0,0 +1,105 @@
+package com.epam.springcore.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for AdmissionControlFilter")
+class AdmissionControlFilterTest {
+
+    private static final String ENDPOINT = "/api/epam/v1/trainer/**";
+    private static final FilterChain OK = (request, response) -> response.getWriter().write("ok");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private AdmissionControlFilter filter(int limit, double clientRate, int clientBurst) {
+        return new AdmissionControlFilter(objectMapper, true, new String[]{ENDPOINT},
+                limit, limit, limit, 60_000, 0.9, clientRate, clientBurst, 100);
+    }
+
+    private static MockHttpServletRequest request(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/epam/v1/trainer/7");
+        request.setRemoteAddr(client);
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private static MockHttpServletResponse send(AdmissionControlFilter filter, MockHttpServletRequest request,
+                                                FilterChain chain) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a client exceeds its rate")
+    void shouldThrottleClientsOverTheirRate() throws Exception {
+        AdmissionControlFilter filter = filter(10, 0.5, 2);
+
+        assertThat(send(filter, request("10.0.0.1"), OK).getContentAsString()).isEqualTo("ok");
+        assertThat(send(filter, request("10.0.0.1"), OK).getContentAsString()).isEqualTo("ok");
+        MockHttpServletResponse throttled = send(filter, request("10.0.0.1"), OK);
+        MockHttpServletResponse otherClient = send(filter, request("10.0.0.2"), OK);
+
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(throttled.getHeader("Retry-After"))).isBetween(1L, 2L);
+        assertThat(throttled.getContentAsString()).contains("\"statusCode\":429");
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+        assertThat(filter.throttledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After while the endpoint is at its concurrency limit")
+    void shouldShedRequestsOverTheLimit() throws Exception {
+        AdmissionControlFilter filter = filter(1, 0, 0);
+        AtomicReference<MockHttpServletResponse> shed = new AtomicReference<>();
+        // the first request still holds the only slot when the second one arrives
+        FilterChain first = (request, response) -> shed.set(send(filter, request("10.0.0.2"), OK));
+
+        MockHttpServletResponse admitted = send(filter, request("10.0.0.1"), first);
+        MockHttpServletResponse later = send(filter, request("10.0.0.2"), OK);
+
+        assertThat(admitted.getStatus()).isEqualTo(200);
+        assertThat(shed.get().getStatus()).isEqualTo(503);
+        assertThat(shed.get().getHeader("Retry-After")).isEqualTo("1");
+        assertThat(later.getStatus()).isEqualTo(200);
+        AdmissionStats stats = filter.stats().get(ENDPOINT);
+        assertThat(stats.acceptedCount()).isEqualTo(2);
+        assertThat(stats.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold the slot of an asynchronous request until it completes")
+    void shouldReleaseAsyncRequestsOnCompletion() throws Exception {
+        AdmissionControlFilter filter = filter(1, 0, 0);
+        MockHttpServletRequest async = request("10.0.0.1");
+
+        send(filter, async, (request, response) -> request.startAsync());
+        assertThat(send(filter, request("10.0.0.2"), OK).getStatus()).isEqualTo(503);
+
+        async.getAsyncContext().complete();
+        assertThat(send(filter, request("10.0.0.2"), OK).getStatus()).isEqualTo(200);
+        assertThat(filter.stats().get(ENDPOINT).inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not limit paths outside the configured endpoints")
+    void shouldIgnoreOtherPaths() throws Exception {
+        AdmissionControlFilter filter = filter(1, 0.5, 1);
+        MockHttpServletRequest other = new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(send(filter, other, OK).getStatus()).isEqualTo(200);
+        }
+    }
+}
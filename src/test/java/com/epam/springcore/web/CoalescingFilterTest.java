@@ -0,0 +1,160 @@
+package com.epam.springcore.web;
+
+import com.epam.springcore.controller.TrainerController;
+import com.epam.springcore.dto.TrainerDto;
+import com.epam.springcore.service.ITrainerService;
+import com.epam.springcore.util.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("Unit Tests for CoalescingFilter")
+class CoalescingFilterTest {
+
+    private static final String TRAINER_URL = "/api/epam/v1/trainer/7";
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    private CoalescingFilter filter(String... patterns) {
+        return new CoalescingFilter(true, patterns, 5000);
+    }
+
+    private FilterChain handler(CountDownLatch arrived) {
+        return (request, response) -> {
+            handled.incrementAndGet();
+            try {
+                // let every concurrent request reach the filter while this one runs
+                arrived.await(5, TimeUnit.SECONDS);
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) response).setHeader("ETag", "\"3\"");
+            response.setContentType("application/json");
+            response.getOutputStream().write("{\"id\":\"7\"}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    @DisplayName("Should run identical concurrent GETs once and share the serialized response")
+    void shouldShareResponseOfConcurrentRequests() throws Exception {
+        CoalescingFilter filter = filter("/api/epam/v1/trainer/*");
+        int clients = 8;
+        CountDownLatch arrived = new CountDownLatch(clients);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                responses.add(executor.submit(() -> {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    arrived.countDown();
+                    filter.doFilter(new MockHttpServletRequest("GET", TRAINER_URL), response, handler(arrived));
+                    return response;
+                }));
+            }
+            for (Future<MockHttpServletResponse> response : responses) {
+                MockHttpServletResponse result = response.get();
+                assertThat(result.getStatus()).isEqualTo(200);
+                assertThat(result.getContentAsString()).isEqualTo("{\"id\":\"7\"}");
+                assertThat(result.getHeader("ETag")).isEqualTo("\"3\"");
+                assertThat(result.getContentType()).isEqualTo("application/json");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CoalescingStats stats = filter.stats().get("/api/epam/v1/trainer/*");
+        assertThat(handled.get()).isLessThan(clients);
+        assertThat(stats.executionCount()).isEqualTo(handled.get());
+        assertThat(stats.executionCount() + stats.sharedCount()).isEqualTo(clients);
+        assertThat(stats.coalescingRatio()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("Should run sequential, unconfigured and non-GET requests every time")
+    void shouldNotCoalesceOtherRequests() throws Exception {
+        CoalescingFilter filter = filter("/api/epam/v1/trainer/*");
+        CountDownLatch open = new CountDownLatch(0);
+
+        filter.doFilter(new MockHttpServletRequest("GET", TRAINER_URL), new MockHttpServletResponse(), handler(open));
+        filter.doFilter(new MockHttpServletRequest("GET", TRAINER_URL), new MockHttpServletResponse(), handler(open));
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/epam/v1/training/1"), new MockHttpServletResponse(), handler(open));
+        filter.doFilter(new MockHttpServletRequest("PUT", TRAINER_URL), new MockHttpServletResponse(), handler(open));
+
+        assertThat(handled.get()).isEqualTo(4);
+        assertThat(filter.stats().get("/api/epam/v1/trainer/*").sharedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should deliver the whole body of a streaming response that went through the filter")
+    void shouldDeliverAsyncResponseBody() throws Exception {
+        CoalescingFilter filter = filter("/api/epam/v1/trainer/*");
+        MockMvc mockMvc = exportMockMvc(filter);
+
+        MvcResult result = mockMvc.perform(get("/api/epam/v1/trainer/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(result)).andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString().lines())
+                .satisfiesExactly(line -> assertThat(line).startsWith("{\"id\":\"6\",\"firstName\":\"Ann\""),
+                        line -> assertThat(line).startsWith("{\"id\":\"7\",\"firstName\":\"Bob\""));
+        assertThat(filter.stats().get("/api/epam/v1/trainer/*").sharedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave the exports alone with single-entity patterns")
+    void shouldNotMatchExportsWithIdPatterns() throws Exception {
+        CoalescingFilter filter = filter("/api/epam/v1/trainer/{id:[0-9]+}");
+        MockMvc mockMvc = exportMockMvc(filter);
+
+        MvcResult result = mockMvc.perform(get("/api/epam/v1/trainer/export")).andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(result)).andReturn().getResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", TRAINER_URL), new MockHttpServletResponse(),
+                handler(new CountDownLatch(0)));
+
+        assertThat(response.getContentAsString().lines()).hasSize(2);
+        assertThat(filter.stats().get("/api/epam/v1/trainer/{id:[0-9]+}").executionCount()).isEqualTo(1);
+    }
+
+    private static MockMvc exportMockMvc(CoalescingFilter filter) {
+        ITrainerService trainerService = mock(ITrainerService.class);
+        when(trainerService.streamTrainers()).thenAnswer(invocation -> Stream.of(trainer("6", "Ann"), trainer("7", "Bob")));
+        TrainerController controller = new TrainerController(trainerService);
+        controller.setNdjsonWriter(new NdjsonWriter(new ObjectMapper()));
+        return MockMvcBuilders.standaloneSetup(controller).addFilters(filter).build();
+    }
+
+    private static TrainerDto trainer(String id, String firstName) {
+        TrainerDto trainer = new TrainerDto();
+        trainer.setId(id);
+        trainer.setFirstName(firstName);
+        return trainer;
+    }
+}
@@ -0,0 +1,95 @@
+package com.epam.springcore.web;
+
+import com.epam.springcore.dto.BatchItemDto;
+import com.epam.springcore.dto.PageDto;
+import com.epam.springcore.dto.TraineeDto;
+import com.epam.springcore.dto.TrainingDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for FragmentJsonHttpMessageConverter")
+class FragmentJsonHttpMessageConverterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final FragmentJsonHttpMessageConverter converter = new FragmentJsonHttpMessageConverter(mapper, 100);
+
+    private String write(Object value) throws Exception {
+        return write(converter, value);
+    }
+
+    private static String write(FragmentJsonHttpMessageConverter converter, Object value) throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(value, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsString();
+    }
+
+    private static TraineeDto trainee(String id, String address, long version) {
+        TraineeDto dto = new TraineeDto(id, "Ali", "Kaya", LocalDate.of(2000, 1, 1), address, "Ali.Kaya");
+        dto.setVersion(version);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as Jackson for DTOs, lists and pages")
+    void shouldMatchJackson() throws Exception {
+        TraineeDto trainee = trainee("1", "Ankara", 0);
+        TrainingDto training = new TrainingDto("5", "1", "2", "2025-01-01T10:00", "YOGA", 60);
+        PageDto<TraineeDto> page = new PageDto<>(List.of(trainee, trainee("2", null, 3)), "2");
+        List<Object> mixed = List.of(training, new BatchItemDto<>(0, null, null));
+
+        for (Object value : List.of(trainee, training, List.of(trainee, trainee("2", "İzmir", 1)), page,
+                new PageDto<>(List.of(), null), mixed)) {
+            assertThat(write(value)).isEqualTo(mapper.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave the page envelope to Jackson and its settings")
+    void shouldSerializePageEnvelopeWithJackson() throws Exception {
+        ObjectMapper nonNull = new ObjectMapper().registerModule(new JavaTimeModule())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        FragmentJsonHttpMessageConverter nonNullConverter = new FragmentJsonHttpMessageConverter(nonNull, 100);
+        List<PageDto<TraineeDto>> pages = List.of(new PageDto<>(List.of(trainee("1", null, 0)), "1"),
+                new PageDto<>(List.of(trainee("2", "Ankara", 0)), null), new PageDto<>(List.of(), null));
+
+        for (PageDto<TraineeDto> page : pages) {
+            assertThat(write(nonNullConverter, page)).isEqualTo(nonNull.writeValueAsString(page));
+            assertThat(write(page)).isEqualTo(mapper.writeValueAsString(page));
+        }
+        assertThat(nonNullConverter.fragments().stats().hitCount()).isZero();
+        assertThat(write(nonNullConverter, pages.get(0))).doesNotContain("address");
+        assertThat(nonNullConverter.fragments().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serialize DTOs normally when the fragment cache is disabled")
+    void shouldWriteWithoutCache() throws Exception {
+        FragmentJsonHttpMessageConverter uncached = new FragmentJsonHttpMessageConverter(mapper, 0);
+        PageDto<TraineeDto> page = new PageDto<>(List.of(trainee("1", "Ankara", 0)), null);
+
+        assertThat(write(uncached, page)).isEqualTo(mapper.writeValueAsString(page));
+        assertThat(write(uncached, trainee("1", "Ankara", 0))).isEqualTo(mapper.writeValueAsString(trainee("1", "Ankara", 0)));
+    }
+
+    @Test
+    @DisplayName("Should reuse fragments while the version is unchanged")
+    void shouldReuseFragmentsPerVersion() throws Exception {
+        write(trainee("1", "Ankara", 0));
+        assertThat(write(List.of(trainee("1", "Ankara", 0)))).contains("Ankara");
+        assertThat(converter.fragments().stats().hitCount()).isEqualTo(1);
+
+        assertThat(write(trainee("1", "Mersin", 1))).contains("Mersin");
+        assertThat(write(trainee("1", "Mersin", 1))).contains("Mersin");
+        assertThat(converter.fragments().stats().hitCount()).isEqualTo(3);
+    }
+}
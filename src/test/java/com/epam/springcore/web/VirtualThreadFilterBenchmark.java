@@ -0,0 +1,97 @@
+package com.epam.springcore.web;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput of requests blocking on I/O for {@value #IO_MILLIS} ms, handled
+ * on a pool of {@value #CONTAINER_THREADS} container threads (Tomcat's
+ * default) versus handed to {@link VirtualThreadFilter}, as the number of
+ * concurrent clients grows. Each client sends its next request as soon as
+ * the previous one is answered.
+ *
+ * <p>Not part of the regular build; run with
+ * {@code mvn test -Dtest=VirtualThreadFilterBenchmark -Dbenchmark=true}.
+ * Before Java 21 the filter runs on a cached pool of platform threads instead.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Benchmark for VirtualThreadFilter")
+class VirtualThreadFilterBenchmark {
+
+    private static final int CONTAINER_THREADS = 200;
+    private static final int MAX_CONCURRENCY = 1000;
+    private static final long IO_MILLIS = 20;
+    private static final long RUN_MILLIS = 3000;
+    private static final int[] CLIENTS = {50, 100, 200, 400, 800, 1600};
+
+    @Test
+    @DisplayName("Throughput by number of concurrent clients")
+    void throughputByConcurrency() throws Exception {
+        boolean virtual = Runtime.version().feature() >= 21;
+        Executor bridge = virtual ? VirtualThreadFilter.virtualThreads() : Executors.newCachedThreadPool();
+        System.out.printf("%8s %14s %14s   (bridge on %s threads)%n", "clients", "blocking rps",
+                "bridged rps", virtual ? "virtual" : "platform");
+        for (int clients : CLIENTS) {
+            double blocking = run(new VirtualThreadFilter(false, MAX_CONCURRENCY, 1000), clients);
+            double bridged = run(new VirtualThreadFilter(bridge, MAX_CONCURRENCY, 1000), clients);
+            System.out.printf("%8d %14.0f %14.0f%n", clients, blocking, bridged);
+        }
+        if (bridge instanceof ExecutorService pool) {
+            pool.shutdown();
+        }
+    }
+
+    private static double run(VirtualThreadFilter filter, int clients) throws InterruptedException {
+        ExecutorService container = Executors.newFixedThreadPool(CONTAINER_THREADS);
+        LongAdder completed = new LongAdder();
+        CountDownLatch stopped = new CountDownLatch(clients);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+        try {
+            for (int i = 0; i < clients; i++) {
+                send(container, filter, completed, stopped, deadline);
+            }
+            stopped.await();
+        } finally {
+            container.shutdown();
+        }
+        return completed.sum() * 1000.0 / RUN_MILLIS;
+    }
+
+    // the handler sends the client's next request once it has answered
+    private static void send(ExecutorService container, VirtualThreadFilter filter, LongAdder completed,
+                             CountDownLatch stopped, long deadline) {
+        FilterChain handler = (request, response) -> {
+            try {
+                Thread.sleep(IO_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (System.nanoTime() < deadline) {
+                completed.increment();
+                send(container, filter, completed, stopped, deadline);
+            } else {
+                stopped.countDown();
+            }
+        };
+        container.execute(() -> {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/epam/v1/trainer/7");
+            request.setAsyncSupported(true);
+            try {
+                filter.doFilter(request, new MockHttpServletResponse(), handler);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
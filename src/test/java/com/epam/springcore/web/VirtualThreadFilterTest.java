@@ -0,0 +1,105 @@
+package com.epam.springcore.web;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for VirtualThreadFilter")
+class VirtualThreadFilterTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    // runs submitted tasks when told to, standing in for the virtual threads
+    private final Executor executor = tasks::add;
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/epam/v1/trainer/7");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    @DisplayName("Should release the container thread and complete the request on the executor")
+    void shouldRunChainOnExecutor() throws Exception {
+        VirtualThreadFilter filter = new VirtualThreadFilter(executor, 10, 0);
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Boolean> asyncSeenByHandler = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> {
+            asyncSeenByHandler.set(req.isAsyncStarted());
+            res.getWriter().write("ok");
+        });
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(response.getContentAsString()).isEmpty();
+
+        runTasks();
+        assertThat(asyncSeenByHandler.get()).isFalse();
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("Should reject requests with 503 while all slots are taken")
+    void shouldRejectWhenSaturated() throws Exception {
+        VirtualThreadFilter filter = new VirtualThreadFilter(executor, 1, 0);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        FilterChain second = (req, res) -> res.getWriter().write("second");
+        // the first request still holds the only slot when the second one runs
+        FilterChain first = (req, res) -> {
+            filter.doFilter(request(), rejected, second);
+            runTasks();
+        };
+
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(request(), accepted, first);
+        runTasks();
+
+        assertThat(accepted.getStatus()).isEqualTo(200);
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Should leave completion to handlers that start asynchronous processing")
+    void shouldHandOffAsyncContext() throws Exception {
+        VirtualThreadFilter filter = new VirtualThreadFilter(executor, 10, 0);
+        MockHttpServletRequest request = request();
+        AtomicReference<AsyncContext> handlerContext = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> handlerContext.set(req.startAsync()));
+        runTasks();
+
+        assertThat(request.isAsyncStarted()).isTrue();
+        handlerContext.get().complete();
+        assertThat(request.isAsyncStarted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should pass requests through when disabled")
+    void shouldPassThroughWhenDisabled() throws Exception {
+        VirtualThreadFilter filter = new VirtualThreadFilter(false, 10, 0);
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> res.getWriter().write("ok"));
+
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+    }
+}